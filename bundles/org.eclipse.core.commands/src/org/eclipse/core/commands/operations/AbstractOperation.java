@@ -14,6 +14,7 @@
 package org.eclipse.core.commands.operations;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.core.commands.ExecutionException;
@@ -37,8 +38,17 @@ import org.eclipse.core.runtime.IStatus;
  * @since 3.1
  */
 public abstract class AbstractOperation implements IUndoableOperation {
+	private static final OperationContextIndex[] NO_INDEXES = new OperationContextIndex[0];
+
+	private static final Object INDEX_LOCK = new Object();
+
 	List<IUndoContext> contexts = new ArrayList<>();
 
+	/**
+	 * the history indexes that have to be told about changes of the contexts
+	 */
+	private volatile OperationContextIndex[] contextIndexes = NO_INDEXES;
+
 	private String label = ""; //$NON-NLS-1$
 
 	/**
@@ -57,6 +67,7 @@ public abstract class AbstractOperation implements IUndoableOperation {
 	public void addContext(IUndoContext context) {
 		if (!contexts.contains(context)) {
 			contexts.add(context);
+			contextsChanged();
 		}
 	}
 
@@ -124,7 +135,59 @@ public abstract class AbstractOperation implements IUndoableOperation {
 
 	@Override
 	public void removeContext(IUndoContext context) {
-		contexts.remove(context);
+		if (contexts.remove(context)) {
+			contextsChanged();
+		}
+	}
+
+	/*
+	 * Register a history index that keeps track of the contexts of the
+	 * receiver.
+	 */
+	void addContextIndex(OperationContextIndex index) {
+		synchronized (INDEX_LOCK) {
+			OperationContextIndex[] indexes = contextIndexes;
+			for (OperationContextIndex existing : indexes) {
+				if (existing == index) {
+					return;
+				}
+			}
+			OperationContextIndex[] newIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+			newIndexes[indexes.length] = index;
+			contextIndexes = newIndexes;
+		}
+	}
+
+	/*
+	 * Unregister a history index that no longer contains the receiver.
+	 */
+	void removeContextIndex(OperationContextIndex index) {
+		synchronized (INDEX_LOCK) {
+			OperationContextIndex[] indexes = contextIndexes;
+			for (int i = 0; i < indexes.length; i++) {
+				if (indexes[i] == index) {
+					if (indexes.length == 1) {
+						contextIndexes = NO_INDEXES;
+					} else {
+						OperationContextIndex[] newIndexes = new OperationContextIndex[indexes.length - 1];
+						System.arraycopy(indexes, 0, newIndexes, 0, i);
+						System.arraycopy(indexes, i + 1, newIndexes, i, indexes.length - i - 1);
+						contextIndexes = newIndexes;
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/*
+	 * Tell the registered history indexes that the contexts of the receiver
+	 * have changed.
+	 */
+	void contextsChanged() {
+		for (OperationContextIndex index : contextIndexes) {
+			index.contextsChanged(this);
+		}
 	}
 
 	@Override
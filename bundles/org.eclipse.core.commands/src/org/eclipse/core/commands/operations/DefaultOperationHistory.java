@@ -19,9 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.internal.util.Tracing;
@@ -54,10 +54,14 @@ import org.eclipse.core.runtime.Status;
  * its undo contexts.
  * </p>
  * <p>
- * The data structures used by the DefaultOperationHistory are synchronized, and
- * entry points that modify the undo and redo history concurrently are also
- * synchronized. This means that the DefaultOperationHistory is relatively
- * "thread-friendly" in its implementation. Outbound notifications or operation
+ * The undo and redo history are indexed by undo context, so that querying or
+ * limiting the history of one context does not depend on the number of
+ * operations kept for other contexts. The history is guarded by a read-write
+ * lock: entry points that modify the undo and redo history are serialized,
+ * while queries such as {@link #canUndo(IUndoContext)} or
+ * {@link #getUndoHistory(IUndoContext)} may run concurrently. This means that
+ * the DefaultOperationHistory is relatively "thread-friendly" in its
+ * implementation. Outbound notifications or operation
  * approval requests will occur on the thread that initiated the request.
  * Clients may use DefaultOperationHistory API from any thread; however,
  * listeners or operation approvers that receive notifications from the
@@ -135,20 +139,20 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	ListenerList<IOperationHistoryListener> listeners = new ListenerList<>(ListenerList.IDENTITY);
 
 	/**
-	 * the list of operations available for redo, LIFO
+	 * a lock that is used to synchronize access between the undo and redo
+	 * history. Queries only need the read lock.
 	 */
-	private List<IUndoableOperation> redoList = Collections.synchronizedList(new ArrayList<>());
+	final ReadWriteLock undoRedoHistoryLock = new ReentrantReadWriteLock();
 
 	/**
-	 * the list of operations available for undo, LIFO
+	 * the operations available for redo, LIFO, indexed by context
 	 */
-	private List<IUndoableOperation> undoList = Collections.synchronizedList(new ArrayList<>());
+	private final OperationContextIndex redoList = new OperationContextIndex(undoRedoHistoryLock);
 
 	/**
-	 * a lock that is used to synchronize access between the undo and redo
-	 * history
+	 * the operations available for undo, LIFO, indexed by context
 	 */
-	final Object undoRedoHistoryLock = new Object();
+	private final OperationContextIndex undoList = new OperationContextIndex(undoRedoHistoryLock);
 
 	/**
 	 * An operation that is "absorbing" all other operations while it is open.
@@ -189,9 +193,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		}
 
 		if (checkUndoLimit(operation)) {
-			synchronized (undoRedoHistoryLock) {
-				undoList.add(operation);
-			}
+			undoList.add(operation);
 			notifyAdd(operation);
 
 			// flush redo stack for related contexts
@@ -364,13 +366,16 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		// placed back in the undo history.
 		if (status.isOK()) {
 			boolean addedToUndo = true;
-			synchronized (undoRedoHistoryLock) {
+			undoRedoHistoryLock.writeLock().lock();
+			try {
 				redoList.remove(operation);
 				if (checkUndoLimit(operation)) {
 					undoList.add(operation);
 				} else {
 					addedToUndo = false;
 				}
+			} finally {
+				undoRedoHistoryLock.writeLock().unlock();
 			}
 			// dispose the operation since we could not add it to the
 			// stack and will no longer have a reference to it.
@@ -420,13 +425,16 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		// placed in the redo history.
 		if (status.isOK()) {
 			boolean addedToRedo = true;
-			synchronized (undoRedoHistoryLock) {
+			undoRedoHistoryLock.writeLock().lock();
+			try {
 				undoList.remove(operation);
 				if (checkRedoLimit(operation)) {
 					redoList.add(operation);
 				} else {
 					addedToRedo = false;
 				}
+			} finally {
+				undoRedoHistoryLock.writeLock().unlock();
 			}
 			// dispose the operation since we could not add it to the
 			// stack and will no longer have a reference to it.
@@ -515,29 +523,15 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	}
 
 	/*
-	 * Filter the specified list to include only the specified undo context.
+	 * Filter the specified history to include only the specified undo context.
 	 */
-	private IUndoableOperation[] filter(List<IUndoableOperation> list, IUndoContext context) {
+	private IUndoableOperation[] filter(OperationContextIndex list, IUndoContext context) {
 		/*
 		 * This method is used whenever there is a need to filter the undo or
-		 * redo history on a particular context. Currently there are no caches
-		 * kept to optimize repeated requests for the same filter. If benchmarks
-		 * show this to be a common pattern that causes performances problems,
-		 * we could implement a filtered cache here that is nullified whenever
-		 * the global history changes.
+		 * redo history on a particular context. The index only visits the
+		 * operations of the contexts matching the given one.
 		 */
-
-		List<IUndoableOperation> filtered = new ArrayList<>();
-		synchronized (undoRedoHistoryLock) {
-			Iterator<IUndoableOperation> iterator = list.iterator();
-			while (iterator.hasNext()) {
-				IUndoableOperation operation = iterator.next();
-				if (operation.hasContext(context)) {
-					filtered.add(operation);
-				}
-			}
-		}
-		return filtered.toArray(new IUndoableOperation[filtered.size()]);
+		return list.filter(context);
 	}
 
 	/*
@@ -548,8 +542,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 			Tracing.printTrace(OPERATIONHISTORY, "Flushing redo history for " + context); //$NON-NLS-1$
 		}
 
-		synchronized (undoRedoHistoryLock) {
-
+		undoRedoHistoryLock.writeLock().lock();
+		try {
 			Object[] filtered = filter(redoList, context);
 			for (Object element : filtered) {
 				IUndoableOperation operation = (IUndoableOperation) element;
@@ -575,6 +569,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 					}
 				}
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 	}
 
@@ -586,8 +582,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 			Tracing.printTrace(OPERATIONHISTORY, "Flushing undo history for " + context); //$NON-NLS-1$
 		}
 
-		synchronized (undoRedoHistoryLock) {
-
+		undoRedoHistoryLock.writeLock().lock();
+		try {
 			// Get all operations that have the context (or one that matches)
 			Object[] filtered = filter(undoList, context);
 			for (Object element : filtered) {
@@ -614,6 +610,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 					}
 				}
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 		/*
 		 * There may be an open composite. If it has this context, then the
@@ -645,7 +643,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	 * items.
 	 */
 	private void forceRedoLimit(IUndoContext context, int max) {
-		synchronized (undoRedoHistoryLock) {
+		undoRedoHistoryLock.writeLock().lock();
+		try {
 			Object[] filtered = filter(redoList, context);
 			int size = filtered.length;
 			if (size > 0) {
@@ -671,6 +670,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 					index++;
 				}
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 	}
 
@@ -679,7 +680,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	 * items.
 	 */
 	private void forceUndoLimit(IUndoContext context, int max) {
-		synchronized (undoRedoHistoryLock) {
+		undoRedoHistoryLock.writeLock().lock();
+		try {
 			Object[] filtered = filter(undoList, context);
 			int size = filtered.length;
 			if (size > 0) {
@@ -705,6 +707,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 					index++;
 				}
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 	}
 
@@ -746,15 +750,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	@Override
 	public IUndoableOperation getRedoOperation(IUndoContext context) {
 		Assert.isNotNull(context);
-		synchronized (undoRedoHistoryLock) {
-			for (int i = redoList.size() - 1; i >= 0; i--) {
-				IUndoableOperation operation = redoList.get(i);
-				if (operation.hasContext(context)) {
-					return operation;
-				}
-			}
-		}
-		return null;
+		return redoList.getLatest(context);
 	}
 
 	/*
@@ -787,15 +783,7 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	@Override
 	public IUndoableOperation getUndoOperation(IUndoContext context) {
 		Assert.isNotNull(context);
-		synchronized (undoRedoHistoryLock) {
-			for (int i = undoList.size() - 1; i >= 0; i--) {
-				IUndoableOperation operation = undoList.get(i);
-				if (operation.hasContext(context)) {
-					return operation;
-				}
-			}
-		}
-		return null;
+		return undoList.getLatest(context);
 	}
 
 	/*
@@ -1042,19 +1030,15 @@ public final class DefaultOperationHistory implements IOperationHistory {
 	public void replaceOperation(IUndoableOperation operation, IUndoableOperation[] replacements) {
 		// check the undo history first.
 		boolean inUndo = false;
-		synchronized (undoRedoHistoryLock) {
-			int index = undoList.indexOf(operation);
-			if (index > -1) {
+		undoRedoHistoryLock.writeLock().lock();
+		try {
+			// notify listeners after the lock on the history is released
+			if (undoList.replace(operation, replacements)) {
 				inUndo = true;
-				undoList.remove(operation);
-				// notify listeners after the lock on undoList is released
 				ArrayList<IUndoContext> allContexts = new ArrayList<>(replacements.length);
 				for (IUndoableOperation replacement : replacements) {
 					IUndoContext[] opContexts = replacement.getContexts();
 					allContexts.addAll(Arrays.asList(opContexts));
-					undoList.add(index, replacement);
-					// notify listeners after the lock on the history is
-					// released
 				}
 				// recheck all the limits. We do this at the end so the index
 				// doesn't change during replacement
@@ -1062,6 +1046,8 @@ public final class DefaultOperationHistory implements IOperationHistory {
 					forceUndoLimit(context, getLimit(context));
 				}
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 		if (inUndo) {
 			// notify listeners of operations added and removed
@@ -1074,25 +1060,24 @@ public final class DefaultOperationHistory implements IOperationHistory {
 
 		// operation was not in the undo history. Check the redo history.
 
-		synchronized (undoRedoHistoryLock) {
-			int index = redoList.indexOf(operation);
-			if (index == -1) {
+		undoRedoHistoryLock.writeLock().lock();
+		try {
+			// notify listeners after we release the lock on the history
+			if (!redoList.replace(operation, replacements)) {
 				return;
 			}
 			ArrayList<IUndoContext> allContexts = new ArrayList<>(replacements.length);
-			redoList.remove(operation);
-			// notify listeners after we release the lock on redoList
 			for (IUndoableOperation replacement : replacements) {
 				IUndoContext[] opContexts = replacement.getContexts();
 				allContexts.addAll(Arrays.asList(opContexts));
-				redoList.add(index, replacement);
-				// notify listeners after we release the lock on redoList
 			}
 			// recheck all the limits. We do this at the end so the index
 			// doesn't change during replacement
 			for (IUndoContext context : allContexts) {
 				forceRedoLimit(context, getLimit(context));
 			}
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 		// send listener notifications after we release the lock on the history
 		internalRemove(operation);
@@ -1113,9 +1098,12 @@ public final class DefaultOperationHistory implements IOperationHistory {
 		 */
 		Assert.isNotNull(context);
 		limits.put(context, Integer.valueOf(limit));
-		synchronized (undoRedoHistoryLock) {
+		undoRedoHistoryLock.writeLock().lock();
+		try {
 			forceUndoLimit(context, limit);
 			forceRedoLimit(context, limit);
+		} finally {
+			undoRedoHistoryLock.writeLock().unlock();
 		}
 
 	}
@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.commands.operations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * <p>
+ * An ordered list of undoable operations as used for the undo or the redo
+ * history of the {@link DefaultOperationHistory}. In addition to the global
+ * order of the operations, the index keeps one ordered deque per undo context
+ * that is assigned to an operation. An operation with multiple contexts is
+ * linked into the deque of each of its contexts. Queries for a context only
+ * look at the deques of the contexts that match it, so the cost of a query no
+ * longer depends on the total number of operations in the history.
+ * </p>
+ * <p>
+ * Operations that extend {@link AbstractOperation} report any change of their
+ * contexts back to the indexes they are contained in, so their deques are
+ * always up to date. The contexts of other implementations of
+ * {@link IUndoableOperation} cannot be tracked; such operations are kept in a
+ * separate list that is filtered using
+ * {@link IUndoableOperation#hasContext(IUndoContext)} on every query.
+ * </p>
+ * <p>
+ * All methods acquire the read or the write lock of the lock that is shared
+ * with the owning history. The history acquires the write lock itself when
+ * several changes to the index must appear atomic. The untracked operations
+ * are asked for their contexts after the read lock has been released, as they
+ * may add or remove contexts, which requires the write lock.
+ * </p>
+ */
+final class OperationContextIndex {
+
+	private static final IUndoableOperation[] NO_OPERATIONS = new IUndoableOperation[0];
+
+	/**
+	 * The position of an operation in the index.
+	 */
+	private static final class Entry {
+		final IUndoableOperation operation;
+
+		final Long sequence;
+
+		/**
+		 * The contexts the operation is linked into, or <code>null</code> if
+		 * the contexts of the operation cannot be tracked.
+		 */
+		IUndoContext[] contexts;
+
+		Entry(IUndoableOperation operation, long sequence) {
+			this.operation = operation;
+			this.sequence = Long.valueOf(sequence);
+		}
+	}
+
+	private final ReadWriteLock lock;
+
+	/**
+	 * all entries, in the order the operations were added
+	 */
+	private final TreeMap<Long, Entry> entries = new TreeMap<>();
+
+	private final Map<IUndoableOperation, Entry> entriesByOperation = new HashMap<>();
+
+	/**
+	 * one ordered deque of entries per context assigned to a tracked operation
+	 */
+	private final Map<IUndoContext, TreeMap<Long, Entry>> entriesByContext = new HashMap<>();
+
+	/**
+	 * the entries of operations whose contexts cannot be tracked
+	 */
+	private final TreeMap<Long, Entry> untrackedEntries = new TreeMap<>();
+
+	private long nextSequence;
+
+	/**
+	 * Create an empty index.
+	 *
+	 * @param lock
+	 *            the lock that guards the index, shared with the history
+	 */
+	OperationContextIndex(ReadWriteLock lock) {
+		this.lock = lock;
+	}
+
+	/**
+	 * Add the operation as the most recent operation of the index. If the
+	 * operation is already contained, it is moved to the top.
+	 */
+	void add(IUndoableOperation operation) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry existing = entriesByOperation.get(operation);
+			if (existing != null) {
+				removeEntry(existing);
+			}
+			Entry entry = new Entry(operation, nextSequence++);
+			entries.put(entry.sequence, entry);
+			entriesByOperation.put(operation, entry);
+			if (operation instanceof AbstractOperation) {
+				((AbstractOperation) operation).addContextIndex(this);
+				link(entry);
+			} else {
+				untrackedEntries.put(entry.sequence, entry);
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the operation from the index. Return whether it was contained.
+	 */
+	boolean remove(IUndoableOperation operation) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry entry = entriesByOperation.get(operation);
+			if (entry == null) {
+				return false;
+			}
+			removeEntry(entry);
+			return true;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Return whether the operation is contained in the index.
+	 */
+	boolean contains(IUndoableOperation operation) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return entriesByOperation.containsKey(operation);
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Replace the operation with the replacements, keeping the position of the
+	 * operation in the global order. Return whether the operation was
+	 * contained.
+	 */
+	boolean replace(IUndoableOperation operation, IUndoableOperation[] replacements) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry replaced = entriesByOperation.get(operation);
+			if (replaced == null) {
+				return false;
+			}
+			// Replacing in the middle is rare, so simply renumber the whole
+			// index rather than reserving gaps in the sequence numbers.
+			List<IUndoableOperation> operations = new ArrayList<>(entries.size() + replacements.length);
+			for (Entry entry : entries.values()) {
+				if (entry == replaced) {
+					operations.addAll(Arrays.asList(replacements));
+				} else {
+					operations.add(entry.operation);
+				}
+			}
+			for (Entry entry : entries.values().toArray(new Entry[entries.size()])) {
+				removeEntry(entry);
+			}
+			for (IUndoableOperation op : operations) {
+				add(op);
+			}
+			return true;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the operations that have a context matching the specified
+	 * context, oldest first.
+	 */
+	IUndoableOperation[] filter(IUndoContext context) {
+		List<Entry> tracked = new ArrayList<>();
+		Entry[] untracked;
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			List<TreeMap<Long, Entry>> matching = getMatchingDeques(context);
+			if (untrackedEntries.isEmpty()) {
+				if (matching.isEmpty()) {
+					return NO_OPERATIONS;
+				}
+				if (matching.size() == 1) {
+					return toOperations(matching.get(0).values());
+				}
+			}
+			if (matching.size() > 1 && matching.size() == entriesByContext.size()) {
+				// the context matches everything, such as the global context,
+				// so walk the global order instead of merging the deques
+				for (Entry entry : entries.values()) {
+					if (entry.contexts != null && entry.contexts.length > 0) {
+						tracked.add(entry);
+					}
+				}
+			} else if (matching.size() == 1) {
+				tracked.addAll(matching.get(0).values());
+			} else if (!matching.isEmpty()) {
+				TreeMap<Long, Entry> merged = new TreeMap<>();
+				for (TreeMap<Long, Entry> deque : matching) {
+					merged.putAll(deque);
+				}
+				tracked.addAll(merged.values());
+			}
+			untracked = untrackedEntries.values().toArray(new Entry[untrackedEntries.size()]);
+		} finally {
+			readLock.unlock();
+		}
+		// merge in the matching untracked operations
+		List<IUndoableOperation> result = new ArrayList<>(tracked.size() + untracked.length);
+		int next = 0;
+		for (Entry entry : untracked) {
+			if (!entry.operation.hasContext(context)) {
+				continue;
+			}
+			while (next < tracked.size() && tracked.get(next).sequence.longValue() < entry.sequence.longValue()) {
+				result.add(tracked.get(next++).operation);
+			}
+			result.add(entry.operation);
+		}
+		while (next < tracked.size()) {
+			result.add(tracked.get(next++).operation);
+		}
+		return result.toArray(new IUndoableOperation[result.size()]);
+	}
+
+	/**
+	 * Return the most recent operation that has a context matching the
+	 * specified context, or <code>null</code> if there is none.
+	 */
+	IUndoableOperation getLatest(IUndoContext context) {
+		Entry latest = null;
+		List<Entry> untracked = new ArrayList<>();
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			for (TreeMap<Long, Entry> deque : getMatchingDeques(context)) {
+				Map.Entry<Long, Entry> last = deque.lastEntry();
+				if (last != null && (latest == null || last.getKey().longValue() > latest.sequence.longValue())) {
+					latest = last.getValue();
+				}
+			}
+			for (Entry entry : untrackedEntries.descendingMap().values()) {
+				if (latest != null && entry.sequence.longValue() < latest.sequence.longValue()) {
+					break;
+				}
+				untracked.add(entry);
+			}
+		} finally {
+			readLock.unlock();
+		}
+		// the untracked operations more recent than the latest tracked one,
+		// most recent first
+		for (Entry entry : untracked) {
+			if (entry.operation.hasContext(context)) {
+				return entry.operation;
+			}
+		}
+		return latest == null ? null : latest.operation;
+	}
+
+	/**
+	 * Notification from an {@link AbstractOperation} that its contexts have
+	 * changed. The operation is relinked into the deques of its new contexts.
+	 */
+	void contextsChanged(AbstractOperation operation) {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			Entry entry = entriesByOperation.get(operation);
+			if (entry != null && entry.contexts != null) {
+				unlink(entry);
+				link(entry);
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void removeEntry(Entry entry) {
+		entries.remove(entry.sequence);
+		entriesByOperation.remove(entry.operation);
+		if (entry.contexts == null) {
+			untrackedEntries.remove(entry.sequence);
+		} else {
+			unlink(entry);
+			((AbstractOperation) entry.operation).removeContextIndex(this);
+		}
+	}
+
+	private void link(Entry entry) {
+		entry.contexts = entry.operation.getContexts();
+		for (IUndoContext context : entry.contexts) {
+			entriesByContext.computeIfAbsent(context, c -> new TreeMap<>()).put(entry.sequence, entry);
+		}
+	}
+
+	private void unlink(Entry entry) {
+		for (IUndoContext context : entry.contexts) {
+			TreeMap<Long, Entry> deque = entriesByContext.get(context);
+			if (deque != null) {
+				deque.remove(entry.sequence);
+				if (deque.isEmpty()) {
+					entriesByContext.remove(context);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Return the deques of all contexts that match the specified context. The
+	 * matching rules are checked both ways, consistent with
+	 * AbstractOperation#hasContext(IUndoContext).
+	 */
+	private List<TreeMap<Long, Entry>> getMatchingDeques(IUndoContext context) {
+		List<TreeMap<Long, Entry>> matching = new ArrayList<>(2);
+		for (Map.Entry<IUndoContext, TreeMap<Long, Entry>> deque : entriesByContext.entrySet()) {
+			IUndoContext other = deque.getKey();
+			if (context.matches(other) || other.matches(context)) {
+				matching.add(deque.getValue());
+			}
+		}
+		return matching;
+	}
+
+	private static IUndoableOperation[] toOperations(Collection<Entry> entries) {
+		IUndoableOperation[] operations = new IUndoableOperation[entries.size()];
+		int i = 0;
+		for (Entry entry : entries) {
+			operations[i++] = entry.operation;
+		}
+		return operations;
+	}
+}
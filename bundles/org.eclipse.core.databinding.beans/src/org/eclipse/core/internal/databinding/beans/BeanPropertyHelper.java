@@ -21,11 +21,17 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.util.Policy;
@@ -36,6 +42,109 @@ import org.eclipse.core.runtime.Status;
  * @since 1.2
  */
 public class BeanPropertyHelper {
+	/**
+	 * The property descriptors of every introspected bean class or interface,
+	 * by property name, or <code>null</code> if the class cannot be
+	 * introspected. The descriptors of a class are kept as long as the class is
+	 * loaded, they are never invalidated, not even by
+	 * {@link Introspector#flushCaches()}.
+	 */
+	private static final ClassValue<Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS = new ClassValue<>() {
+		@Override
+		protected Map<String, PropertyDescriptor> computeValue(Class<?> beanClass) {
+			List<PropertyDescriptor> pds = new ArrayList<>();
+			try {
+				if (!beanClass.isInterface()) {
+					pds.addAll(Arrays.asList(Introspector.getBeanInfo(beanClass).getPropertyDescriptors()));
+				} else {
+					getInterfacePropertyDescriptors(pds, beanClass);
+				}
+			} catch (IntrospectionException e) {
+				// cannot introspect, give up
+				return null;
+			}
+			Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+			for (PropertyDescriptor descriptor : pds) {
+				descriptors.putIfAbsent(descriptor.getName(), descriptor);
+			}
+			return descriptors;
+		}
+	};
+
+	/**
+	 * The accessors of the read and write methods invoked so far, by the class
+	 * declaring the methods.
+	 */
+	private static final ClassValue<Map<Method, Accessor>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<Method, Accessor> computeValue(Class<?> declaringClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Invokes a read or write method through a method handle, which is much
+	 * faster than {@link Method#invoke} once the handle is compiled.
+	 */
+	private static final class Accessor {
+		private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		final MethodHandle handle;
+
+		private final Class<?> declaringClass;
+
+		private final Class<?> parameterType;
+
+		private final Class<?> valueType;
+
+		Accessor(Method method) throws IllegalAccessException {
+			setAccessible(method);
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+			declaringClass = method.getDeclaringClass();
+			if (method.getParameterCount() == 0) {
+				handle = methodHandle.asType(READ_TYPE);
+				parameterType = null;
+				valueType = null;
+			} else {
+				handle = methodHandle.asType(WRITE_TYPE);
+				parameterType = method.getParameterTypes()[0];
+				valueType = MethodType.methodType(parameterType).wrap().returnType();
+			}
+		}
+
+		/**
+		 * Returns whether the method can be invoked through the handle without
+		 * failing on the arguments. Otherwise the method is invoked by
+		 * reflection, which reports wrong arguments the way the callers
+		 * expect, and converts primitive values as needed.
+		 */
+		boolean accepts(Object source) {
+			return declaringClass.isInstance(source);
+		}
+
+		boolean accepts(Object source, Object value) {
+			if (!accepts(source)) {
+				return false;
+			}
+			if (value == null) {
+				return !parameterType.isPrimitive();
+			}
+			return valueType.isInstance(value);
+		}
+	}
+
+	private static Accessor getAccessor(Method method) throws IllegalAccessException {
+		Map<Method, Accessor> accessors = ACCESSORS.get(method.getDeclaringClass());
+		Accessor accessor = accessors.get(method);
+		if (accessor == null) {
+			accessor = new Accessor(method);
+			accessors.put(method, accessor);
+		}
+		return accessor;
+	}
+
 	/**
 	 * Sets the contents of the given property on the given source object to the
 	 * given value.
@@ -56,8 +165,17 @@ public class BeanPropertyHelper {
 						"Missing public setter method for " //$NON-NLS-1$
 								+ propertyDescriptor.getName() + " property"); //$NON-NLS-1$
 			}
-			setAccessible(writeMethod);
-			writeMethod.invoke(source, value);
+			Accessor accessor = getAccessor(writeMethod);
+			if (accessor.accepts(source, value)) {
+				try {
+					accessor.handle.invokeExact(source, value);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			} else {
+				setAccessible(writeMethod);
+				writeMethod.invoke(source, value);
+			}
 		} catch (InvocationTargetException e) {
 			/*
 			 * InvocationTargetException wraps any exception thrown by the
@@ -91,6 +209,14 @@ public class BeanPropertyHelper {
 				throw new IllegalArgumentException(propertyDescriptor.getName()
 						+ " property does not have a read method."); //$NON-NLS-1$
 			}
+			Accessor accessor = getAccessor(readMethod);
+			if (accessor.accepts(source)) {
+				try {
+					return (Object) accessor.handle.invokeExact(source);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			}
 			setAccessible(readMethod);
 			return readMethod.invoke(source);
 		} catch (InvocationTargetException e) {
@@ -146,35 +272,14 @@ public class BeanPropertyHelper {
 	 */
 	public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass,
 			String propertyName) {
-		if (!beanClass.isInterface()) {
-			BeanInfo beanInfo;
-			try {
-				beanInfo = Introspector.getBeanInfo(beanClass);
-			} catch (IntrospectionException e) {
-				// cannot introspect, give up
-				return null;
-			}
-			PropertyDescriptor[] propertyDescriptors = beanInfo
-					.getPropertyDescriptors();
-			for (PropertyDescriptor descriptor : propertyDescriptors) {
-				if (descriptor.getName().equals(propertyName)) {
-					return descriptor;
-				}
-			}
-		} else {
-			try {
-				List<PropertyDescriptor> pds = new ArrayList<>();
-				getInterfacePropertyDescriptors(pds, beanClass);
-				if (pds.size() > 0) {
-					for (PropertyDescriptor descriptor : pds.toArray(new PropertyDescriptor[pds.size()])) {
-						if (descriptor.getName().equals(propertyName))
-							return descriptor;
-					}
-				}
-			} catch (IntrospectionException e) {
-				// cannot introspect, give up
-				return null;
-			}
+		Map<String, PropertyDescriptor> descriptors = PROPERTY_DESCRIPTORS.get(beanClass);
+		if (descriptors == null) {
+			// cannot introspect, give up
+			return null;
+		}
+		PropertyDescriptor descriptor = descriptors.get(propertyName);
+		if (descriptor != null) {
+			return descriptor;
 		}
 		throw new IllegalArgumentException(
 				"Could not find property with name " + propertyName + " in class " + beanClass); //$NON-NLS-1$ //$NON-NLS-2$
@@ -73,12 +73,16 @@ public abstract class AbstractObservable extends ChangeManager implements IObser
 
 	protected void fireChange() {
 		checkRealm();
-		fireEvent(new ChangeEvent(this));
+		if (hasListeners(ChangeEvent.TYPE)) {
+			fireEvent(new ChangeEvent(this));
+		}
 	}
 
 	protected void fireStale() {
 		checkRealm();
-		fireEvent(new StaleEvent(this));
+		if (hasListeners(StaleEvent.TYPE)) {
+			fireEvent(new StaleEvent(this));
+		}
 	}
 
 	/**
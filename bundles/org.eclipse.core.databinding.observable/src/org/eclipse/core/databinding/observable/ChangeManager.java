@@ -99,6 +99,19 @@ import org.eclipse.core.runtime.ListenerList;
 		return false;
 	}
 
+	/**
+	 * Returns whether there are listeners of the given type. Subclasses use
+	 * this to avoid creating events nobody listens to.
+	 *
+	 * @param listenerType arbitrary object to identify a type of the listener
+	 * @return whether there are listeners of the given type
+	 * @since 1.14
+	 */
+	protected boolean hasListeners(Object listenerType) {
+		int listenerTypeIndex = findListenerTypeIndex(listenerType);
+		return listenerTypeIndex != -1 && !listenerLists[listenerTypeIndex].isEmpty();
+	}
+
 	private int findListenerTypeIndex(Object listenerType) {
 		if (listenerTypes != null) {
 			for (int i = 0; i < listenerTypes.length; i++) {
@@ -114,8 +127,8 @@ import org.eclipse.core.runtime.ListenerList;
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
-			for (IObservablesListener listener : listenerLists[listenerTypeIndex]) {
-				event.dispatch(listener);
+			for (Object listener : listenerLists[listenerTypeIndex].getListeners()) {
+				event.dispatch((IObservablesListener) listener);
 			}
 		}
 	}
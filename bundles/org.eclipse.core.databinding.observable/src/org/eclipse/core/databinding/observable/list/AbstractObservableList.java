@@ -72,6 +72,11 @@ public abstract class AbstractObservableList<E> extends AbstractList<E>
 		protected boolean hasListeners() {
 			return super.hasListeners();
 		}
+
+		@Override
+		protected boolean hasListeners(Object listenerType) {
+			return super.hasListeners(listenerType);
+		}
 	}
 
 	private final Realm realm;
@@ -125,7 +130,9 @@ public abstract class AbstractObservableList<E> extends AbstractList<E>
 	protected void fireListChange(ListDiff<E> diff) {
 		// fire general change event first
 		fireChange();
-		changeSupport.fireEvent(new ListChangeEvent<>(this, diff));
+		if (changeSupport.hasListeners(ListChangeEvent.TYPE)) {
+			changeSupport.fireEvent(new ListChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
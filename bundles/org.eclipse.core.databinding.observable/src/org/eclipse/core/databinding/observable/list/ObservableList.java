@@ -81,7 +81,9 @@ public abstract class ObservableList<E> extends AbstractObservable implements
 	protected void fireListChange(ListDiff<E> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new ListChangeEvent<>(this, diff));
+		if (hasListeners(ListChangeEvent.TYPE)) {
+			fireEvent(new ListChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -83,7 +83,9 @@ abstract public class AbstractObservableValue<T> extends AbstractObservable
 	protected void fireValueChange(ValueDiff<T> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new ValueChangeEvent<>(this, diff));
+		if (hasListeners(ValueChangeEvent.TYPE)) {
+			fireEvent(new ValueChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -21,6 +21,7 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.core.impl.engine;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,10 +29,12 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -110,6 +113,42 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	 */
 	private static final IResourcesLocatorManager defaultResourcesLocatorManager = ResourcesLocatorManager.INSTANCE;
 
+	/**
+	 * Maximum number of parsed style sheets kept in {@link #parsedStyleSheets}.
+	 */
+	private static final int PARSED_STYLE_SHEETS_CACHE_SIZE = 64;
+
+	/**
+	 * The style sheets parsed from an URI, as returned by the
+	 * {@link CSSParser}, i.e. before the imports are resolved, keyed by engine
+	 * class and URI. Themes are applied to every CSS engine, and the same style
+	 * sheets are applied again when switching back to a theme, so this avoids
+	 * parsing them again as long as their content did not change.
+	 */
+	private static final Map<String, ParsedStyleSheet> parsedStyleSheets = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ParsedStyleSheet> eldest) {
+			return size() > PARSED_STYLE_SHEETS_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * A style sheet parsed from an URI, and the content it was parsed from.
+	 */
+	private static final class ParsedStyleSheet {
+
+		private final byte[] content;
+
+		private final CSSStyleSheet styleSheet;
+
+		ParsedStyleSheet(byte[] content, CSSStyleSheet styleSheet) {
+			this.content = content;
+			this.styleSheet = styleSheet;
+		}
+	}
+
 	/**
 	 * w3c {@link DocumentCSS}.
 	 */
@@ -186,8 +225,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public StyleSheet parseStyleSheet(InputSource source) throws IOException {
 		// Check that CharacterStream or ByteStream is not null
 		checkInputSource(source);
-		CSSParser parser = makeCSSParser();
-		CSSStyleSheet styleSheet = parser.parseStyleSheet(source);
+		CSSStyleSheet styleSheet = parseCachedStyleSheet(source);
 
 		CSSRuleList rules = styleSheet.getCssRules();
 		int length = rules.getLength();
@@ -250,6 +288,38 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		return s;
 	}
 
+	/**
+	 * Parses the given source, reusing the style sheet parsed before from the
+	 * same URI if the content did not change. Only sources with an URI and a
+	 * byte stream are cached, the others are always parsed.
+	 */
+	private CSSStyleSheet parseCachedStyleSheet(InputSource source) throws IOException {
+		InputStream stream = source.getByteStream();
+		if (source.getURI() == null || stream == null || source.getCharacterStream() != null) {
+			return makeCSSParser().parseStyleSheet(source);
+		}
+		byte[] content = stream.readAllBytes();
+		String key = getClass().getName() + '\n' + source.getURI();
+		ParsedStyleSheet parsed;
+		synchronized (parsedStyleSheets) {
+			parsed = parsedStyleSheets.get(key);
+		}
+		if (parsed != null && Arrays.equals(parsed.content, content)) {
+			return parsed.styleSheet;
+		}
+		InputSource contentSource = new InputSource();
+		contentSource.setURI(source.getURI());
+		contentSource.setEncoding(source.getEncoding());
+		contentSource.setMedia(source.getMedia());
+		contentSource.setTitle(source.getTitle());
+		contentSource.setByteStream(new ByteArrayInputStream(content));
+		CSSStyleSheet styleSheet = makeCSSParser().parseStyleSheet(contentSource);
+		synchronized (parsedStyleSheets) {
+			parsedStyleSheets.put(key, new ParsedStyleSheet(content, styleSheet));
+		}
+		return styleSheet;
+	}
+
 	private void processNodeList(NodeList nodes, BiConsumer<Node, Boolean> consumer, boolean applyStylesToChildNodes) {
 		if (nodes instanceof IStreamingNodeList) {
 			((IStreamingNodeList) nodes).stream().forEach(child -> {
@@ -13,23 +13,134 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.swt.engine;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
 
 
 /**
  * Add SWT filter to the {@link Display} to apply styles when SWT widget is
  * resized or showed.
+ * <p>
+ * If the system property <code>org.eclipse.e4.ui.css.batchSkinning</code> is
+ * <code>true</code>, the widgets to skin are queued and styled together, at the
+ * latest before a widget is painted or a shell is shown. A widget skinned
+ * several times in between, e.g. because its CSS class and id are set one
+ * after the other, is then styled only once. If the system property
+ * <code>org.eclipse.e4.ui.css.traceSkinning</code> is <code>true</code> as
+ * well, the time spent styling the widgets of every shell is logged for every
+ * batch. Both properties are read while skinning, so they can be changed at
+ * runtime.
+ * </p>
  */
 public class CSSSWTApplyStylesListener {
+	private static final String BATCH_SKINNING = "org.eclipse.e4.ui.css.batchSkinning"; //$NON-NLS-1$
+
+	private static final String TRACE_SKINNING = "org.eclipse.e4.ui.css.traceSkinning"; //$NON-NLS-1$
+
 	CSSEngine engine;
+
+	private final Display display;
+
+	/**
+	 * The widgets waiting to be styled, in the order of their skin events.
+	 */
+	private final Set<Widget> pendingWidgets = new LinkedHashSet<>();
+
+	/**
+	 * Styles the pending widgets before the first of them is painted or
+	 * shown.
+	 */
+	private final Listener flushFilter = event -> applyPendingStyles();
+
+	private final Listener skinListener;
+
 	public CSSSWTApplyStylesListener(Display display, final CSSEngine engine) {
 		this.engine = engine;
-		display.addListener(SWT.Skin, event -> {
+		this.display = display;
+		skinListener = event -> {
 			if (engine != null) {
-				engine.applyStyles(event.widget, false);
+				if (Boolean.getBoolean(BATCH_SKINNING)) {
+					queue(event.widget);
+				} else {
+					engine.applyStyles(event.widget, false);
+				}
+			}
+		};
+		display.addListener(SWT.Skin, skinListener);
+	}
+
+	/**
+	 * Stops applying styles to the skinned widgets. The widgets already queued
+	 * are not styled anymore.
+	 */
+	public void dispose() {
+		display.removeListener(SWT.Skin, skinListener);
+		display.removeFilter(SWT.Paint, flushFilter);
+		display.removeFilter(SWT.Show, flushFilter);
+		pendingWidgets.clear();
+	}
+
+	private void queue(Widget widget) {
+		if (pendingWidgets.isEmpty()) {
+			display.addFilter(SWT.Paint, flushFilter);
+			display.addFilter(SWT.Show, flushFilter);
+			display.asyncExec(this::applyPendingStyles);
+		}
+		pendingWidgets.add(widget);
+	}
+
+	/**
+	 * Styles the widgets queued since the last call.
+	 */
+	private void applyPendingStyles() {
+		if (pendingWidgets.isEmpty()) {
+			return;
+		}
+		display.removeFilter(SWT.Paint, flushFilter);
+		display.removeFilter(SWT.Show, flushFilter);
+		Widget[] widgets = pendingWidgets.toArray(new Widget[pendingWidgets.size()]);
+		pendingWidgets.clear();
+
+		// per shell: number of widgets styled, styling time in nanoseconds
+		Map<Shell, long[]> times = Boolean.getBoolean(TRACE_SKINNING) ? new LinkedHashMap<>() : null;
+		for (Widget widget : widgets) {
+			if (widget.isDisposed()) {
+				continue;
 			}
+			if (times == null) {
+				engine.applyStyles(widget, false);
+			} else {
+				long start = System.nanoTime();
+				engine.applyStyles(widget, false);
+				long[] time = times.computeIfAbsent(getShell(widget), shell -> new long[2]);
+				time[0]++;
+				time[1] += System.nanoTime() - start;
+			}
+		}
+		if (times != null) {
+			trace(times);
+		}
+	}
+
+	private static Shell getShell(Widget widget) {
+		return widget instanceof Control control && !control.isDisposed() ? control.getShell() : null;
+	}
+
+	private static void trace(Map<Shell, long[]> times) {
+		times.forEach((shell, time) -> {
+			String title = shell == null || shell.isDisposed() ? "" : shell.getText(); //$NON-NLS-1$
+			ILog.of(CSSSWTApplyStylesListener.class).info("Styled " + time[0] + " widget(s) of shell '" + title //$NON-NLS-1$ //$NON-NLS-2$
+					+ "' in " + time[1] / 1000 + " us"); //$NON-NLS-1$ //$NON-NLS-2$
 		});
 	}
 
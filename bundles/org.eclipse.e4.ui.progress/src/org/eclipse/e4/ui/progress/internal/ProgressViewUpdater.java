@@ -16,7 +16,6 @@ package org.eclipse.e4.ui.progress.internal;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -39,6 +38,19 @@ import jakarta.inject.Singleton;
 @Singleton
 public class ProgressViewUpdater implements IJobProgressManagerListener {
 
+	/**
+	 * The minimal delay between two updates, in milliseconds.
+	 */
+	private static final int UPDATE_DELAY = 100;
+
+	/**
+	 * The maximal share of the UI thread time, in percent, that the updates may
+	 * take. When updating the viewers takes longer, the delay between two updates
+	 * grows accordingly.
+	 */
+	private static final int UPDATE_BUDGET = Math.max(1,
+			Math.min(100, Integer.getInteger("org.eclipse.e4.ui.progress.updateBudget", 20).intValue())); //$NON-NLS-1$
+
 	private IProgressUpdateCollector[] collectors;
 
 	Job updateJob;
@@ -60,6 +72,18 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	 */
 	MutableBoolean updateScheduled = new MutableBoolean();
 
+	/**
+	 * The delay before the next update, in milliseconds, see
+	 * {@link #UPDATE_BUDGET}.
+	 */
+	private volatile long updateDelay = UPDATE_DELAY;
+
+	/**
+	 * The number of elements that have been passed to the collectors, guarded by
+	 * {@link #updateLock}.
+	 */
+	private long renderedUpdates;
+
 	/**
 	 * The UpdatesInfo is a private class for keeping track of the updates required.
 	 */
@@ -73,6 +97,11 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 
 		boolean updateAll = false;
 
+		/**
+		 * The number of update requests received so far.
+		 */
+		long processedUpdates;
+
 		private UpdatesInfo() {
 			// Create a new instance of the info
 		}
@@ -81,6 +110,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		 * Add an add update
 		 */
 		void add(JobTreeElement addition) {
+			processedUpdates++;
 			additions.add(addition);
 		}
 
@@ -88,6 +118,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		 * Add a remove update
 		 */
 		void remove(JobTreeElement removal) {
+			processedUpdates++;
 			deletions.add(removal);
 		}
 
@@ -95,6 +126,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		 * Add a refresh update
 		 */
 		void refresh(JobTreeElement refresh) {
+			processedUpdates++;
 			refreshes.add(refresh);
 		}
 
@@ -109,50 +141,34 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		}
 
 		void processForUpdate() {
-			HashSet<JobTreeElement> staleAdditions = new HashSet<>();
-
-			Iterator<JobTreeElement> additionsIterator = additions.iterator();
-			while (additionsIterator.hasNext()) {
-				JobTreeElement treeElement = additionsIterator.next();
-				if (!treeElement.isActive()) {
-					if (deletions.contains(treeElement)) {
-						staleAdditions.add(treeElement);
-					}
-				}
-			}
-
-			additions.removeAll(staleAdditions);
+			// jobs that came and went since the last update are never shown
+			additions.removeIf(treeElement -> !treeElement.isActive() && deletions.contains(treeElement));
 
-			HashSet<JobTreeElement> obsoleteRefresh = new HashSet<>();
-			Iterator<JobTreeElement> refreshIterator = refreshes.iterator();
-			while (refreshIterator.hasNext()) {
-				JobTreeElement treeElement = refreshIterator.next();
+			refreshes.removeIf(treeElement -> {
 				if (deletions.contains(treeElement) || additions.contains(treeElement)) {
-					obsoleteRefresh.add(treeElement);
+					return true;
 				}
 
 				// Also check for groups that are being added
 				Object parent = treeElement.getParent();
 				if (parent != null && (deletions.contains(parent) || additions.contains(parent))) {
-					obsoleteRefresh.add(treeElement);
+					return true;
 				}
 
 				if (!treeElement.isActive()) {
 					// If it is done then delete it
-					obsoleteRefresh.add(treeElement);
 					deletions.add(treeElement);
+					return true;
 				}
-			}
-
-			refreshes.removeAll(obsoleteRefresh);
-
+				return false;
+			});
 		}
 	}
 
 	/**
 	 * Create a new instance of the receiver.
 	 */
-	ProgressViewUpdater() {
+	protected ProgressViewUpdater() {
 		createUpdateJob();
 		collectors = new IProgressUpdateCollector[0];
 	}
@@ -166,7 +182,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	/**
 	 * Add the new collector to the list of collectors.
 	 */
-	void addCollector(IProgressUpdateCollector newCollector) {
+	protected void addCollector(IProgressUpdateCollector newCollector) {
 		IProgressUpdateCollector[] newCollectors = new IProgressUpdateCollector[collectors.length + 1];
 		System.arraycopy(collectors, 0, newCollectors, 0, collectors.length);
 		newCollectors[collectors.length] = newCollector;
@@ -195,7 +211,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	/**
 	 * Schedule an update.
 	 */
-	void scheduleUpdate() {
+	protected void scheduleUpdate() {
 		if (PlatformUI.isWorkbenchRunning()) {
 			// make sure we don't schedule too often
 			boolean scheduleUpdate = false;
@@ -205,7 +221,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 				}
 			}
 			if (scheduleUpdate)
-				updateJob.schedule(100);
+				updateJob.schedule(updateDelay);
 		}
 	}
 
@@ -226,42 +242,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 					return Status.CANCEL_STATUS;
 				}
 
-				if (currentInfo.updateAll) {
-					synchronized (updateLock) {
-						currentInfo.reset();
-					}
-					for (IProgressUpdateCollector collector : collectors) {
-						collector.refresh();
-					}
-
-				} else {
-					// Lock while getting local copies of the caches.
-					Object[] updateItems;
-					Object[] additionItems;
-					Object[] deletionItems;
-					synchronized (updateLock) {
-						currentInfo.processForUpdate();
-
-						updateItems = currentInfo.refreshes.toArray();
-						additionItems = currentInfo.additions.toArray();
-						deletionItems = currentInfo.deletions.toArray();
-
-						currentInfo.reset();
-					}
-
-					for (IProgressUpdateCollector collector : collectors) {
-						if (updateItems.length > 0) {
-							collector.refresh(updateItems);
-						}
-						if (additionItems.length > 0) {
-							collector.add(additionItems);
-						}
-						if (deletionItems.length > 0) {
-							collector.remove(deletionItems);
-						}
-					}
-				}
-
+				updateCollectors();
 				return Status.OK_STATUS;
 			}
 
@@ -287,6 +268,106 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		return currentInfo;
 	}
 
+	/**
+	 * Passes the pending updates to the collectors. The delay before the next
+	 * update grows with the time this takes, see {@link #UPDATE_BUDGET}.
+	 */
+	protected void updateCollectors() {
+		long start = nanoTime();
+		try {
+			update();
+		} finally {
+			// keep the share of the UI thread time within the budget
+			long duration = (nanoTime() - start) / 1_000_000;
+			updateDelay = Math.max(UPDATE_DELAY, duration * (100 - UPDATE_BUDGET) / UPDATE_BUDGET);
+		}
+	}
+
+	private void update() {
+		if (currentInfo.updateAll) {
+			synchronized (updateLock) {
+				currentInfo.reset();
+				renderedUpdates++;
+			}
+			for (IProgressUpdateCollector collector : collectors) {
+				collector.refresh();
+			}
+
+		} else {
+			// Lock while getting local copies of the caches.
+			Object[] updateItems;
+			Object[] additionItems;
+			Object[] deletionItems;
+			synchronized (updateLock) {
+				currentInfo.processForUpdate();
+
+				updateItems = currentInfo.refreshes.toArray();
+				additionItems = currentInfo.additions.toArray();
+				deletionItems = currentInfo.deletions.toArray();
+
+				currentInfo.reset();
+				renderedUpdates += updateItems.length + additionItems.length + deletionItems.length;
+			}
+
+			for (IProgressUpdateCollector collector : collectors) {
+				if (updateItems.length > 0) {
+					collector.refresh(updateItems);
+				}
+				if (additionItems.length > 0) {
+					collector.add(additionItems);
+				}
+				if (deletionItems.length > 0) {
+					collector.remove(deletionItems);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the current value of the time source used to measure the duration
+	 * of the updates.
+	 *
+	 * @return the current time in nanoseconds
+	 */
+	protected long nanoTime() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Returns the delay before the next update.
+	 *
+	 * @return the delay in milliseconds
+	 */
+	protected long getUpdateDelay() {
+		return updateDelay;
+	}
+
+	/**
+	 * Returns the number of update requests received from the progress manager.
+	 * Requests for the same element between two updates of the viewers are
+	 * rendered only once, and requests for jobs that came and went between two
+	 * updates are not rendered at all, see {@link #getRenderedUpdates()}.
+	 *
+	 * @return the number of update requests received
+	 */
+	protected long getProcessedUpdates() {
+		synchronized (updateLock) {
+			return currentInfo.processedUpdates;
+		}
+	}
+
+	/**
+	 * Returns the number of element updates passed to the viewers, a full refresh
+	 * of the viewers being counted as one.
+	 *
+	 * @return the number of element updates passed to the viewers
+	 */
+	protected long getRenderedUpdates() {
+		synchronized (updateLock) {
+			return renderedUpdates;
+		}
+	}
+
 	/**
 	 * Refresh the supplied JobInfo.
 	 */
@@ -38,6 +38,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.BiFunction;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.commands.ExpressionContext;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
@@ -477,16 +478,35 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 	}
 
 	public void processContributions(MMenu menuModel, String elementId, boolean isMenuBar, boolean isPopup) {
+		processContributions(menuModel, elementId, isMenuBar, isPopup, (menu, id) -> {
+			ArrayList<MMenuContribution> toContribute = new ArrayList<>();
+			ContributionsAnalyzer.XXXgatherMenuContributions(menu, application.getMenuContributions(), id,
+					toContribute, isPopup);
+			return toContribute;
+		});
+	}
+
+	/**
+	 * Process the contributions to the given menu and its sub-menus like
+	 * {@link #processContributions(MMenu, String, boolean, boolean)}, but gather
+	 * the contributions for each menu with the given function, for example from
+	 * a cache of the contributions per location.
+	 *
+	 * @param menuModel the menu to contribute to
+	 * @param elementId the id of the location
+	 * @param isMenuBar whether the menu is the menu bar
+	 * @param isPopup   whether popup contributions apply
+	 * @param gatherer  returns the contributions for a menu and its location id
+	 */
+	public void processContributions(MMenu menuModel, String elementId, boolean isMenuBar, boolean isPopup,
+			BiFunction<MMenu, String, List<MMenuContribution>> gatherer) {
 		if (elementId == null) {
 			return;
 		}
-		final ArrayList<MMenuContribution> toContribute = new ArrayList<>();
-		ContributionsAnalyzer.XXXgatherMenuContributions(menuModel, application.getMenuContributions(), elementId,
-				toContribute, isPopup);
-		generateContributions(menuModel, toContribute, isMenuBar);
+		generateContributions(menuModel, new ArrayList<>(gatherer.apply(menuModel, elementId)), isMenuBar);
 		for (MMenuElement element : menuModel.getChildren()) {
 			if (element instanceof MMenu) {
-				processContributions((MMenu) element, element.getElementId(), false, isPopup);
+				processContributions((MMenu) element, element.getElementId(), false, isPopup, gatherer);
 			}
 		}
 	}
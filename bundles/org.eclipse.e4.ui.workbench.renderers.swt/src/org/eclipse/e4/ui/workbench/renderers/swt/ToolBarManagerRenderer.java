@@ -452,6 +452,21 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 		generateContributions(toolbarModel, toContribute);
 	}
 
+	/**
+	 * Process contributions that were already gathered for the given tool bar,
+	 * for example from a cache of the contributions per location.
+	 *
+	 * @param toolbarModel the tool bar to contribute to
+	 * @param toContribute the contributions for the tool bar
+	 */
+	public void processContribution(MToolBar toolbarModel, List<MToolBarContribution> toContribute) {
+		ToolBarManager manager = getManager(toolbarModel);
+		if (manager != null && manager.getControl() != null) {
+			addCleanupDisposeListener(toolbarModel, manager.getControl());
+		}
+		generateContributions(toolbarModel, new ArrayList<>(toContribute));
+	}
+
 	private void addCleanupDisposeListener(final MToolBar toolbarModel, ToolBar control) {
 
 		final Map<String, Object> transientData = toolbarModel.getTransientData();
@@ -177,7 +177,7 @@ public final class ContributionsAnalyzer {
 		}
 	}
 
-	static boolean isFiltered(MMenu menuModel, MMenuContribution menuContribution,
+	public static boolean isFiltered(MMenu menuModel, MMenuContribution menuContribution,
 			boolean includePopups) {
 		if (includePopups || menuModel.getTags().contains(ContributionsAnalyzer.MC_POPUP)) {
 			return !menuContribution.getTags().contains(ContributionsAnalyzer.MC_POPUP)
@@ -16,6 +16,8 @@ package org.eclipse.e4.ui.internal.workbench;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -36,6 +38,26 @@ import org.eclipse.emf.ecore.util.EContentAdapter;
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	/**
+	 * The topics of the events of each model feature, indexed by the EMF notification event type
+	 * in the array of the feature.
+	 */
+	private static final Map<EStructuralFeature, String[]> featureTopics = new ConcurrentHashMap<>();
+
+	/**
+	 * The topics of the events of each map attribute of {@link MApplicationElement}, keyed by the
+	 * attribute name and indexed by the EMF notification event type in the array of the attribute.
+	 */
+	private static final Map<String, String[]> attributeTopics = new ConcurrentHashMap<>();
+
+	/**
+	 * The argument map reused for the events. The broker copies the arguments into the event
+	 * before {@link IEventBroker#send(String, Object)} returns, and the map is cleared afterwards.
+	 * It is taken while an event is sent, so that an event sent by a handler of that event, or from
+	 * another thread, gets a map of its own.
+	 */
+	private final AtomicReference<Map<String, Object>> spareArgMap = new AtomicReference<>();
+
 	private IEclipseContext context;
 
 	public UIEventPublisher(IEclipseContext e4Context) {
@@ -51,13 +73,20 @@ public class UIEventPublisher extends EContentAdapter {
 			return;
 
 		// Format the EMF event as an E4 UIEvent
-		Map<String, Object> argMap = new HashMap<>();
-
-		String topic = formatData(notification, argMap);
+		Map<String, Object> argMap = spareArgMap.getAndSet(null);
+		if (argMap == null) {
+			argMap = new HashMap<>();
+		}
+		try {
+			String topic = formatData(notification, argMap);
 
-		if (topic != null) {
-			IEventBroker eventManager = context.get(IEventBroker.class);
-			eventManager.send(topic, argMap);
+			if (topic != null) {
+				IEventBroker eventManager = context.get(IEventBroker.class);
+				eventManager.send(topic, argMap);
+			}
+		} finally {
+			argMap.clear();
+			spareArgMap.set(argMap);
 		}
 	}
 
@@ -106,6 +135,7 @@ public class UIEventPublisher extends EContentAdapter {
 		String topic = null;
 
 		Object notifier = notification.getNotifier();
+		String eventType = getEventType(notification);
 		Object oldValue = null;
 		Object newValue = null;
 		Object position = null;
@@ -115,7 +145,7 @@ public class UIEventPublisher extends EContentAdapter {
 			appElement = (MApplicationElement) notifier;
 			feature = (EStructuralFeature) notification.getFeature();
 			attributeName = feature.getName();
-			topic = getTopic(feature, getEventType(notification));
+			topic = getTopic(feature, notification.getEventType(), eventType);
 			switch (notification.getEventType()) {
 			case Notification.MOVE:
 				// for MOVE, oldValue is actually the source position
@@ -165,7 +195,7 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.TRANSIENTDATA;
-			topic = getTopic(attributeName, getEventType(notification));
+			topic = getTopic(attributeName, notification.getEventType(), eventType);
 
 			// We need to send MapEntries for the old and new values.
 			oldValue = createMapEntry(key, notification.getOldValue());
@@ -188,7 +218,7 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.PERSISTEDSTATE;
-			topic = getTopic(attributeName, getEventType(notification));
+			topic = getTopic(attributeName, notification.getEventType(), eventType);
 			oldValue = createMapEntry(key, notification.getOldValue());
 			newValue = createMapEntry(key, notification.getNewValue());
 		} else {
@@ -196,7 +226,7 @@ public class UIEventPublisher extends EContentAdapter {
 			return null;
 		}
 
-		argMap.put(EventTags.TYPE, getEventType(notification));
+		argMap.put(EventTags.TYPE, eventType);
 		argMap.put(EventTags.ELEMENT, appElement);
 		argMap.put(EventTags.ATTNAME, attributeName);
 
@@ -269,7 +299,35 @@ public class UIEventPublisher extends EContentAdapter {
 		};
 	}
 
-	private String getTopic(EStructuralFeature eFeature, String type) {
+	private String getTopic(EStructuralFeature eFeature, int notificationType, String type) {
+		String[] topics = featureTopics.computeIfAbsent(eFeature,
+				f -> new String[Notification.EVENT_TYPE_COUNT]);
+		if (notificationType < 0 || notificationType >= topics.length) {
+			return createTopic(eFeature, type);
+		}
+		String topic = topics[notificationType];
+		if (topic == null) {
+			topic = createTopic(eFeature, type);
+			topics[notificationType] = topic;
+		}
+		return topic;
+	}
+
+	private String getTopic(String attributeName, int notificationType, String type) {
+		String[] topics = attributeTopics.computeIfAbsent(attributeName,
+				a -> new String[Notification.EVENT_TYPE_COUNT]);
+		if (notificationType < 0 || notificationType >= topics.length) {
+			return createTopic(attributeName, type);
+		}
+		String topic = topics[notificationType];
+		if (topic == null) {
+			topic = createTopic(attributeName, type);
+			topics[notificationType] = topic;
+		}
+		return topic;
+	}
+
+	private String createTopic(EStructuralFeature eFeature, String type) {
 		EClass eContainingClass = eFeature.getEContainingClass();
 		return UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
 				+ eContainingClass.getEPackage().getName() + UIEvents.TOPIC_SEP
@@ -277,7 +335,7 @@ public class UIEventPublisher extends EContentAdapter {
 				+ UIEvents.TOPIC_SEP + type;
 	}
 
-	private String getTopic(String attributeName, String type) {
+	private String createTopic(String attributeName, String type) {
 		String topicBase = "org/eclipse/e4/ui/model/application/ApplicationElement/"; //$NON-NLS-1$
 		return topicBase + attributeName + UIEvents.TOPIC_SEP + type;
 	}
@@ -38,7 +38,8 @@ import org.eclipse.jface.viewers.Viewer;
  * {@link AbstractTableViewer} or {@link AbstractListViewer} that provides
  * elements of an {@link IObservableList} when set as the viewer's input.
  * Objects of this class listen for changes to the observable list, and will
- * insert and remove viewer elements to reflect observed changes.
+ * insert and remove viewer elements to reflect observed changes. When a large
+ * part of the list changed at once, the viewer is refreshed instead.
  *
  * @param <E> type of the values that are provided by this object TODO: Probably
  *            remove this!
@@ -50,6 +51,12 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 	private ObservableCollectionContentProvider<E> impl;
 
 	private static class Impl<E> extends ObservableCollectionContentProvider<E> implements IListChangeListener<E> {
+		/**
+		 * The minimum number of differences for which the viewer is refreshed as
+		 * a whole rather than updated one element at a time.
+		 */
+		private static final int BULK_UPDATE_THRESHOLD = 32;
+
 		private Viewer viewer;
 
 		Impl(IViewerUpdater<E> explicitViewerUpdater) {
@@ -118,7 +125,38 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			if (isBulkUpdate(event)) {
+				viewer.getControl().setRedraw(false);
+				try {
+					viewer.refresh();
+				} finally {
+					viewer.getControl().setRedraw(true);
+				}
+			} else {
+				updateViewer(event, suspendRedraw[0]);
+			}
+
+			if (realizedElements != null) {
+				realizedElements.addAll(knownElementAdditions);
+			}
+			knownElements.removeAll(knownElementRemovals);
+		}
+
+		/**
+		 * Returns whether the change is applied by refreshing the viewer, which
+		 * is faster than inserting and removing single elements when a large
+		 * part of the list changed, e.g. when it was replaced as a whole.
+		 */
+		private boolean isBulkUpdate(ListChangeEvent<? extends E> event) {
+			if (hasExplicitViewerUpdater()) {
+				return false;
+			}
+			int differences = event.diff.getDifferences().length;
+			return differences >= BULK_UPDATE_THRESHOLD && differences * 2 >= event.getObservableList().size();
+		}
+
+		private void updateViewer(ListChangeEvent<? extends E> event, boolean suspendRedraw) {
+			if (suspendRedraw)
 				viewer.getControl().setRedraw(false);
 			try {
 				event.diff.accept(new ListDiffVisitor<E>() {
@@ -143,14 +181,9 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 					}
 				});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw)
 					viewer.getControl().setRedraw(true);
 			}
-
-			if (realizedElements != null) {
-				realizedElements.addAll(knownElementAdditions);
-			}
-			knownElements.removeAll(knownElementRemovals);
 		}
 	}
 
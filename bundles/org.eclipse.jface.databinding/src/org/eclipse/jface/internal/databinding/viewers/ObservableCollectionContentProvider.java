@@ -222,6 +222,17 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 	 */
 	protected abstract void removeCollectionChangeListener(IObservableCollection<E> collection);
 
+	/**
+	 * Returns whether the viewer is updated by a viewer updater passed by the
+	 * client, which must see every single change.
+	 *
+	 * @return whether the viewer is updated by a viewer updater passed by the
+	 *         client
+	 */
+	protected final boolean hasExplicitViewerUpdater() {
+		return explicitViewerUpdater != null;
+	}
+
 	/**
 	 * Returns whether the viewer is disposed. Collection change listeners in
 	 * subclasses should verify that the viewer is not disposed before sending
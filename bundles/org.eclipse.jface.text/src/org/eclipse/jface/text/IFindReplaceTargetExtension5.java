@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.operation.IRunnableContext;
+
+/**
+ * Extension interface for {@link org.eclipse.jface.text.IFindReplaceTarget} providing a method to
+ * replace all occurrences of a search string in one batch.
+ * <p>
+ * Unlike finding, selecting and replacing every occurrence separately, the target finds all
+ * occurrences first and then applies all replacements at once, recording them as a single
+ * undoable change.
+ * </p>
+ *
+ * @since 3.26
+ */
+public interface IFindReplaceTargetExtension5 {
+
+	/**
+	 * Replaces all occurrences of the given string within the scope of this target, or within the
+	 * whole target if no scope is set. The occurrences are searched in forward direction, starting
+	 * at the beginning of the scope. The search continues after each replacement, so that the
+	 * result is the same as replacing one occurrence after the other.
+	 *
+	 * @param findString the string to find
+	 * @param replaceString the replacement string, a replace pattern if <code>regExSearch</code>
+	 *            is <code>true</code>
+	 * @param caseSensitive <code>true</code> performs a case sensitive search,
+	 *            <code>false</code> an insensitive search
+	 * @param wholeWord if <code>true</code> only occurrences are reported in which the findString
+	 *            stands as a word by itself. Must not be used in combination with
+	 *            <code>regExSearch</code>.
+	 * @param regExSearch if <code>true</code> findString represents a regular expression
+	 * @param runnableContext the context in which the occurrences may be searched, possibly
+	 *            forked and cancelable, or <code>null</code> to search them in the calling thread
+	 * @return the number of replacements
+	 * @throws PatternSyntaxException if <code>regExSearch</code> is <code>true</code> and
+	 *             findString or replaceString is an invalid regular expression
+	 * @throws OperationCanceledException if the search was canceled, in which case nothing was
+	 *             replaced
+	 */
+	int replaceAll(String findString, String replaceString, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IRunnableContext runnableContext);
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+
+/**
+ * Computes the edit replacing all occurrences of a string in a snapshot of a document's content.
+ * <p>
+ * The occurrences are searched and replaced one after the other in a private copy of the
+ * content, so that the replacements have exactly the same effect as replacing one occurrence
+ * after the other in the document itself. The replacements are collected in one
+ * {@link MultiTextEdit} relative to the original content, which can be applied to the document in
+ * one batch. As the copy is private, the edit can be computed in any thread.
+ * </p>
+ *
+ * @since 3.26
+ */
+class ReplaceAllEdit {
+
+	private final Document fSnapshot;
+
+	private final int fRangeOffset;
+
+	private final int fRangeLength;
+
+	private final String fFindString;
+
+	private final String fReplaceString;
+
+	private final boolean fCaseSensitive;
+
+	private final boolean fWholeWord;
+
+	private final boolean fRegExSearch;
+
+	private final MultiTextEdit fEdit= new MultiTextEdit();
+
+	private IRegion fLastReplacement;
+
+	/**
+	 * Creates a new edit computation.
+	 *
+	 * @param content the content of the document
+	 * @param range the range of the content in which to replace the occurrences
+	 * @param findString the string to find
+	 * @param replaceString the replacement string, a replace pattern if <code>regExSearch</code>
+	 *            is <code>true</code>
+	 * @param caseSensitive whether to search case sensitive
+	 * @param wholeWord whether to find whole words only
+	 * @param regExSearch whether <code>findString</code> is a regular expression
+	 */
+	ReplaceAllEdit(String content, IRegion range, String findString, String replaceString, boolean caseSensitive, boolean wholeWord, boolean regExSearch) {
+		fSnapshot= new Document(content);
+		fRangeOffset= range.getOffset();
+		fRangeLength= range.getLength();
+		fFindString= findString;
+		fReplaceString= replaceString;
+		fCaseSensitive= caseSensitive;
+		fWholeWord= wholeWord;
+		fRegExSearch= regExSearch;
+	}
+
+	/**
+	 * Searches all occurrences and computes the replacing edit.
+	 *
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	void computeEdit(IProgressMonitor monitor) {
+		if (monitor != null)
+			monitor.beginTask(JFaceTextMessages.getString("TextViewer.replaceAll.task"), fRangeLength); //$NON-NLS-1$
+		try {
+			FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fSnapshot);
+			int offset= fRangeOffset;
+			int rangeEnd= fRangeOffset + fRangeLength;
+			// the length difference between the snapshot and the original content
+			int delta= 0;
+			// the end of the previous occurrence in the original content
+			int previousEnd= -1;
+			int worked= 0;
+			while (offset <= fSnapshot.getLength()) {
+				if (monitor != null && monitor.isCanceled())
+					throw new OperationCanceledException();
+
+				IRegion match= adapter.find(offset, fFindString, true, fCaseSensitive, fWholeWord, fRegExSearch);
+				if (match == null || match.getOffset() < offset || match.getOffset() + match.getLength() > rangeEnd)
+					break;
+
+				int originalOffset= match.getOffset() - delta;
+				if (match.getLength() == 0 && originalOffset == previousEnd) {
+					// do not replace an empty occurrence right after the previous one again
+					offset= match.getOffset() + 1;
+					continue;
+				}
+
+				IRegion replacement= adapter.replace(fReplaceString, fRegExSearch);
+				String text= fSnapshot.get(replacement.getOffset(), replacement.getLength());
+				fEdit.addChild(new ReplaceEdit(originalOffset, match.getLength(), text));
+				fLastReplacement= replacement;
+				previousEnd= originalOffset + match.getLength();
+
+				int growth= replacement.getLength() - match.getLength();
+				delta+= growth;
+				rangeEnd+= growth;
+				offset= replacement.getOffset() + replacement.getLength();
+
+				if (monitor != null) {
+					int done= Math.min(fRangeLength, offset - delta - fRangeOffset);
+					monitor.worked(done - worked);
+					worked= done;
+				}
+			}
+		} catch (BadLocationException e) {
+			// cannot happen, the offsets are within the snapshot
+			throw new IllegalStateException(e);
+		} finally {
+			if (monitor != null)
+				monitor.done();
+		}
+	}
+
+	/**
+	 * Returns the edit replacing all occurrences, relative to the original content.
+	 *
+	 * @return the edit, without children if there is no occurrence
+	 */
+	MultiTextEdit getEdit() {
+		return fEdit;
+	}
+
+	/**
+	 * Returns the region of the last replacement, relative to the content after applying the
+	 * edit.
+	 *
+	 * @return the region of the last replacement, or <code>null</code> if there is no
+	 *         occurrence
+	 */
+	IRegion getLastReplacement() {
+		return fLastReplacement;
+	}
+}
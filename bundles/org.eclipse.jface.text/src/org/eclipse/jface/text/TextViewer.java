@@ -17,6 +17,7 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -67,11 +68,17 @@ import org.eclipse.swt.widgets.ScrollBar;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.TextEdit;
 
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.internal.text.NonDeletingPositionUpdater;
 import org.eclipse.jface.internal.text.SelectionProcessor;
 import org.eclipse.jface.internal.text.StickyHoverManager;
+import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.util.Geometry;
 import org.eclipse.jface.util.OpenStrategy;
 import org.eclipse.jface.util.Throttler;
@@ -767,7 +774,14 @@ public class TextViewer extends Viewer implements
 	/**
 	 * This viewer's find/replace target.
 	 */
-	class FindReplaceTarget implements IFindReplaceTarget, IFindReplaceTargetExtension, IFindReplaceTargetExtension3, IFindReplaceTargetExtension4 {
+	class FindReplaceTarget implements IFindReplaceTarget, IFindReplaceTargetExtension, IFindReplaceTargetExtension3, IFindReplaceTargetExtension4, IFindReplaceTargetExtension5 {
+
+		/**
+		 * The document length from which on a "Replace All" searches the occurrences in the given
+		 * runnable context rather than in the calling thread.
+		 * @since 3.26
+		 */
+		private static final int FORKED_REPLACE_ALL_THRESHOLD= 100000;
 
 		/** The range for this target. */
 		private FindReplaceRange fRange;
@@ -947,6 +961,72 @@ public class TextViewer extends Viewer implements
 			fScopeHighlightColor= color;
 		}
 
+		@Override
+		public int replaceAll(String findString, String replaceString, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IRunnableContext runnableContext) {
+			IDocument document= TextViewer.this.getDocument();
+			if (document == null)
+				return 0;
+
+			IRegion searchRange= fRange != null ? fRange.getRange() : TextViewer.this.getVisibleRegion();
+			ReplaceAllEdit replaceAll= new ReplaceAllEdit(document.get(), searchRange, findString, replaceString, caseSensitive, wholeWord, regExSearch);
+			long modificationStamp= getModificationStamp(document);
+			if (runnableContext != null && document.getLength() >= FORKED_REPLACE_ALL_THRESHOLD) {
+				try {
+					runnableContext.run(true, true, replaceAll::computeEdit);
+				} catch (InvocationTargetException e) {
+					if (e.getCause() instanceof RuntimeException)
+						throw (RuntimeException) e.getCause();
+					throw new IllegalStateException(e.getCause());
+				} catch (InterruptedException e) {
+					throw new OperationCanceledException();
+				}
+				if (modificationStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || modificationStamp != getModificationStamp(document)) {
+					// the document changed while the occurrences were searched
+					searchRange= fRange != null ? fRange.getRange() : TextViewer.this.getVisibleRegion();
+					replaceAll= new ReplaceAllEdit(document.get(), searchRange, findString, replaceString, caseSensitive, wholeWord, regExSearch);
+					replaceAll.computeEdit(null);
+				}
+			} else {
+				replaceAll.computeEdit(null);
+			}
+
+			MultiTextEdit edit= replaceAll.getEdit();
+			if (!edit.hasChildren())
+				return 0;
+
+			if (fUndoManager != null)
+				fUndoManager.beginCompoundChange();
+			DocumentRewriteSession rewriteSession= null;
+			try {
+				if (document instanceof IDocumentExtension4)
+					rewriteSession= ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+				else
+					TextViewer.this.setRedraw(false);
+				edit.apply(document, TextEdit.NONE);
+			} catch (MalformedTreeException | BadLocationException e) {
+				// cannot happen, the edit was computed on the unchanged document content
+				throw new IllegalStateException(e);
+			} finally {
+				if (document instanceof IDocumentExtension4)
+					((IDocumentExtension4) document).stopRewriteSession(rewriteSession);
+				else
+					TextViewer.this.setRedraw(true);
+				if (fUndoManager != null)
+					fUndoManager.endCompoundChange();
+			}
+
+			IRegion lastReplacement= replaceAll.getLastReplacement();
+			TextViewer.this.setSelectedRange(lastReplacement.getOffset(), lastReplacement.getLength());
+			TextViewer.this.revealRange(lastReplacement.getOffset(), lastReplacement.getLength());
+			return edit.getChildrenSize();
+		}
+
+		private long getModificationStamp(IDocument document) {
+			if (document instanceof IDocumentExtension4)
+				return ((IDocumentExtension4) document).getModificationStamp();
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+
 		@Override
 		public void setReplaceAllMode(boolean replaceAll) {
 
@@ -14,11 +14,14 @@
 
 package org.eclipse.jface.text.presentation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -40,6 +43,7 @@ import org.eclipse.jface.text.ITextListener;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.ITextViewerExtension5;
 import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextEvent;
 import org.eclipse.jface.text.TextPresentation;
@@ -52,9 +56,10 @@ import org.eclipse.jface.text.TypedPosition;
  * Standard implementation of <code>IPresentationReconciler</code>. This
  * implementation assumes that the tasks performed by its presentation damagers
  * and repairers are lightweight and of low cost. This presentation reconciler
- * runs in the UI thread and always repairs the complete damage caused by a
- * document change rather than just the portion overlapping with the viewer's
- * viewport.
+ * runs in the UI thread and by default always repairs the complete damage
+ * caused by a document change rather than just the portion overlapping with the
+ * viewer's viewport. Large damages can be repaired incrementally instead, see
+ * {@link #setIncrementalRepair(boolean)}.
  * <p>
  * Usually, clients instantiate this class and configure it before using it.
  * </p>
@@ -64,6 +69,18 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	/** Prefix of the name of the position category for tracking damage regions. */
 	protected final static String TRACKED_PARTITION= "__reconciler_tracked_partition"; //$NON-NLS-1$
 
+	/**
+	 * The length of a damage from which it is repaired incrementally, if enabled.
+	 * @since 3.26
+	 */
+	private static final int INCREMENTAL_REPAIR_THRESHOLD= 100000;
+	/**
+	 * The approximate length of the damage repaired at once outside the viewport when repairing
+	 * incrementally.
+	 * @since 3.26
+	 */
+	private static final int INCREMENTAL_REPAIR_CHUNK_LENGTH= 20000;
+
 
 	/**
 	 * Internal listener class.
@@ -83,6 +100,7 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 		@Override
 		public void inputDocumentAboutToBeChanged(IDocument oldDocument, IDocument newDocument) {
 			if (oldDocument != null) {
+				clearPendingDamage(oldDocument);
 				try {
 
 					fViewer.removeTextListener(this);
@@ -265,6 +283,21 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	 * @since 3.0
 	 */
 	private String fPartitioning;
+	/**
+	 * Whether large damages are repaired incrementally.
+	 * @since 3.26
+	 */
+	private boolean fIncrementalRepair= false;
+	/**
+	 * The parts of large damages which are not yet repaired, tracked in the document.
+	 * @since 3.26
+	 */
+	private final List<Position> fPendingDamage= new ArrayList<>();
+	/**
+	 * Whether the repair of the pending damage is scheduled.
+	 * @since 3.26
+	 */
+	private boolean fPendingRepairScheduled= false;
 
 	/**
 	 * Creates a new presentation reconciler. There are no damagers or repairers
@@ -298,6 +331,36 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 		return fPartitioning;
 	}
 
+	/**
+	 * Sets whether large damages, like the one caused by setting the viewer's input, are repaired
+	 * incrementally. If so, the lines of a large damage visible in the viewer are repaired right
+	 * away, and the remaining lines are repaired in chunks afterwards in the UI thread, giving
+	 * precedence to the lines which are visible at that time. The part of a damage not yet repaired
+	 * follows the document changes.
+	 * <p>
+	 * Incremental repair is disabled by default. It requires the damagers and repairers to cope with
+	 * damages starting and ending at line boundaries within a partition, as they usually do for
+	 * damages caused by typing.
+	 * </p>
+	 *
+	 * @param incremental <code>true</code> to repair large damages incrementally
+	 * @since 3.26
+	 */
+	public void setIncrementalRepair(boolean incremental) {
+		fIncrementalRepair= incremental;
+	}
+
+	/**
+	 * Returns whether large damages are repaired incrementally.
+	 *
+	 * @return <code>true</code> if large damages are repaired incrementally
+	 * @see #setIncrementalRepair(boolean)
+	 * @since 3.26
+	 */
+	public boolean isIncrementalRepair() {
+		return fIncrementalRepair;
+	}
+
 	/**
 	 * Registers the given presentation damager for a particular content type.
 	 * If there is already a damager registered for this type, the old damager
@@ -546,12 +609,150 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	 */
 	private void processDamage(IRegion damage, IDocument document) {
 		if (damage != null && damage.getLength() > 0) {
+			if (fIncrementalRepair && damage.getLength() >= INCREMENTAL_REPAIR_THRESHOLD && addPendingDamage(damage, document)) {
+				repairPendingDamage(document);
+				return;
+			}
 			TextPresentation p= createPresentation(damage, document);
 			if (p != null)
 				applyTextRegionCollection(p);
 		}
 	}
 
+	/**
+	 * Adds the given damage to the pending damage.
+	 *
+	 * @param damage the damage to be repaired
+	 * @param document the document whose presentation must be repaired
+	 * @return <code>true</code> if the damage was added, <code>false</code> if it must be
+	 *         repaired right away
+	 * @since 3.26
+	 */
+	private boolean addPendingDamage(IRegion damage, IDocument document) {
+		StyledText widget= fViewer.getTextWidget();
+		if (widget == null || widget.isDisposed())
+			return false;
+		if (damage.getOffset() == 0 && damage.getLength() == document.getLength())
+			clearPendingDamage(document);
+		return addPendingPosition(document, damage.getOffset(), damage.getLength());
+	}
+
+	private boolean addPendingPosition(IDocument document, int offset, int length) {
+		Position position= new Position(offset, length);
+		try {
+			document.addPosition(fPositionCategory, position);
+		} catch (BadLocationException | BadPositionCategoryException x) {
+			return false;
+		}
+		fPendingDamage.add(position);
+		return true;
+	}
+
+	private void removePendingPosition(IDocument document, Position position) {
+		fPendingDamage.remove(position);
+		try {
+			document.removePosition(fPositionCategory, position);
+		} catch (BadPositionCategoryException x) {
+			// the document is not connected anymore
+		}
+	}
+
+	/**
+	 * Forgets about the pending damage.
+	 *
+	 * @param document the document whose presentation was to be repaired
+	 * @since 3.26
+	 */
+	private void clearPendingDamage(IDocument document) {
+		for (Position position : new ArrayList<>(fPendingDamage))
+			removePendingPosition(document, position);
+	}
+
+	/**
+	 * Repairs the next part of the pending damage, and schedules the repair of the rest.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @since 3.26
+	 */
+	private void repairPendingDamage(IDocument document) {
+		IRegion region;
+		try {
+			region= removeNextPendingRegion(document);
+		} catch (BadLocationException x) {
+			clearPendingDamage(document);
+			return;
+		}
+		if (region != null && region.getLength() > 0) {
+			TextPresentation p= createPresentation(region, document);
+			if (p != null)
+				applyTextRegionCollection(p);
+		}
+		if (!fPendingDamage.isEmpty() && !fPendingRepairScheduled) {
+			fPendingRepairScheduled= true;
+			StyledText widget= fViewer.getTextWidget();
+			widget.getDisplay().asyncExec(() -> {
+				fPendingRepairScheduled= false;
+				if (!widget.isDisposed() && fViewer.getDocument() == document)
+					repairPendingDamage(document);
+			});
+		}
+	}
+
+	/**
+	 * Removes the region to be repaired next from the pending damage. This is the pending damage
+	 * within the visible lines, if any, or else the first lines of the pending damage.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @return the region to be repaired next, or <code>null</code> if there is no pending damage
+	 * @throws BadLocationException if the pending damage is out of sync with the document
+	 * @since 3.26
+	 */
+	private IRegion removeNextPendingRegion(IDocument document) throws BadLocationException {
+		for (Position position : new ArrayList<>(fPendingDamage)) {
+			if (position.isDeleted() || position.getLength() == 0)
+				removePendingPosition(document, position);
+		}
+		if (fPendingDamage.isEmpty())
+			return null;
+
+		int visibleStart= fViewer.getTopIndexStartOffset();
+		int visibleEnd= fViewer.getBottomIndexEndOffset() + 1;
+		for (Position position : fPendingDamage) {
+			int start= Math.max(position.getOffset(), visibleStart);
+			int end= Math.min(position.getOffset() + position.getLength(), visibleEnd);
+			if (start < end)
+				return removePendingRegion(document, position, start, end);
+		}
+
+		Position first= fPendingDamage.get(0);
+		int start= first.getOffset();
+		IRegion line= document.getLineInformationOfOffset(Math.min(start + INCREMENTAL_REPAIR_CHUNK_LENGTH, document.getLength()));
+		int end= Math.min(first.getOffset() + first.getLength(), line.getOffset() + line.getLength());
+		if (end <= start)
+			end= first.getOffset() + first.getLength();
+		return removePendingRegion(document, first, start, end);
+	}
+
+	/**
+	 * Removes the given range from the given pending damage position.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @param position the pending damage position
+	 * @param start the start of the range
+	 * @param end the end of the range, exclusive
+	 * @return the removed range
+	 * @since 3.26
+	 */
+	private IRegion removePendingRegion(IDocument document, Position position, int start, int end) {
+		int positionEnd= position.getOffset() + position.getLength();
+		removePendingPosition(document, position);
+		if (position.getOffset() < start)
+			addPendingPosition(document, position.getOffset(), start - position.getOffset());
+		if (end < positionEnd)
+			addPendingPosition(document, end, positionEnd - end);
+		return new Region(start, end - start);
+	}
+
 	/**
 	 * Applies the given text presentation to the text viewer the presentation
 	 * reconciler is installed on.
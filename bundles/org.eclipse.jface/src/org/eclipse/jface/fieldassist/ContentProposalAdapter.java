@@ -15,13 +15,18 @@
 package org.eclipse.jface.fieldassist;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.dialogs.PopupDialog;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.FocusAdapter;
@@ -36,6 +41,7 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.ScrollBar;
@@ -570,6 +576,17 @@ public class ContentProposalAdapter {
 		 */
 		private String filterText = EMPTY;
 
+		/*
+		 * The proposals last filtered, the filter text used and the result.
+		 * Used to narrow the last result when the same proposals are filtered
+		 * with a longer filter text.
+		 */
+		private IContentProposal[] lastUnfilteredProposals;
+
+		private String lastFilterText;
+
+		private IContentProposal[] lastFilteredProposals;
+
 		/**
 		 * Constructs a new instance of this popup, specifying the control for
 		 * which this popup is showing content, and how the proposals should be
@@ -868,6 +885,7 @@ public class ContentProposalAdapter {
 			if (infoPopup != null) {
 				infoPopup.close();
 			}
+			cancelProposalRequest();
 			boolean ret = super.close();
 			notifyPopupClosed();
 			return ret;
@@ -946,7 +964,22 @@ public class ContentProposalAdapter {
 		 * caches. Repopulate the popup if it is open.
 		 */
 		private void recomputeProposals(String filterText) {
-			IContentProposal[] allProposals = getProposals();
+			if (proposalProvider instanceof IContentProposalProvider2) {
+				requestProposals(allProposals -> {
+					if (isValid()) {
+						recomputeProposals(allProposals, filterText);
+					}
+				});
+			} else {
+				recomputeProposals(getProposals(), filterText);
+			}
+		}
+
+		/*
+		 * Repopulate the popup with the given proposals, filtered by the
+		 * filter text.
+		 */
+		private void recomputeProposals(IContentProposal[] allProposals, String filterText) {
 			if (allProposals == null)
 				 allProposals = getEmptyProposalArray();
 			// If the non-filtered proposal list is empty, we should
@@ -988,20 +1021,29 @@ public class ContentProposalAdapter {
 				return proposals;
 			}
 
+			// The proposals matching a longer filter text are among those
+			// matching the last one, so only these need to be checked again.
+			IContentProposal[] candidates = proposals;
+			if (proposals == lastUnfilteredProposals && filterString.regionMatches(true, 0, lastFilterText, 0,
+					lastFilterText.length())) {
+				candidates = lastFilteredProposals;
+			}
+
 			// Check each string for a match. Use the string displayed to the
 			// user, not the proposal content.
 			ArrayList<IContentProposal> list = new ArrayList<>();
-			for (IContentProposal proposal : proposals) {
+			for (IContentProposal proposal : candidates) {
 				String string = getString(proposal);
-				if (string.length() >= filterString.length()
-						&& string.substring(0, filterString.length())
-								.equalsIgnoreCase(filterString)) {
+				if (string.regionMatches(true, 0, filterString, 0, filterString.length())) {
 					list.add(proposal);
 				}
 
 			}
-			return list.toArray(new IContentProposal[list
-					.size()]);
+			IContentProposal[] filtered = list.toArray(new IContentProposal[list.size()]);
+			lastUnfilteredProposals = proposals;
+			lastFilterText = filterString;
+			lastFilteredProposals = filtered;
+			return filtered;
 		}
 
 		Listener getTargetControlListener() {
@@ -1182,6 +1224,12 @@ public class ContentProposalAdapter {
 	 */
 	private Point popupSize;
 
+	/*
+	 * The pending request for proposals of an IContentProposalProvider2, or
+	 * null if there is none.
+	 */
+	private CompletableFuture<IContentProposal[]> proposalRequest;
+
 	/*
 	 * The remembered position of the insertion position. Not all controls will
 	 * restore the insertion position if the proposal popup gets focus, so we
@@ -1875,26 +1923,40 @@ public class ContentProposalAdapter {
 			if (popup == null) {
 				// Check whether there are any proposals to be shown.
 				recordCursorPosition(); // must be done before getting proposals
-				IContentProposal[] proposals = getProposals();
-				if (proposals == null)
-					return;
-				if (proposals.length > 0) {
-					if (DEBUG) {
-						System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
-					}
-					recordCursorPosition();
-					popup = new ContentProposalPopup(null, proposals);
-					popup.open();
-					popup.getShell().addDisposeListener(event -> popup = null);
-					internalPopupOpened();
-					notifyPopupOpened();
-				} else if (!autoActivated) {
-					getControl().getDisplay().beep();
+				if (proposalProvider instanceof IContentProposalProvider2) {
+					requestProposals(proposals -> {
+						if (isValid() && popup == null) {
+							openProposalPopup(proposals, autoActivated);
+						}
+					});
+				} else {
+					openProposalPopup(getProposals(), autoActivated);
 				}
 			}
 		}
 	}
 
+	/*
+	 * Open the proposal popup showing the given proposals, if there are any.
+	 */
+	private void openProposalPopup(IContentProposal[] proposals, boolean autoActivated) {
+		if (proposals == null)
+			return;
+		if (proposals.length > 0) {
+			if (DEBUG) {
+				System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
+			}
+			recordCursorPosition();
+			popup = new ContentProposalPopup(null, proposals);
+			popup.open();
+			popup.getShell().addDisposeListener(event -> popup = null);
+			internalPopupOpened();
+			notifyPopupOpened();
+		} else if (!autoActivated) {
+			getControl().getDisplay().beep();
+		}
+	}
+
 	/**
 	 * Open the proposal popup and display the proposals provided by the proposal
 	 * provider. This method returns immediately. That is, it does not wait for a
@@ -2032,6 +2094,60 @@ public class ContentProposalAdapter {
 				position);
 	}
 
+	/*
+	 * Request the proposals from an IContentProposalProvider2, canceling any
+	 * pending request. The consumer is called in the UI thread once the
+	 * proposals are computed, unless the request is canceled in the meantime.
+	 * A request which fails is logged.
+	 */
+	private void requestProposals(Consumer<IContentProposal[]> consumer) {
+		cancelProposalRequest();
+		if (proposalProvider == null || !isValid()) {
+			return;
+		}
+		if (DEBUG) {
+			System.out.println(">>> requesting proposals from provider"); //$NON-NLS-1$
+		}
+		int position = insertionPos;
+		if (position == -1) {
+			position = getControlContentAdapter().getCursorPosition(
+					getControl());
+		}
+		String contents = getControlContentAdapter().getControlContents(
+				getControl());
+		Display display = getControl().getDisplay();
+		CompletableFuture<IContentProposal[]> request = ((IContentProposalProvider2) proposalProvider)
+				.getProposalsAsync(contents, position);
+		proposalRequest = request;
+		request.whenComplete((proposals, exception) -> {
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> {
+					if (proposalRequest != request) {
+						return;
+					}
+					proposalRequest = null;
+					if (exception == null) {
+						consumer.accept(proposals);
+					} else if (!request.isCancelled()) {
+						Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE,
+								"Computing the content proposals failed", exception)); //$NON-NLS-1$
+					}
+				});
+			}
+		});
+	}
+
+	/*
+	 * Cancel the pending request for proposals, if any.
+	 */
+	private void cancelProposalRequest() {
+		CompletableFuture<IContentProposal[]> request = proposalRequest;
+		if (request != null) {
+			proposalRequest = null;
+			request.cancel(true);
+		}
+	}
+
 	/**
 	 * Autoactivation has been triggered. Open the popup using any specified
 	 * delay.
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.fieldassist;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Extends {@link IContentProposalProvider} with the ability to compute the
+ * proposals asynchronously. A {@link ContentProposalAdapter} uses
+ * {@link #getProposalsAsync(String, int)} instead of
+ * {@link #getProposals(String, int)} when its provider implements this
+ * interface, so that computing a large number of proposals does not block the
+ * UI thread.
+ *
+ * @since 3.35
+ */
+public interface IContentProposalProvider2 extends IContentProposalProvider {
+
+	/**
+	 * Starts computing the content proposals for a field and returns a future
+	 * that is completed with them. This method is called in the UI thread and
+	 * should return immediately.
+	 * <p>
+	 * The future is canceled when the proposals are not needed anymore, e.g. when
+	 * the field content changed again before the proposals were computed, or when
+	 * the proposal popup was closed. Implementations should check
+	 * {@link CompletableFuture#isCancelled()} while computing, and stop as soon
+	 * as the future is canceled.
+	 * </p>
+	 *
+	 * @param contents
+	 *            the current contents of the text field
+	 * @param position
+	 *            the current position of the cursor in the contents
+	 *
+	 * @return a future completed with the array of {@link IContentProposal}
+	 *         that represent valid proposals for the field
+	 */
+	CompletableFuture<IContentProposal[]> getProposalsAsync(String contents, int position);
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * A process wide cache of decoded image data, keyed by the source of the data,
+ * typically an image descriptor, and the zoom level.
+ * <p>
+ * The cache is bounded by the number of bytes of the cached pixel data and
+ * evicts the least recently used data first. The data is held by soft
+ * references, so the garbage collector may evict it earlier when memory gets
+ * low. Since {@link ImageData} is mutable, callers always receive a copy of the
+ * cached data.
+ * </p>
+ * <p>
+ * The cache also counts the images created for image descriptors by resource
+ * managers, which is the number of native image handles held by them.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class ImageDataCache {
+
+	/**
+	 * The statistic for the number of requests served from the cache.
+	 */
+	public static final String HITS = "hits"; //$NON-NLS-1$
+
+	/**
+	 * The statistic for the number of requests that had to load the data.
+	 */
+	public static final String MISSES = "misses"; //$NON-NLS-1$
+
+	/**
+	 * The statistic for the number of entries evicted from the cache.
+	 */
+	public static final String EVICTIONS = "evictions"; //$NON-NLS-1$
+
+	/**
+	 * The statistic for the number of entries in the cache.
+	 */
+	public static final String ENTRIES = "entries"; //$NON-NLS-1$
+
+	/**
+	 * The statistic for the number of bytes of pixel data in the cache.
+	 */
+	public static final String BYTES = "bytes"; //$NON-NLS-1$
+
+	/**
+	 * The statistic for the number of images created and not yet destroyed by
+	 * resource managers.
+	 */
+	public static final String NATIVE_IMAGES = "nativeImages"; //$NON-NLS-1$
+
+	private static final long MAX_BYTES = 16 * 1024 * 1024;
+
+	/**
+	 * Marks data that could not be loaded.
+	 */
+	private static final ImageData NO_DATA = new ImageData(1, 1, 1, new PaletteData(new RGB(0, 0, 0)));
+
+	/**
+	 * Implemented by image descriptors that know whether their image data may
+	 * be cached.
+	 */
+	public interface Cacheable {
+		/**
+		 * @return <code>true</code> if the image data of the receiver and of
+		 *         all descriptors equal to it never changes
+		 */
+		boolean isImageDataCacheable();
+	}
+
+	private static final class Key {
+		final Object source;
+
+		final int zoom;
+
+		Key(Object source, int zoom) {
+			this.source = source;
+			this.zoom = zoom;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return zoom == other.zoom && source.equals(other.source);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * source.hashCode() + zoom;
+		}
+	}
+
+	private static final class Entry extends SoftReference<ImageData> {
+		final Key key;
+
+		final int bytes;
+
+		Entry(Key key, ImageData data, ReferenceQueue<ImageData> queue) {
+			super(data, queue);
+			this.key = key;
+			this.bytes = sizeOf(data);
+		}
+	}
+
+	private static final Object lock = new Object();
+
+	/**
+	 * the cached entries, least recently used first
+	 */
+	private static final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+	private static final ReferenceQueue<ImageData> queue = new ReferenceQueue<>();
+
+	private static long bytes;
+
+	private static long hits;
+
+	private static long misses;
+
+	private static long evictions;
+
+	private static final AtomicLong nativeImages = new AtomicLong();
+
+	private ImageDataCache() {
+	}
+
+	/**
+	 * Return a copy of the image data of the given source and zoom level,
+	 * loading it with the given loader if it is not cached.
+	 *
+	 * @param source
+	 *            the source of the data, must implement equals and hashCode
+	 * @param zoom
+	 *            the zoom level
+	 * @param loader
+	 *            loads the data for a zoom level, may return <code>null</code>
+	 * @return a copy of the image data, or <code>null</code> if the loader
+	 *         returned <code>null</code>
+	 */
+	public static ImageData get(Object source, int zoom, IntFunction<ImageData> loader) {
+		Key key = new Key(source, zoom);
+		synchronized (lock) {
+			expungeCollected();
+			Entry entry = entries.get(key);
+			ImageData data = entry == null ? null : entry.get();
+			if (data != null) {
+				hits++;
+				return data == NO_DATA ? null : (ImageData) data.clone();
+			}
+			misses++;
+		}
+		// load outside of the lock, concurrent loads of the same data are rare
+		// and harmless
+		ImageData data = loader.apply(zoom);
+		synchronized (lock) {
+			Entry entry = new Entry(key, data == null ? NO_DATA : data, queue);
+			Entry previous = entries.put(key, entry);
+			if (previous != null) {
+				bytes -= previous.bytes;
+			}
+			bytes += entry.bytes;
+			evict();
+		}
+		return data == null ? null : (ImageData) data.clone();
+	}
+
+	/**
+	 * Whether the image data of the given source never changes, so that it may
+	 * be cached.
+	 *
+	 * @param source
+	 *            the source of the image data, typically an image descriptor
+	 * @return <code>true</code> if the source is {@link Cacheable} and its data
+	 *         may be cached
+	 */
+	public static boolean isCacheable(Object source) {
+		return source instanceof Cacheable cacheable && cacheable.isImageDataCacheable();
+	}
+
+	/**
+	 * Remove all data from the cache.
+	 */
+	public static void clear() {
+		synchronized (lock) {
+			entries.clear();
+			bytes = 0;
+			expungeCollected();
+		}
+	}
+
+	/**
+	 * Record that an image was created for a resource manager.
+	 */
+	public static void imageCreated() {
+		nativeImages.incrementAndGet();
+	}
+
+	/**
+	 * Record that an image created for a resource manager was destroyed.
+	 */
+	public static void imageDestroyed() {
+		nativeImages.decrementAndGet();
+	}
+
+	/**
+	 * @return the current statistics of the cache, by statistic name
+	 */
+	public static Map<String, Long> getStatistics() {
+		Map<String, Long> statistics = new LinkedHashMap<>();
+		synchronized (lock) {
+			expungeCollected();
+			statistics.put(HITS, Long.valueOf(hits));
+			statistics.put(MISSES, Long.valueOf(misses));
+			statistics.put(EVICTIONS, Long.valueOf(evictions));
+			statistics.put(ENTRIES, Long.valueOf(entries.size()));
+			statistics.put(BYTES, Long.valueOf(bytes));
+		}
+		statistics.put(NATIVE_IMAGES, Long.valueOf(nativeImages.get()));
+		return statistics;
+	}
+
+	private static void evict() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (bytes > MAX_BYTES && iterator.hasNext()) {
+			Entry eldest = iterator.next();
+			iterator.remove();
+			bytes -= eldest.bytes;
+			evictions++;
+		}
+	}
+
+	/*
+	 * Remove the entries whose data was collected by the garbage collector.
+	 */
+	private static void expungeCollected() {
+		Reference<? extends ImageData> reference;
+		while ((reference = queue.poll()) != null) {
+			Entry entry = (Entry) reference;
+			if (entries.get(entry.key) == entry) {
+				entries.remove(entry.key);
+				bytes -= entry.bytes;
+				evictions++;
+			}
+		}
+	}
+
+	private static int sizeOf(ImageData data) {
+		int size = data.data == null ? 0 : data.data.length;
+		if (data.alphaData != null) {
+			size += data.alphaData.length;
+		}
+		if (data.maskData != null) {
+			size += data.maskData.length;
+		}
+		return size;
+	}
+}
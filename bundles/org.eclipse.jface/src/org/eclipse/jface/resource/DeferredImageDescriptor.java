@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
@@ -37,7 +38,7 @@ import org.eclipse.swt.graphics.ImageData;
  *
  * @since 3.21
  */
-final class DeferredImageDescriptor extends ImageDescriptor implements IAdaptable {
+final class DeferredImageDescriptor extends ImageDescriptor implements IAdaptable, ImageDataCache.Cacheable {
 
 	/**
 	 * The supplier of the class.
@@ -85,6 +86,12 @@ final class DeferredImageDescriptor extends ImageDescriptor implements IAdaptabl
 		return ImageDescriptor.createFromURL(url).createImage(returnMissingImageOnError, device);
 	}
 
+	@Override
+	public boolean isImageDataCacheable() {
+		URL url = getURL();
+		return url != null && URLImageDescriptor.isBundleURL(url.toExternalForm());
+	}
+
 	private final URL getURL() {
 		if (url == null) {
 			url = supplier.get();
@@ -31,6 +31,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -43,7 +44,7 @@ import org.eclipse.swt.graphics.ImageFileNameProvider;
 /**
  * An image descriptor that loads its image information from a file.
  */
-class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
+class FileImageDescriptor extends ImageDescriptor implements IAdaptable, ImageDataCache.Cacheable {
 
 	private class ImageProvider implements ImageFileNameProvider {
 
@@ -123,6 +124,19 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 	 */
 	@Override
 	public ImageData getImageData(int zoom) {
+		if (isImageDataCacheable()) {
+			return ImageDataCache.get(this, zoom, this::loadImageData);
+		}
+		return loadImageData(zoom);
+	}
+
+	@Override
+	public boolean isImageDataCacheable() {
+		// class resources do not change while the class is loaded
+		return location != null;
+	}
+
+	private ImageData loadImageData(int zoom) {
 		InputStream in = getStream(zoom);
 		if (in != null) {
 			try (BufferedInputStream stream = new BufferedInputStream(in)) {
@@ -18,6 +18,7 @@ import java.net.URI;
 import java.net.URL;
 import java.util.function.Supplier;
 
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
@@ -230,12 +231,14 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 		if (result == null) {
 			throw new DeviceResourceException(this);
 		}
+		ImageDataCache.imageCreated();
 		return result;
 	}
 
 	@Override
 	public void destroyResource(Object previouslyCreatedObject) {
 		((Image)previouslyCreatedObject).dispose();
+		ImageDataCache.imageDestroyed();
 	}
 
 	/**
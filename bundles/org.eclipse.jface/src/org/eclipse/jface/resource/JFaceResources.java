@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.dialogs.PopupDialog;
 import org.eclipse.jface.dialogs.TitleAreaDialog;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.preference.PreferenceDialog;
 import org.eclipse.jface.wizard.Wizard;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
@@ -400,6 +401,25 @@ public class JFaceResources {
 		return getImageRegistry().get(key);
 	}
 
+	/**
+	 * Returns statistics about the images loaded through image descriptors.
+	 * <p>
+	 * The image data decoded from bundle resources and the data composed for
+	 * decoration overlays is shared by all equal image descriptors through a
+	 * bounded cache. The returned map contains the number of cache
+	 * <code>hits</code>, <code>misses</code> and <code>evictions</code>, the
+	 * number of <code>entries</code> and <code>bytes</code> currently in the
+	 * cache, and the number of <code>nativeImages</code> currently allocated
+	 * by resource managers for image descriptors.
+	 * </p>
+	 *
+	 * @return a snapshot of the statistics, by name
+	 * @since 3.35
+	 */
+	public static Map<String, Long> getImageCacheStatistics() {
+		return ImageDataCache.getStatistics();
+	}
+
 	/**
 	 * Returns the image registry for JFace itself.
 	 * <p>
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -45,7 +46,7 @@ import org.eclipse.swt.graphics.ImageFileNameProvider;
  * public API. Use ImageDescriptor#createFromURL to create a descriptor that
  * uses a URL.
  */
-class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
+class URLImageDescriptor extends ImageDescriptor implements IAdaptable, ImageDataCache.Cacheable {
 
 	private static class URLImageFileNameProvider implements ImageFileNameProvider {
 
@@ -136,7 +137,29 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 		return getImageData(url, zoom);
 	}
 
+	@Override
+	public boolean isImageDataCacheable() {
+		return isBundleURL(url);
+	}
+
 	private static ImageData getImageData(String url, int zoom) {
+		if (isBundleURL(url)) {
+			// bundle contents do not change while they are installed
+			return ImageDataCache.get(url, zoom, z -> loadImageData(url, z));
+		}
+		return loadImageData(url, zoom);
+	}
+
+	static boolean isBundleURL(String url) {
+		if (url.startsWith("jar:")) { //$NON-NLS-1$
+			// only an archive inside a bundle is known not to change
+			return isBundleURL(url.substring("jar:".length())); //$NON-NLS-1$
+		}
+		return url.startsWith("platform:/plugin/") || url.startsWith("platform:/fragment/") //$NON-NLS-1$ //$NON-NLS-2$
+				|| url.startsWith("bundleentry:") || url.startsWith("bundleresource:"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static ImageData loadImageData(String url, int zoom) {
 		URL tempURL = getURL(url);
 		if (tempURL != null) {
 			if (zoom == 100) {
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.resource.CompositeImageDescriptor;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.graphics.Image;
@@ -203,6 +204,39 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 		return result;
 	}
 
+	@Override
+	public ImageData getImageData(int zoom) {
+		if (isImageDataCacheable()) {
+			// the composition only depends on immutable descriptors, share it
+			// with equal icons
+			return ImageDataCache.get(this, zoom, super::getImageData);
+		}
+		return super.getImageData(zoom);
+	}
+
+	/**
+	 * Whether the base image and all overlays are descriptors whose image data
+	 * never changes.
+	 */
+	private boolean isImageDataCacheable() {
+		if (!isCacheable(referenceImageOrDescriptor)) {
+			return false;
+		}
+		for (ImageDescriptor overlay : overlays) {
+			if (overlay != null && !isCacheable(overlay)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCacheable(Object descriptor) {
+		if (descriptor instanceof DecorationOverlayIcon icon) {
+			return icon.isImageDataCacheable();
+		}
+		return ImageDataCache.isCacheable(descriptor);
+	}
+
 	@Override
 	protected void drawCompositeImage(int width, int height) {
 		if (overlays.length > IDecoration.UNDERLAY) {
@@ -16,8 +16,11 @@ package org.eclipse.ltk.core.refactoring;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -27,6 +30,9 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.SubMonitor;
 
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCoreMessages;
 import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
 
@@ -44,6 +50,17 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
  */
 public class CompositeChange extends Change {
 
+	/**
+	 * The system property which, if <code>true</code>, makes the text file
+	 * changes among the children be validated concurrently.
+	 */
+	private static final String PARALLEL_VALIDATION= "org.eclipse.ltk.core.refactoring.parallelValidation"; //$NON-NLS-1$
+
+	/**
+	 * The minimum number of text file changes validated concurrently.
+	 */
+	private static final int PARALLEL_VALIDATION_THRESHOLD= 16;
+
 	private String fName;
 	private List<Change> fChanges;
 	private boolean fIsSynthetic;
@@ -213,8 +230,16 @@ public class CompositeChange extends Change {
 	@Override
 	public void initializeValidationData(IProgressMonitor pm) {
 		SubMonitor subMonitor= SubMonitor.convert(pm, fChanges.size());
+		List<TextFileChange> concurrentChanges= getConcurrentlyValidatedChanges(false);
+		if (!concurrentChanges.isEmpty()) {
+			concurrentChanges.parallelStream().forEach(change -> change.initializeValidationData(null));
+			subMonitor.worked(concurrentChanges.size());
+		}
+		Set<Change> concurrent= Collections.newSetFromMap(new IdentityHashMap<>());
+		concurrent.addAll(concurrentChanges);
 		for (Change change : fChanges) {
-			change.initializeValidationData(subMonitor.newChild(1));
+			if (!concurrent.contains(change))
+				change.initializeValidationData(subMonitor.newChild(1));
 		}
 	}
 
@@ -227,6 +252,14 @@ public class CompositeChange extends Change {
 	 * will not receive the <code>isValid</code> call.
 	 * </p>
 	 * <p>
+	 * If the system property
+	 * <code>org.eclipse.ltk.core.refactoring.parallelValidation</code> is
+	 * <code>true</code>, the validation states of many
+	 * {@link TextFileChange text file changes} among the children are checked
+	 * concurrently. The edits of their files are still validated with the
+	 * workspace one child after the other, in the calling thread.
+	 * </p>
+	 * <p>
 	 * Client are allowed to extend this method.
 	 * </p>
 	 */
@@ -235,10 +268,22 @@ public class CompositeChange extends Change {
 		RefactoringStatus result= new RefactoringStatus();
 
 		SubMonitor subMonitor= SubMonitor.convert(pm, fChanges.size());
+		Map<Change, Object> concurrentResults= validateConcurrently();
 		for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext() && !result.hasFatalError();) {
 			Change change= iter.next();
 			if (change.isEnabled()) {
-				result.merge(change.isValid(subMonitor.split(1)));
+				Object concurrentResult= concurrentResults.get(change);
+				if (concurrentResult instanceof CoreException) {
+					throw (CoreException) concurrentResult;
+				} else if (concurrentResult != null) {
+					result.merge((RefactoringStatus) concurrentResult);
+					TextFileChange textFileChange= (TextFileChange) change;
+					if (textFileChange.needsSaving())
+						result.merge(Changes.validateModifiesFiles(new IFile[] { textFileChange.getFile() }));
+					subMonitor.worked(1);
+				} else {
+					result.merge(change.isValid(subMonitor.split(1)));
+				}
 			} else {
 				pm.worked(1);
 			}
@@ -246,6 +291,55 @@ public class CompositeChange extends Change {
 		return result;
 	}
 
+	/**
+	 * Returns the children which are validated concurrently, which are the
+	 * text file changes not overriding the validation methods, if parallel
+	 * validation is enabled and there are enough of them.
+	 *
+	 * @param enabledOnly whether to return only enabled changes
+	 * @return the children validated concurrently
+	 */
+	private List<TextFileChange> getConcurrentlyValidatedChanges(boolean enabledOnly) {
+		if (!Boolean.getBoolean(PARALLEL_VALIDATION) || fChanges.size() < PARALLEL_VALIDATION_THRESHOLD)
+			return Collections.emptyList();
+		List<TextFileChange> result= new ArrayList<>();
+		Set<Change> added= Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Change change : fChanges) {
+			if (change instanceof TextFileChange && ((TextFileChange) change).canValidateConcurrently()
+					&& (!enabledOnly || change.isEnabled()) && added.add(change)) {
+				result.add((TextFileChange) change);
+			}
+		}
+		return result.size() < PARALLEL_VALIDATION_THRESHOLD ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * Validates the children returned by
+	 * {@link #getConcurrentlyValidatedChanges(boolean)} concurrently. The
+	 * workspace is asked to validate the edits of the files afterwards, in
+	 * {@link #isValid(IProgressMonitor)}.
+	 *
+	 * @return the validation status or the {@link CoreException} of every
+	 *         validated child
+	 */
+	private Map<Change, Object> validateConcurrently() {
+		List<TextFileChange> changes= getConcurrentlyValidatedChanges(true);
+		if (changes.isEmpty())
+			return Collections.emptyMap();
+		Object[] results= changes.parallelStream().map(change -> {
+			try {
+				return change.checkValidationState();
+			} catch (CoreException e) {
+				return e;
+			}
+		}).toArray();
+		Map<Change, Object> result= new IdentityHashMap<>();
+		for (int i= 0; i < results.length; i++) {
+			result.put(changes.get(i), results[i]);
+		}
+		return result;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p>
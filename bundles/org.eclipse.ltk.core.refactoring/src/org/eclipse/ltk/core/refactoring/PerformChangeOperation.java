@@ -16,6 +16,7 @@ package org.eclipse.ltk.core.refactoring;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
@@ -61,6 +62,9 @@ import org.eclipse.ltk.internal.core.refactoring.NotCancelableProgressMonitor;
  */
 public class PerformChangeOperation implements IWorkspaceRunnable {
 
+	private static final String PERF_VALIDATE_CHANGE= "org.eclipse.ltk.core.refactoring/perf/changes/isValid"; //$NON-NLS-1$
+	private static final String PERF_PERFORM_CHANGE= "org.eclipse.ltk.core.refactoring/perf/changes/perform"; //$NON-NLS-1$
+
 	private Change fChange;
 	private CreateChangeOperation fCreateChangeOperation;
 	private RefactoringStatus fValidationStatus;
@@ -233,7 +237,10 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 			boolean undoInitialized= false;
 			try {
 				SubMonitor subMon= SubMonitor.convert(monitor, 11);
+				PerformanceStats validateStats= PerformanceStats.getStats(PERF_VALIDATE_CHANGE, fChange.getName());
+				validateStats.startRun();
 				fValidationStatus= fChange.isValid(subMon.newChild(1));
+				validateStats.endRun();
 				if (fValidationStatus.hasFatalError())
 					return;
 				boolean aboutToPerformChangeCalled= false;
@@ -244,7 +251,10 @@ public class PerformChangeOperation implements IWorkspaceRunnable {
 						aboutToPerformChangeCalled= true;
 					}
 					fChangeExecutionFailed= true;
+					PerformanceStats performStats= PerformanceStats.getStats(PERF_PERFORM_CHANGE, fChange.getName());
+					performStats.startRun();
 					fUndoChange= fChange.perform(subMon.newChild(9));
+					performStats.endRun();
 					fChangeExecutionFailed= false;
 					fChangeExecuted= true;
 				} finally {
@@ -91,6 +91,23 @@ public class TextFileChange extends TextChange {
 
 	private volatile ContentStamp fContentStamp;
 
+	/**
+	 * Whether a subclass of <code>TextFileChange</code> keeps the validation
+	 * methods of this class, which can be called concurrently for different
+	 * files.
+	 */
+	private static final ClassValue<Boolean> CONCURRENT_VALIDATION= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("initializeValidationData", IProgressMonitor.class).getDeclaringClass() == TextFileChange.class //$NON-NLS-1$
+						&& type.getMethod("isValid", IProgressMonitor.class).getDeclaringClass() == TextFileChange.class); //$NON-NLS-1$
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
 	/**
 	 * Creates a new <code>TextFileChange</code> for the given file.
 	 *
@@ -186,16 +203,9 @@ public class TextFileChange extends TextChange {
 			monitor= new NullProgressMonitor();
 		try {
 			monitor.beginTask("", 1); //$NON-NLS-1$
-			if (fValidationState == null)
-				throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "TextFileChange has not been initialialized")); //$NON-NLS-1$
-
-			boolean needsSaving= needsSaving();
-			RefactoringStatus result= fValidationState.isValid(needsSaving);
-			if (needsSaving) {
+			RefactoringStatus result= checkValidationState();
+			if (needsSaving()) {
 				result.merge(Changes.validateModifiesFiles(new IFile[] { fFile}));
-			} else {
-				// we are reading the file. So it should be at least in sync
-				result.merge(Changes.checkInSync(new IFile[] { fFile}));
 			}
 			return result;
 		} finally {
@@ -203,6 +213,40 @@ public class TextFileChange extends TextChange {
 		}
 	}
 
+	/**
+	 * Returns whether {@link #initializeValidationData(IProgressMonitor)} and
+	 * {@link #checkValidationState()} can be called concurrently with the ones
+	 * of other text file changes, which is the case unless a subclass overrides
+	 * the validation methods.
+	 *
+	 * @return whether the change can be validated concurrently
+	 */
+	boolean canValidateConcurrently() {
+		return CONCURRENT_VALIDATION.get(getClass()).booleanValue();
+	}
+
+	/**
+	 * Validates this change like {@link #isValid(IProgressMonitor)}, except
+	 * that the file to be modified is not passed to
+	 * {@link org.eclipse.core.resources.IWorkspace#validateEdit(IFile[], Object)},
+	 * so that this can be done concurrently with other text file changes.
+	 *
+	 * @return the validation status
+	 * @throws CoreException if the change has not been initialized
+	 */
+	RefactoringStatus checkValidationState() throws CoreException {
+		if (fValidationState == null)
+			throw new CoreException(new Status(IStatus.ERROR, RefactoringCorePlugin.getPluginId(), "TextFileChange has not been initialialized")); //$NON-NLS-1$
+
+		boolean needsSaving= needsSaving();
+		RefactoringStatus result= fValidationState.isValid(needsSaving);
+		if (!needsSaving) {
+			// we are reading the file. So it should be at least in sync
+			result.merge(Changes.checkInSync(new IFile[] { fFile}));
+		}
+		return result;
+	}
+
 	@Override
 	public void dispose() {
 		if (fValidationState != null) {
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -80,6 +81,93 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 	 */
 	private int fRetainCaseMode;
 
+	/**
+	 * The matches visited by backward searches, or <code>null</code> if there was no backward
+	 * search yet.
+	 */
+	private BackwardMatches fBackwardMatches;
+
+	/**
+	 * The matches of a pattern in a snapshot of the document, in the order in which a backward
+	 * search visits them: the first match in the document, and then the first match starting after
+	 * the start of the previous one. The matches are collected lazily, as far as the backward
+	 * searches so far needed them, so that repeated backward searches in an unchanged document do
+	 * not have to search from the start of the document again.
+	 */
+	private static final class BackwardMatches {
+
+		private final Pattern fPattern;
+		private final long fModificationStamp;
+		private final Matcher fMatcher;
+		private final int fLength;
+		private int[] fStarts= new int[16];
+		private int[] fEnds= new int[16];
+		/** The maximum end offset of the matches up to the same index. */
+		private int[] fMaxEnds= new int[16];
+		private int fSize;
+		private boolean fComplete;
+
+		BackwardMatches(Pattern pattern, long modificationStamp, String content) {
+			fPattern= pattern;
+			fModificationStamp= modificationStamp;
+			fMatcher= pattern.matcher(content);
+			fLength= content.length();
+		}
+
+		boolean isValid(Pattern pattern, long modificationStamp) {
+			return fPattern == pattern && fModificationStamp == modificationStamp;
+		}
+
+		/**
+		 * Returns the index of the match at which a backward search stops, i.e. the match
+		 * preceding the first match which ends after the given offset.
+		 *
+		 * @param maxEnd the maximum end offset of the match
+		 * @return the index of the match, <code>-1</code> if there is none
+		 */
+		int findLast(int maxEnd) {
+			while (!fComplete && (fSize == 0 || fMaxEnds[fSize - 1] <= maxEnd)) {
+				int from= fSize == 0 ? 0 : fStarts[fSize - 1] + 1;
+				if (from <= fLength && fMatcher.find(from))
+					add(fMatcher.start(), fMatcher.end());
+				else
+					fComplete= true;
+			}
+
+			// the first match ending after maxEnd
+			int low= 0;
+			int high= fSize;
+			while (low < high) {
+				int middle= (low + high) >>> 1;
+				if (fMaxEnds[middle] <= maxEnd)
+					low= middle + 1;
+				else
+					high= middle;
+			}
+			return low - 1;
+		}
+
+		int getStart(int index) {
+			return fStarts[index];
+		}
+
+		int getLength(int index) {
+			return fEnds[index] - fStarts[index];
+		}
+
+		private void add(int start, int end) {
+			if (fSize == fStarts.length) {
+				fStarts= Arrays.copyOf(fStarts, 2 * fSize);
+				fEnds= Arrays.copyOf(fEnds, 2 * fSize);
+				fMaxEnds= Arrays.copyOf(fMaxEnds, 2 * fSize);
+			}
+			fStarts[fSize]= start;
+			fEnds[fSize]= end;
+			fMaxEnds[fSize]= fSize == 0 ? end : Math.max(end, fMaxEnds[fSize - 1]);
+			fSize++;
+		}
+	}
+
 	/**
 	 * Constructs a new find replace document adapter.
 	 *
@@ -238,13 +326,25 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 					return null;
 				}
 				// backward search
-				boolean found= fFindReplaceMatcher.find(0);
 				int index= -1;
 				int length= -1;
-				while (found && fFindReplaceMatcher.start() + fFindReplaceMatcher.group().length() <= fFindReplaceMatchOffset + 1) {
-					index= fFindReplaceMatcher.start();
-					length= fFindReplaceMatcher.group().length();
-					found= fFindReplaceMatcher.find(index + 1);
+				long modificationStamp= fDocument instanceof IDocumentExtension4 ? ((IDocumentExtension4) fDocument).getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+				if (modificationStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+					Pattern pattern= fFindReplaceMatcher.pattern();
+					if (fBackwardMatches == null || !fBackwardMatches.isValid(pattern, modificationStamp))
+						fBackwardMatches= new BackwardMatches(pattern, modificationStamp, fDocument.get());
+					int match= fBackwardMatches.findLast(fFindReplaceMatchOffset + 1);
+					if (match > -1) {
+						index= fBackwardMatches.getStart(match);
+						length= fBackwardMatches.getLength(match);
+					}
+				} else {
+					boolean found= fFindReplaceMatcher.find(0);
+					while (found && fFindReplaceMatcher.start() + fFindReplaceMatcher.group().length() <= fFindReplaceMatchOffset + 1) {
+						index= fFindReplaceMatcher.start();
+						length= fFindReplaceMatcher.group().length();
+						found= fFindReplaceMatcher.find(index + 1);
+					}
 				}
 				fFindReplaceMatchOffset= index;
 				if (index > -1) {
@@ -15,6 +15,9 @@
 package org.eclipse.jface.text.rules;
 
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
@@ -57,6 +60,17 @@ public class RuleBasedScanner implements ICharacterScanner, ITokenScanner {
 	/** Internal setting for the un-initialized column cache. */
 	protected static final int UNDEFINED= -1;
 
+	/** The number of characters, starting at 0, for which the rules to evaluate are looked up */
+	private static final int DISPATCH_TABLE_SIZE= 128;
+
+	/** The rules for which {@link #fRulesByFirstChar} was computed */
+	private IRule[] fDispatchedRules;
+	/**
+	 * Per character, the rules which may return a token starting with that character, in their
+	 * original order; <code>null</code> if no rule can be skipped based on the first character
+	 */
+	private IRule[][] fRulesByFirstChar;
+
 	/**
 	 * Creates a new rule based scanner which does not have any rule.
 	 */
@@ -74,6 +88,76 @@ public class RuleBasedScanner implements ICharacterScanner, ITokenScanner {
 			System.arraycopy(rules, 0, fRules, 0, rules.length);
 		} else
 			fRules= null;
+		computeDispatchTable();
+	}
+
+	/**
+	 * Computes which rules have to be evaluated for a token starting with a given character.
+	 * <p>
+	 * Rules of the standard classes which only match a token starting with a known character,
+	 * like {@link PatternRule}s, can be skipped for any other first character, as they would
+	 * return an undefined token without moving the scanner. All other rules are evaluated for
+	 * every character. As the remaining rules are evaluated in their original order, the scanner
+	 * returns the same tokens as when evaluating all rules.
+	 * </p>
+	 */
+	private void computeDispatchTable() {
+		fDispatchedRules= fRules;
+		fRulesByFirstChar= null;
+		if (fRules == null)
+			return;
+
+		char[][] firstChars= new char[fRules.length][];
+		List<IRule> otherRules= new ArrayList<>(fRules.length);
+		for (int i= 0; i < fRules.length; i++) {
+			firstChars[i]= getFirstCharacters(fRules[i]);
+			if (firstChars[i] == null)
+				otherRules.add(fRules[i]);
+		}
+		if (otherRules.size() == fRules.length)
+			return;
+
+		IRule[] rulesForOtherChars= otherRules.toArray(new IRule[otherRules.size()]);
+		IRule[][] rulesByFirstChar= new IRule[DISPATCH_TABLE_SIZE][];
+		List<IRule> candidates= new ArrayList<>(fRules.length);
+		for (char c= 0; c < DISPATCH_TABLE_SIZE; c++) {
+			candidates.clear();
+			boolean hasSpecificRule= false;
+			for (int i= 0; i < fRules.length; i++) {
+				if (firstChars[i] == null) {
+					candidates.add(fRules[i]);
+				} else if (contains(firstChars[i], c)) {
+					candidates.add(fRules[i]);
+					hasSpecificRule= true;
+				}
+			}
+			rulesByFirstChar[c]= hasSpecificRule ? candidates.toArray(new IRule[candidates.size()]) : rulesForOtherChars;
+		}
+		fRulesByFirstChar= rulesByFirstChar;
+	}
+
+	/**
+	 * Returns the characters a token returned by the given rule may start with.
+	 *
+	 * @param rule the rule
+	 * @return the possible first characters, or <code>null</code> if they are not known
+	 */
+	private static char[] getFirstCharacters(IRule rule) {
+		Class<?> ruleClass= rule.getClass();
+		if (ruleClass == PatternRule.class || ruleClass == SingleLineRule.class || ruleClass == MultiLineRule.class
+				|| ruleClass == EndOfLineRule.class || ruleClass == WordPatternRule.class)
+			return new char[] { ((PatternRule) rule).fStartSequence[0] };
+		if (ruleClass == NumberRule.class)
+			return "0123456789".toCharArray(); //$NON-NLS-1$
+		return null;
+	}
+
+	private static boolean contains(char[] chars, char c) {
+		for (char element : chars) {
+			if (element == c)
+				return true;
+		}
+		return false;
 	}
 
 	/**
@@ -166,7 +250,14 @@ public class RuleBasedScanner implements ICharacterScanner, ITokenScanner {
 		fColumn= UNDEFINED;
 
 		if (fRules != null) {
-			for (IRule fRule : fRules) {
+			IRule[] rules= fRules;
+			if (fRulesByFirstChar != null && rules == fDispatchedRules) {
+				int c= read();
+				unread();
+				if (c >= 0 && c < DISPATCH_TABLE_SIZE)
+					rules= fRulesByFirstChar[c];
+			}
+			for (IRule fRule : rules) {
 				IToken token= (fRule.evaluate(this));
 				if (!token.isUndefined())
 					return token;
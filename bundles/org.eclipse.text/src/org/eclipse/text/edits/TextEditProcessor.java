@@ -14,12 +14,16 @@
 package org.eclipse.text.edits;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.TextUtilities;
 
 
 /**
@@ -35,6 +39,19 @@ import org.eclipse.jface.text.IDocument;
  */
 public class TextEditProcessor {
 
+	/**
+	 * The minimum number of edits a {@link MultiTextEdit} must have to be
+	 * applied with a single document change.
+	 */
+	private static final int BULK_EDIT_THRESHOLD= 64;
+
+	/**
+	 * The maximum average number of characters per edit in the region replaced
+	 * by a single document change. Replacing a larger region costs more than
+	 * applying the edits one by one.
+	 */
+	private static final int BULK_EDIT_MAX_CHARACTERS_PER_EDIT= 4096;
+
 	private IDocument fDocument;
 	private TextEdit fRoot;
 	private int fStyle;
@@ -188,6 +205,8 @@ public class TextEditProcessor {
 	//---- execution --------------------------------------------------------------------
 
 	UndoEdit executeDo() throws BadLocationException {
+		if (canExecuteInBulk())
+			return executeDoInBulk();
 		UndoCollector collector= new UndoCollector(fRoot);
 		try {
 			if (createUndo())
@@ -203,6 +222,148 @@ public class TextEditProcessor {
 		return collector.undo;
 	}
 
+	/**
+	 * Returns whether the root edit is a plain {@link MultiTextEdit} with many
+	 * replace, insert and delete edits as children, which can be applied to the
+	 * document with a single change. This is not the case if the document has
+	 * positions in the changed region, which would be updated differently
+	 * than by the single edits.
+	 *
+	 * @return whether the edits can be applied with a single document change
+	 */
+	private boolean canExecuteInBulk() {
+		if (fRoot.getClass() != MultiTextEdit.class || !considerEdit(fRoot))
+			return false;
+		List<TextEdit> children= fRoot.internalGetChildren();
+		if (children == null || children.size() < BULK_EDIT_THRESHOLD)
+			return false;
+		for (TextEdit child : children) {
+			Class<?> type= child.getClass();
+			if (type != ReplaceEdit.class && type != InsertEdit.class && type != DeleteEdit.class)
+				return false;
+			if (child.hasChildren() || !considerEdit(child))
+				return false;
+		}
+		int start= children.get(0).getOffset();
+		int end= children.get(children.size() - 1).getExclusiveEnd();
+		if ((long) (end - start) > (long) children.size() * BULK_EDIT_MAX_CHARACTERS_PER_EDIT)
+			return false;
+		if (isMostOfDocument(start, end))
+			return !hasPositions(0, fDocument.getLength());
+		return !hasPositions(start, end);
+	}
+
+	/**
+	 * Returns whether the region covers most of the document, in which case
+	 * setting the whole content is faster than replacing the region, as the
+	 * line information is computed from scratch.
+	 */
+	private boolean isMostOfDocument(int start, int end) {
+		return end - start >= fDocument.getLength() / 2;
+	}
+
+	/**
+	 * Returns whether the document has positions overlapping the given region.
+	 * The positions of the document partitioners are ignored, as the
+	 * partitioners update them from the document change, however it is made.
+	 */
+	private boolean hasPositions(int start, int end) {
+		String[] partitionerCategories= TextUtilities.computePartitionManagingCategories(fDocument);
+		for (String category : fDocument.getPositionCategories()) {
+			if (partitionerCategories != null && Arrays.asList(partitionerCategories).contains(category))
+				continue;
+			Position[] positions;
+			try {
+				positions= fDocument.getPositions(category);
+			} catch (BadPositionCategoryException e) {
+				return true;
+			}
+			for (Position position : positions) {
+				if (position.getOffset() <= end && position.getOffset() + position.getLength() >= start)
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Applies the children of the root edit with a single document change. The
+	 * edits and the undo edit are updated like by applying the edits one by
+	 * one.
+	 *
+	 * @return the undo edit or <code>null</code>
+	 * @throws BadLocationException if the document cannot be changed
+	 */
+	private UndoEdit executeDoInBulk() throws BadLocationException {
+		List<TextEdit> children= fRoot.internalGetChildren();
+		int start= children.get(0).getOffset();
+		int end= children.get(children.size() - 1).getExclusiveEnd();
+		boolean wholeDocument= isMostOfDocument(start, end);
+		if (wholeDocument) {
+			start= 0;
+			end= fDocument.getLength();
+		}
+		String original= fDocument.get(start, end - start);
+
+		StringBuilder buffer= new StringBuilder(original.length());
+		String[] texts= new String[children.size()];
+		int position= start;
+		for (int i= 0; i < children.size(); i++) {
+			TextEdit child= children.get(i);
+			String text= getText(child);
+			buffer.append(original, position - start, child.getOffset() - start);
+			buffer.append(text);
+			position= child.getExclusiveEnd();
+			texts[i]= text;
+		}
+		buffer.append(original, position - start, end - start);
+
+		UndoEdit undo= null;
+		if (createUndo()) {
+			undo= new UndoEdit();
+			for (int i= children.size() - 1; i >= 0; i--) {
+				TextEdit child= children.get(i);
+				String currentText= original.substring(child.getOffset() - start, child.getExclusiveEnd() - start);
+				undo.add(new ReplaceEdit(child.getOffset(), texts[i].length(), currentText));
+			}
+		}
+		int rootOffset= fRoot.getOffset();
+		int rootLength= fRoot.getLength();
+
+		if (wholeDocument)
+			fDocument.set(buffer.toString());
+		else
+			fDocument.replace(start, end - start, buffer.toString());
+
+		int delta= 0;
+		for (int i= children.size() - 1; i >= 0; i--) {
+			TextEdit child= children.get(i);
+			child.fDelta= texts[i].length() - child.getLength();
+			if (child.fDelta != 0)
+				child.adjustLength(child.fDelta);
+			delta+= child.fDelta;
+			fRoot.childDocumentUpdated();
+		}
+		if (delta != 0)
+			fRoot.adjustLength(delta);
+		fRoot.fDelta= 0;
+
+		if (updateRegions()) {
+			fRoot.traverseRegionUpdating(this, fDocument, 0, false);
+		}
+		if (undo != null)
+			undo.defineRegion(rootOffset, rootLength + delta);
+		return undo;
+	}
+
+	private static String getText(TextEdit edit) {
+		if (edit instanceof ReplaceEdit)
+			return ((ReplaceEdit) edit).getText();
+		if (edit instanceof InsertEdit)
+			return ((InsertEdit) edit).getText();
+		return ""; //$NON-NLS-1$
+	}
+
 	private void computeSources() {
 		for (List<TextEdit> list : fSourceEdits) {
 			if (list != null) {
@@ -277,20 +277,11 @@ public class FormText extends Canvas {
 				ParagraphSegment[] segments = p.getSegments();
 				if (segments.length > 0) {
 					selectableInTheLastRow = false;
-					int pwidth = 0;
 					for (ParagraphSegment segment : segments) {
-						segment.advanceLocator(gc, wHint, loc, resourceTable, false);
-						if (wHint != SWT.DEFAULT) {
-							width = Math.max(width, loc.width);
-						} else {
-							pwidth = Math.max(pwidth, loc.width);
-						}
 						if (segment instanceof IFocusSelectable)
 							selectableInTheLastRow = true;
 					}
-					if (wHint == SWT.DEFAULT)
-						width = Math.max(width, pwidth);
-					loc.y += loc.rowHeight;
+					width = Math.max(width, p.computeSize(gc, wHint, loc, resourceTable));
 				} else {
 					// empty new line
 					loc.y += lineHeight;
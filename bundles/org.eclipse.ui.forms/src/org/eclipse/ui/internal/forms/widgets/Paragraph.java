@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.Vector;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
@@ -35,6 +37,21 @@ public class Paragraph {
 
 	private boolean addVerticalSpace = true;
 
+	/**
+	 * The font, width hint and result of the last {@link #computeSize} call,
+	 * <code>sizeFont</code> being <code>null</code> if there is none.
+	 */
+	private Font sizeFont;
+
+	private int sizeWHint;
+
+	private int sizeWidth;
+
+	private int sizeHeight;
+
+	/** Whether the text had to be wrapped to fit into the width hint */
+	private boolean sizeWrapped;
+
 	public Paragraph(boolean addVerticalSpace) {
 		this.addVerticalSpace = addVerticalSpace;
 	}
@@ -58,6 +75,7 @@ public class Paragraph {
 		if (segments == null)
 			segments = new Vector<>();
 		segments.add(segment);
+		sizeFont = null;
 	}
 
 	public void parseRegularText(String text, boolean expandURLs, boolean wrapAllowed,
@@ -147,6 +165,66 @@ public class Paragraph {
 		loc.rowCounter = 0;
 	}
 
+	/**
+	 * Advances the locator over the segments of this paragraph for the given
+	 * width hint, and returns the width of the paragraph.
+	 * <p>
+	 * The size of paragraphs made of text only is cached. It is reused when
+	 * the width hint is the same, or when the text did not need to be wrapped
+	 * and still fits into the new width hint, so that only the paragraphs
+	 * affected by a width change are wrapped again.
+	 * </p>
+	 *
+	 * @param gc
+	 *            the GC, with the default font of the text set
+	 * @param wHint
+	 *            the width hint, or {@link SWT#DEFAULT}
+	 * @param loc
+	 *            the locator, at the start of the paragraph
+	 * @param resourceTable
+	 *            the fonts, colors and images of the text
+	 * @return the width of the paragraph
+	 */
+	public int computeSize(GC gc, int wHint, Locator loc, Hashtable<String, Object> resourceTable) {
+		ParagraphSegment[] segments = getSegments();
+		boolean cacheable = isTextOnly(segments);
+		Font font = gc.getFont();
+		if (cacheable && font.equals(sizeFont) && (wHint == sizeWHint || !sizeWrapped
+				&& wHint != SWT.DEFAULT && sizeWHint != SWT.DEFAULT && sizeWidth + 1 <= wHint)) {
+			loc.y += sizeHeight;
+			return sizeWidth;
+		}
+		int y = loc.y;
+		int width = 0;
+		boolean wrapped = false;
+		for (ParagraphSegment segment : segments) {
+			if (segment.advanceLocator(gc, wHint, loc, resourceTable, false) && !(segment instanceof BreakSegment))
+				wrapped = true;
+			width = Math.max(width, loc.width);
+		}
+		loc.y += loc.rowHeight;
+		if (cacheable) {
+			sizeFont = font;
+			sizeWHint = wHint;
+			sizeWidth = width;
+			sizeHeight = loc.y - y;
+			sizeWrapped = wrapped;
+		}
+		return width;
+	}
+
+	/**
+	 * Returns whether the size of the given segments only depends on their text
+	 * and fonts, and not on images or controls.
+	 */
+	private static boolean isTextOnly(ParagraphSegment[] segments) {
+		for (ParagraphSegment segment : segments) {
+			if (!(segment instanceof TextSegment) && !(segment instanceof BreakSegment))
+				return false;
+		}
+		return true;
+	}
+
 	public void layout(GC gc, int width, Locator loc, int lineHeight,
 			Hashtable<String, Object> resourceTable, IHyperlinkSegment selectedLink) {
 		ParagraphSegment[] segments = getSegments();
@@ -225,6 +303,7 @@ public class Paragraph {
 		return null;
 	}
 	public void clearCache(String fontId) {
+		sizeFont = null;
 		if (segments != null) {
 			for (ParagraphSegment segment : segments) {
 				segment.clearCache(fontId);
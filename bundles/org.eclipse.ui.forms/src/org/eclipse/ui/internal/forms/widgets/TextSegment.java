@@ -46,11 +46,22 @@ public class TextSegment extends ParagraphSegment {
 
 	private TextFragment[] textFragments;
 
+	/** The font the {@link #textFragments} were measured with */
+	private Font textFragmentsFont;
+
+	/** The extent of the whole text, measured with {@link #textExtentFont} */
+	private Point textExtent;
+
+	private Font textExtentFont;
+
 	class AreaRectangle {
 		Rectangle rect;
 
 		int from, to;
 
+		/** The extent of the text of this rectangle, computed when first painted */
+		private Point extent;
+
 		public AreaRectangle(Rectangle rect, int from, int to) {
 			this.rect = rect;
 			this.from = from;
@@ -72,6 +83,17 @@ public class TextSegment extends ParagraphSegment {
 				return TextSegment.this.getText().substring(from);
 			return TextSegment.this.getText().substring(from, to);
 		}
+
+		/**
+		 * Returns the extent of the text of this rectangle. The rectangle is
+		 * created by a layout, which is redone when the fonts change, so the
+		 * extent is measured only once.
+		 */
+		public Point getExtent(GC gc) {
+			if (extent == null)
+				extent = gc.textExtent(getText());
+			return extent;
+		}
 	}
 
 	static class SelectionRange {
@@ -151,6 +173,7 @@ public class TextSegment extends ParagraphSegment {
 	void setText(String text) {
 		this.text = cleanup(text);
 		textFragments = null;
+		textExtent = null;
 	}
 
 	void setColorId(String colorId) {
@@ -160,6 +183,7 @@ public class TextSegment extends ParagraphSegment {
 	void setFontId(String fontId) {
 		this.fontId = fontId;
 		textFragments = null;
+		textExtent = null;
 	}
 
 	@Override
@@ -237,7 +261,7 @@ public class TextSegment extends ParagraphSegment {
 		boolean newLine = false;
 
 		if (wHint == SWT.DEFAULT || !wrapAllowed) {
-			Point extent = gc.textExtent(text);
+			Point extent = getTextExtent(gc);
 			int totalExtent = locator.x+extent.x;
 			if (isSelectable())
 				totalExtent+=1;
@@ -259,6 +283,9 @@ public class TextSegment extends ParagraphSegment {
 			locator.width = locator.x;
 			locator.rowHeight = Math.max(locator.rowHeight, extent.y);
 			locator.leading = Math.max(locator.leading, fm.getLeading());
+			if (oldFont != null) {
+				gc.setFont(oldFont);
+			}
 			return newLine;
 		}
 
@@ -311,7 +338,7 @@ public class TextSegment extends ParagraphSegment {
 
 	private void layoutWithoutWrapping(GC gc, int width, Locator locator,
 			boolean selected, FontMetrics fm, int lineHeight, int descent) {
-		Point extent = gc.textExtent(text);
+		Point extent = getTextExtent(gc);
 		int ewidth = extent.x;
 		if (isSelectable())
 			ewidth += 1;
@@ -401,7 +428,7 @@ public class TextSegment extends ParagraphSegment {
 		for (AreaRectangle areaRectangle : areaRectangles) {
 			Rectangle rect = areaRectangle.rect;
 			String text = areaRectangle.getText();
-			Point extent = gc.textExtent(text);
+			Point extent = areaRectangle.getExtent(gc);
 			int textX = rect.x + (isSelectable()?1:0);
 			int lineY = rect.y + lineHeight - descent + 1;
 			paintString(gc, text, extent.x, textX, rect.y, lineY, selData,
@@ -448,7 +475,7 @@ public class TextSegment extends ParagraphSegment {
 		for (AreaRectangle areaRectangle : areaRectangles) {
 			Rectangle rect = areaRectangle.rect;
 			String text = areaRectangle.getText();
-			Point extent = gc.textExtent(text);
+			Point extent = areaRectangle.getExtent(gc);
 			computeSelection(gc, text, extent.x, selData,
 					rect);
 		}
@@ -676,9 +703,24 @@ public class TextSegment extends ParagraphSegment {
 		}
 	}
 
+	/**
+	 * Returns the extent of the whole text in the current font of the GC,
+	 * measuring it only if the text or the font changed.
+	 */
+	private Point getTextExtent(GC gc) {
+		Font font = gc.getFont();
+		if (textExtent == null || !font.equals(textExtentFont)) {
+			textExtent = gc.textExtent(text);
+			textExtentFont = font;
+		}
+		return textExtent;
+	}
+
 	private void computeTextFragments(GC gc) {
-		if (textFragments != null)
+		Font font = gc.getFont();
+		if (textFragments != null && font.equals(textFragmentsFont))
 			return;
+		textFragmentsFont = font;
 		ArrayList<TextFragment> list = new ArrayList<>();
 		BreakIterator wb = BreakIterator.getLineInstance();
 		wb.setText(getText());
@@ -697,9 +739,12 @@ public class TextSegment extends ParagraphSegment {
 
 	@Override
 	public void clearCache(String fontId) {
-		if (fontId==null && (this.fontId==null||this.fontId.equals(FormTextModel.BOLD_FONT_ID)))
+		if (fontId==null && (this.fontId==null||this.fontId.equals(FormTextModel.BOLD_FONT_ID))) {
 			textFragments = null;
-		else if (fontId!=null && this.fontId!=null && fontId.equals(this.fontId))
+			textExtent = null;
+		} else if (fontId!=null && this.fontId!=null && fontId.equals(this.fontId)) {
 			textFragments = null;
+			textExtent = null;
+		}
 	}
 }
@@ -15,13 +15,14 @@
 package org.eclipse.ui.internal.genericeditor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.CompletionProposal;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
@@ -39,57 +40,78 @@ import org.eclipse.jface.text.contentassist.IContextInformationValidator;
  *
  * E.g. if your file contains "this is a t^" and you ask for auto-completion at
  * ^ you will get 'this' as an alternative.
+ *
+ * Only the words starting with the prefix are collected from the text, rather
+ * than splitting the whole text into words.
  */
 public class DefaultContentAssistProcessor implements IContentAssistProcessor {
 
-	private static final String NON_ALPHANUMERIC_LAST_REGEXP = "[^\\w](?!.*[^\\w])"; //$NON-NLS-1$
-	private static final String NON_ALPHANUMERIC_REGEXP = "[^a-zA-Z0-9]+"; //$NON-NLS-1$
-	private static final Pattern NON_ALPHANUMERIC_LAST_PATTERN = Pattern.compile(NON_ALPHANUMERIC_LAST_REGEXP);
+	private static final String ALPHANUMERIC_REGEXP = "[a-zA-Z0-9]*"; //$NON-NLS-1$
+	private static final String WORD_START_REGEXP = "(?<![a-zA-Z0-9])"; //$NON-NLS-1$
+	private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile(ALPHANUMERIC_REGEXP);
 
 
 	@Override
 	public ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
-		String text = viewer.getDocument().get();
-		//wordStartIndex is the index of the last non-alphanumeric before 'offset' in text 'text'
-		int wordStartIndex = findStartingPoint(text, offset);
-		if (wordStartIndex < 0) {
-			// not possible
+		IDocument document = viewer.getDocument();
+		//wordStartIndex is the index of the last non-alphanumeric before 'offset' in the document
+		int wordStartIndex;
+		String prefix;
+		try {
+			wordStartIndex = findStartingPoint(document, offset);
+			if (wordStartIndex < 0) {
+				// not possible
+				return null;
+			}
+			prefix = document.get(wordStartIndex, offset - wordStartIndex);
+		} catch (BadLocationException e) {
 			return null;
 		}
-		String[] tokens = text.split(NON_ALPHANUMERIC_REGEXP);
 
-		// remove duplicates
-		Set<String> tokenSet = new HashSet<>(Arrays.asList(tokens));
+		if (!ALPHANUMERIC_PATTERN.matcher(prefix).matches()) {
+			// words are alphanumeric only, none starts with this prefix
+			return new ICompletionProposal[0];
+		}
 
-		String prefix = text.substring(wordStartIndex, offset);
+		// the words starting with the prefix, without duplicates
+		Set<String> tokenSet = new HashSet<>();
+		Matcher m = Pattern.compile(WORD_START_REGEXP + Pattern.quote(prefix) + ALPHANUMERIC_REGEXP).matcher(document.get());
+		while (m.find()) {
+			tokenSet.add(m.group());
+		}
 
 		List<ICompletionProposal> proposals = new ArrayList<>();
 		for (String token : tokenSet) {
-			if ((token==null)||(token.length()<2)) {
+			if (token.length() < 2) {
 				continue;
 			}
 			if (token.equals(prefix)) {
 				continue;
 			}
-			if (token.startsWith(prefix)) {
-				String completion = token.substring(prefix.length());
-				CompletionProposal proposal = new CompletionProposal(completion, offset, 0,
-						completion.length(), null,  token, null, null);
-				proposals.add(proposal);
-			}
+			String completion = token.substring(prefix.length());
+			CompletionProposal proposal = new CompletionProposal(completion, offset, 0,
+					completion.length(), null,  token, null, null);
+			proposals.add(proposal);
 		}
 		return proposals.toArray(new ICompletionProposal[proposals.size()]);
 	}
 
-	private static int findStartingPoint(String text, int offset) {
-		String substring = text.substring(0, offset);
-		Matcher m = NON_ALPHANUMERIC_LAST_PATTERN.matcher(substring);
-		if (m.find()) {
-			return m.end();
+	private static int findStartingPoint(IDocument document, int offset) throws BadLocationException {
+		for (int i = offset - 1; i >= 0; i--) {
+			if (!isWordCharacter(document.getChar(i))) {
+				return i + 1;
+			}
 		}
 		return -1;
 	}
 
+	/**
+	 * Returns whether the character is matched by the <code>\w</code> regular expression.
+	 */
+	private static boolean isWordCharacter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+	}
+
 	@Override
 	public IContextInformation[] computeContextInformation(ITextViewer viewer, int offset) {
 		return null;
@@ -1122,6 +1122,16 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 					&& (this.showDerived || !resource.isDerived());
 		}
 
+		/**
+		 * Returns <code>true</code> for this class, whose matching does not modify
+		 * any state, and <code>false</code> for subclasses, which may override the
+		 * matching.
+		 */
+		@Override
+		public boolean isParallelMatchingSupported() {
+			return getClass() == ResourceFilter.class;
+		}
+
 		private boolean matchName(IResource resource) {
 			String name = resource.getName();
 			if (nameMatches(name)) {
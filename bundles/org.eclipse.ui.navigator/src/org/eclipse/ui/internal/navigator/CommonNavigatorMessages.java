@@ -36,6 +36,9 @@ public class CommonNavigatorMessages extends NLS {
 	/** */
 	public static String Exception_Invoking_Extension;
 
+	/** */
+	public static String ParallelChildrenCollector_Computing_children;
+
 	/** */
 	public static String NavigatorViewerDescriptor_Popup_Menu_Overridden;
 
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.ITreePathContentProvider;
 import org.eclipse.jface.viewers.TreePath;
@@ -74,6 +75,12 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private Viewer viewer;
 
+	private final boolean computeChildrenInParallel;
+
+	private ParallelChildrenCollector parallelChildren;
+
+	private boolean expandingLazily;
+
 	/**
 	 * <p>
 	 * Creates a cached {@link NavigatorContentService}&nbsp;from the given
@@ -104,14 +111,48 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		contentService = aContentService;
 		INavigatorViewerDescriptor vDesc = contentService.getViewerDescriptor();
 		enforceHasChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_ENFORCE_HAS_CHILDREN);
+		computeChildrenInParallel = vDesc
+				.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_COMPUTE_CHILDREN_IN_PARALLEL);
 	}
 
 	@Override
 	public void inputChanged(Viewer aViewer, Object anOldInput, Object aNewInput) {
 		viewer = aViewer;
+		if (parallelChildren != null) {
+			if (parallelChildren.getViewer() != aViewer) {
+				parallelChildren.reset();
+				parallelChildren = null;
+			} else {
+				parallelChildren.reset();
+			}
+		}
+		if (parallelChildren == null && computeChildrenInParallel && aViewer instanceof AbstractTreeViewer) {
+			parallelChildren = new ParallelChildrenCollector(this, (AbstractTreeViewer) aViewer);
+		}
 		contentService.updateService(aViewer, anOldInput, aNewInput);
 	}
 
+	/**
+	 * Run the creation of the children of an element the user expanded in the
+	 * viewer. If the viewer is configured to compute children in parallel, the
+	 * children requested while the expansion runs may be returned before all
+	 * content extensions provided theirs; the viewer is updated with the
+	 * remaining children as they are computed. All other requests for children
+	 * return the complete children.
+	 *
+	 * @param expansion
+	 *            creates the children of the expanded element in the viewer
+	 */
+	public void runLazyExpansion(Runnable expansion) {
+		boolean wasExpandingLazily = expandingLazily;
+		expandingLazily = true;
+		try {
+			expansion.run();
+		} finally {
+			expandingLazily = wasExpandingLazily;
+		}
+	}
+
 	@Override
 	public Object[] getElements(Object anInputElement) {
 		Set rootContentExtensions = contentService.findRootContentExtensions(anInputElement);
@@ -138,50 +179,99 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		if (enabledExtensions.isEmpty()) {
 			return NO_CHILDREN;
 		}
+		if (!elements && parallelChildren != null && expandingLazily) {
+			List<NavigatorContentExtension> firstClassExtensions = new ArrayList<>(enabledExtensions.size());
+			for (Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
+				NavigatorContentExtension extension = (NavigatorContentExtension) itr.next();
+				if (!isOverridingExtensionInSet(extension.getDescriptor(), enabledExtensions)) {
+					firstClassExtensions.add(extension);
+				}
+			}
+			if (firstClassExtensions.size() > 1) {
+				return parallelChildren.getChildren(aParentElement, aParentElementOrPath, enabledExtensions,
+						firstClassExtensions);
+			}
+		} else if (!elements && parallelChildren != null) {
+			// the complete children are computed here, so the viewer must not
+			// be updated with the result of an earlier expansion any more
+			parallelChildren.cancel(aParentElementOrPath);
+		}
 		final Set finalSet = new LinkedHashSet();
 		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
 
-		for (final Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
-			SafeRunner.run(new NavigatorSafeRunnable() {
-				NavigatorContentExtension foundExtension = (NavigatorContentExtension) itr.next();
-				Object[] contributedChildren = null;
-				NavigatorContentExtension[] overridingExtensions;
+		for (Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
+			NavigatorContentExtension foundExtension = (NavigatorContentExtension) itr.next();
+			if (collectChildren(foundExtension, aParentElement, aParentElementOrPath, enabledExtensions, elements,
+					localSet)) {
+				finalSet.addAll(localSet);
+			}
+		}
 
-				@Override
-				public void run() throws Exception {
-					if (!isOverridingExtensionInSet(foundExtension.getDescriptor(),
-							enabledExtensions)) {
-						if (elements)
-							contributedChildren = foundExtension.internalGetContentProvider()
-									.getElements(aParentElementOrPath);
-						else
-							contributedChildren = foundExtension.internalGetContentProvider()
-									.getChildren(aParentElementOrPath);
-						overridingExtensions = foundExtension
-								.getOverridingExtensionsForTriggerPoint(aParentElement);
-						INavigatorContentDescriptor foundDescriptor = foundExtension
-								.getDescriptor();
-						localSet.setContributor(foundDescriptor, foundDescriptor);
-						localSet.setContents(contributedChildren);
+		return finalSet.toArray();
+	}
 
-						if (overridingExtensions.length > 0) {
-							pipelineChildren(aParentElement, overridingExtensions, foundDescriptor,
-									localSet, elements);
-						}
-						finalSet.addAll(localSet);
-					}
+	/**
+	 * Query the extension for the children of the parent and pipe them through
+	 * the overriding extensions, unless the extension overrides another
+	 * extension in the set and is therefore invoked as part of its pipeline.
+	 *
+	 * @return true if the children of the extension have been collected in
+	 *         <code>aLocalSet</code>
+	 */
+	boolean collectChildren(final NavigatorContentExtension foundExtension, final Object aParentElement,
+			final Object aParentElementOrPath, final Set enabledExtensions, final boolean elements,
+			final ContributorTrackingSet aLocalSet) {
+		final boolean[] collected = new boolean[1];
+		SafeRunner.run(new NavigatorSafeRunnable() {
+			Object[] contributedChildren = null;
+
+			@Override
+			public void run() throws Exception {
+				if (!isOverridingExtensionInSet(foundExtension.getDescriptor(),
+						enabledExtensions)) {
+					if (elements)
+						contributedChildren = foundExtension.internalGetContentProvider()
+								.getElements(aParentElementOrPath);
+					else
+						contributedChildren = foundExtension.internalGetContentProvider()
+								.getChildren(aParentElementOrPath);
+					addChildren(foundExtension, aParentElement, contributedChildren, elements, aLocalSet);
+					collected[0] = true;
 				}
+			}
 
-				@Override
-				public void handleException(Throwable e) {
-					NavigatorPlugin.logError(0, NLS.bind(
-							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
-									foundExtension.getDescriptor().getId(), aParentElement }), e);
-				}
-			});
+			@Override
+			public void handleException(Throwable e) {
+				logExtensionError(foundExtension, aParentElement, e);
+			}
+		});
+		return collected[0];
+	}
+
+	/**
+	 * Add the children a first class extension provided for the parent to the
+	 * set and pipe them through the overriding extensions.
+	 */
+	void addChildren(NavigatorContentExtension foundExtension, Object aParentElement, Object[] contributedChildren,
+			boolean elements, ContributorTrackingSet aLocalSet) {
+		NavigatorContentExtension[] overridingExtensions = foundExtension
+				.getOverridingExtensionsForTriggerPoint(aParentElement);
+		INavigatorContentDescriptor foundDescriptor = foundExtension.getDescriptor();
+		aLocalSet.setContributor(foundDescriptor, foundDescriptor);
+		aLocalSet.setContents(contributedChildren);
+
+		if (overridingExtensions.length > 0) {
+			pipelineChildren(aParentElement, overridingExtensions, foundDescriptor, aLocalSet, elements);
 		}
+	}
 
-		return finalSet.toArray();
+	static void logExtensionError(NavigatorContentExtension extension, Object aParentElement, Throwable e) {
+		NavigatorPlugin.logError(0, NLS.bind(CommonNavigatorMessages.Exception_Invoking_Extension,
+				new Object[] { extension.getDescriptor().getId(), aParentElement }), e);
+	}
+
+	NavigatorContentService getContentService() {
+		return contentService;
 	}
 
 	/**
@@ -481,6 +571,10 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 	 */
 	@Override
 	public void dispose() {
+		if (parallelChildren != null) {
+			parallelChildren.reset();
+			parallelChildren = null;
+		}
 		if (disposeContentService) {
 			contentService.dispose();
 		}
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.navigator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
+
+/**
+ * <p>
+ * Computes the children of an element for a tree viewer with several first
+ * class content extensions in parallel. It is only used for the children of an
+ * element the user expanded, see
+ * {@link NavigatorContentServiceContentProvider#runLazyExpansion(Runnable)};
+ * all other callers get the complete children synchronously.
+ * </p>
+ * <p>
+ * The children of the extension with the highest priority are computed on the
+ * calling thread and returned right away. Only the
+ * {@link ITreeContentProvider#getChildren(Object)} calls of the other
+ * extensions are run in parallel jobs. Their content providers are initialized
+ * beforehand, and their results are piped through the overriding extensions
+ * and merged on the UI thread, in the order of their priority regardless of
+ * the order in which the jobs complete. Each result is added to the viewer as
+ * soon as all extensions with a higher priority have been merged.
+ * </p>
+ * <p>
+ * The content providers of the extensions must be thread safe to be used with
+ * this collector. All methods must be called on the UI thread.
+ * </p>
+ */
+final class ParallelChildrenCollector {
+
+	private final NavigatorContentServiceContentProvider contentProvider;
+
+	private final AbstractTreeViewer viewer;
+
+	/**
+	 * The computations in progress by parent element or path.
+	 */
+	private final Map<Object, Computation> computations = new HashMap<>();
+
+	private final class Computation {
+
+		final Object parent;
+
+		final Object parentOrPath;
+
+		final NavigatorContentExtension[] extensions;
+
+		/**
+		 * the initialized content providers of the extensions, <code>null</code>
+		 * for extensions that failed to initialize
+		 */
+		final ITreeContentProvider[] providers;
+
+		/**
+		 * the children provided by the extensions, <code>null</code> if an
+		 * extension failed
+		 */
+		final Object[][] children;
+
+		final boolean[] completed;
+
+		/**
+		 * the children shown so far
+		 */
+		final Set delivered = new LinkedHashSet();
+
+		final JobGroup group;
+
+		int nextToDeliver;
+
+		volatile boolean canceled;
+
+		Computation(Object parent, Object parentOrPath, List<NavigatorContentExtension> extensions) {
+			this.parent = parent;
+			this.parentOrPath = parentOrPath;
+			this.extensions = extensions.toArray(new NavigatorContentExtension[extensions.size()]);
+			this.providers = new ITreeContentProvider[this.extensions.length];
+			this.children = new Object[this.extensions.length][];
+			this.completed = new boolean[this.extensions.length];
+			String name = NLS.bind(CommonNavigatorMessages.ParallelChildrenCollector_Computing_children, parent);
+			this.group = new JobGroup(name,
+					Math.min(this.extensions.length, Runtime.getRuntime().availableProcessors()),
+					this.extensions.length);
+			// initializing a content provider notifies it of the viewer input,
+			// which has to happen on the UI thread
+			for (int i = 0; i < this.extensions.length; i++) {
+				final int index = i;
+				SafeRunner.run(new NavigatorSafeRunnable() {
+					@Override
+					public void run() throws Exception {
+						providers[index] = Computation.this.extensions[index].internalGetContentProvider();
+					}
+
+					@Override
+					public void handleException(Throwable e) {
+						NavigatorContentServiceContentProvider.logExtensionError(Computation.this.extensions[index],
+								parent, e);
+					}
+				});
+			}
+		}
+
+		void schedule() {
+			Display display = viewer.getControl().getDisplay();
+			for (int i = 0; i < extensions.length; i++) {
+				final int index = i;
+				if (providers[index] == null) {
+					display.asyncExec(() -> completed(index));
+					continue;
+				}
+				Job job = new Job(group.getName()) {
+					@Override
+					protected IStatus run(IProgressMonitor monitor) {
+						if (canceled || monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						SafeRunner.run(new NavigatorSafeRunnable() {
+							@Override
+							public void run() throws Exception {
+								children[index] = providers[index].getChildren(parentOrPath);
+							}
+
+							@Override
+							public void handleException(Throwable e) {
+								NavigatorContentServiceContentProvider.logExtensionError(extensions[index], parent,
+										e);
+							}
+						});
+						if (!canceled && !display.isDisposed()) {
+							display.asyncExec(() -> completed(index));
+						}
+						return Status.OK_STATUS;
+					}
+				};
+				job.setSystem(true);
+				job.setJobGroup(group);
+				job.schedule();
+			}
+		}
+
+		void cancel() {
+			canceled = true;
+			group.cancel();
+		}
+
+		void completed(int index) {
+			if (canceled || viewer.getControl().isDisposed()) {
+				return;
+			}
+			completed[index] = true;
+			while (nextToDeliver < extensions.length && completed[nextToDeliver]) {
+				ContributorTrackingSet result = pipeline(nextToDeliver);
+				children[nextToDeliver] = null;
+				nextToDeliver++;
+				if (result == null) {
+					continue;
+				}
+				List additions = new ArrayList();
+				for (Iterator itr = result.iterator(); itr.hasNext();) {
+					Object child = itr.next();
+					if (delivered.add(child)) {
+						additions.add(child);
+					}
+				}
+				if (!additions.isEmpty()) {
+					viewer.add(parentOrPath, additions.toArray());
+				}
+			}
+			if (nextToDeliver == extensions.length) {
+				computations.remove(parentOrPath);
+			}
+		}
+
+		/**
+		 * Pipe the children an extension provided through its overriding
+		 * extensions.
+		 *
+		 * @return the resulting children, or <code>null</code> if the extension
+		 *         failed
+		 */
+		private ContributorTrackingSet pipeline(final int index) {
+			final Object[] contributedChildren = children[index];
+			if (contributedChildren == null) {
+				return null;
+			}
+			final ContributorTrackingSet result = new ContributorTrackingSet(contentProvider.getContentService());
+			final boolean[] collected = new boolean[1];
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					contentProvider.addChildren(extensions[index], parent, contributedChildren, false, result);
+					collected[0] = true;
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorContentServiceContentProvider.logExtensionError(extensions[index], parent, e);
+				}
+			});
+			return collected[0] ? result : null;
+		}
+	}
+
+	ParallelChildrenCollector(NavigatorContentServiceContentProvider contentProvider, AbstractTreeViewer viewer) {
+		this.contentProvider = contentProvider;
+		this.viewer = viewer;
+	}
+
+	AbstractTreeViewer getViewer() {
+		return viewer;
+	}
+
+	/**
+	 * Return the children of the extension with the highest priority and start
+	 * computing the children of the remaining extensions in the background.
+	 *
+	 * @param aParentElement
+	 *            the parent element
+	 * @param aParentElementOrPath
+	 *            the parent element or its path
+	 * @param enabledExtensions
+	 *            all extensions enabled for the parent
+	 * @param firstClassExtensions
+	 *            the extensions that contribute children directly, in the order
+	 *            of their priority; at least two
+	 * @return the children of the extension with the highest priority
+	 */
+	Object[] getChildren(Object aParentElement, Object aParentElementOrPath, Set enabledExtensions,
+			List<NavigatorContentExtension> firstClassExtensions) {
+		cancel(aParentElementOrPath);
+
+		ContributorTrackingSet first = new ContributorTrackingSet(contentProvider.getContentService());
+		contentProvider.collectChildren(firstClassExtensions.get(0), aParentElement, aParentElementOrPath,
+				enabledExtensions, false, first);
+		Computation computation = new Computation(aParentElement, aParentElementOrPath,
+				firstClassExtensions.subList(1, firstClassExtensions.size()));
+		computation.delivered.addAll(first);
+		computations.put(aParentElementOrPath, computation);
+		computation.schedule();
+		return computation.delivered.toArray();
+	}
+
+	/**
+	 * Cancel the computation of the children of the given parent, if any, so
+	 * that the viewer is no longer updated with its results.
+	 *
+	 * @param aParentElementOrPath
+	 *            the parent element or its path
+	 */
+	void cancel(Object aParentElementOrPath) {
+		Computation computation = computations.remove(aParentElementOrPath);
+		if (computation != null) {
+			computation.cancel();
+		}
+	}
+
+	/**
+	 * Cancel all computations.
+	 */
+	void reset() {
+		for (Computation computation : computations.values()) {
+			computation.cancel();
+		}
+		computations.clear();
+	}
+}
@@ -42,6 +42,18 @@ public final class NavigatorViewerDescriptor implements
 	 */
 	public static final String PROP_ENFORCE_HAS_CHILDREN = "org.eclipse.ui.navigator.enforceHasChildren"; //$NON-NLS-1$
 
+	/**
+	 * {@value} (boolean): True indicates the children of an element with several
+	 * first class content extensions should be computed by invoking the
+	 * extensions in parallel in the background when the user expands the
+	 * element, delivering their children to the viewer as they become
+	 * available. All other requests for children, e.g. to reveal or select an
+	 * element, still compute them completely. The content providers of all
+	 * extensions bound to the viewer must be thread safe (defaults to
+	 * <b>false</b>).
+	 */
+	public static final String PROP_COMPUTE_CHILDREN_IN_PARALLEL = "org.eclipse.ui.navigator.computeChildrenInParallel"; //$NON-NLS-1$
+
 	static final String TAG_INCLUDES = "includes"; //$NON-NLS-1$
 
 	static final String TAG_EXCLUDES = "excludes"; //$NON-NLS-1$
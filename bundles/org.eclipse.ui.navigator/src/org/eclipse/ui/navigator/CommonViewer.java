@@ -31,6 +31,7 @@ import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.events.TreeEvent;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
@@ -38,6 +39,7 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.ui.internal.navigator.CommonNavigatorFrameSource;
 import org.eclipse.ui.internal.navigator.ContributorTrackingSet;
 import org.eclipse.ui.internal.navigator.NavigatorContentService;
+import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
 import org.eclipse.ui.internal.navigator.NavigatorDecoratingLabelProvider;
 import org.eclipse.ui.internal.navigator.NavigatorPipelineService;
 import org.eclipse.ui.internal.navigator.dnd.NavigatorDnDService;
@@ -390,6 +392,16 @@ public class CommonViewer extends TreeViewer {
 		});
 	}
 
+	@Override
+	protected void handleTreeExpand(TreeEvent event) {
+		if (getContentProvider() instanceof NavigatorContentServiceContentProvider contentProvider) {
+			// only the children of an element expanded by the user may be
+			// completed in the background, see NavigatorViewerDescriptor
+			contentProvider.runLazyExpansion(() -> createChildren(event.item));
+		}
+		super.handleTreeExpand(event);
+	}
+
 
 	/**
 	 * Update an item in the tree.
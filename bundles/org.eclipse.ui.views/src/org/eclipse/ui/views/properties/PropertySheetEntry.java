@@ -87,6 +87,19 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 
 	private PropertySheetEntry[] childEntries = null;
 
+	/**
+	 * Whether the values have to be fetched from the parent entry before they
+	 * are used. Child entries fetch their values on first use, so that only the
+	 * properties actually shown are retrieved from the property sources.
+	 */
+	private boolean valuesStale;
+
+	/**
+	 * The merged property descriptors of the values, or <code>null</code> if
+	 * they have not been computed since the values or the descriptors changed.
+	 */
+	private List<IPropertyDescriptor> mergedDescriptors;
+
 	/**
 	 * Create the CellEditorListener for this entry. It listens for value
 	 * changes in the CellEditor, and cancel and finish requests.
@@ -126,6 +139,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 		if (editor == null) {
 			return;
 		}
+		ensureValues();
 
 		// Check if editor has a valid value
 		if (!editor.isValueValid()) {
@@ -154,6 +168,20 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 		}
 	}
 
+	/**
+	 * Return the unsorted intersection of all the
+	 * <code>IPropertyDescriptor</code>s for the objects, computing it only
+	 * once for the current values.
+	 *
+	 * @return List
+	 */
+	private List<IPropertyDescriptor> getMergedPropertyDescriptors() {
+		if (mergedDescriptors == null) {
+			mergedDescriptors = computeMergedPropertyDescriptors();
+		}
+		return mergedDescriptors;
+	}
+
 	/**
 	 * Return the unsorted intersection of all the
 	 * <code>IPropertyDescriptor</code>s for the objects.
@@ -238,7 +266,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 */
 	private void createChildEntries() {
 		// get the current descriptors
-		List<IPropertyDescriptor> descriptors = computeMergedPropertyDescriptors();
+		List<IPropertyDescriptor> descriptors = getMergedPropertyDescriptors();
 
 		// rebuild child entries using old when possible
 		PropertySheetEntry[] newEntries = new PropertySheetEntry[descriptors
@@ -250,7 +278,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 			entry.setDescriptor(d);
 			entry.setParent(this);
 			entry.setPropertySourceProvider(propertySourceProvider);
-			entry.refreshValues();
+			entry.valuesStale = true;
 			newEntries[i] = entry;
 		}
 		// only assign if successful
@@ -336,6 +364,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 
 	@Override
 	public IPropertySheetEntry[] getChildEntries() {
+		ensureValues();
 		if (childEntries == null) {
 			createChildEntries();
 		}
@@ -372,6 +401,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 			}
 		}
 		if (editor != null) {
+			ensureValues();
 			editor.setValue(editValue);
 			setErrorText(editor.getErrorMessage());
 		}
@@ -386,6 +416,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 * @return the edit value for the object at the given index
 	 */
 	protected Object getEditValue(int index) {
+		ensureValues();
 		Object value = values[index];
 		IPropertySource source = getPropertySource(value);
 		if (source != null) {
@@ -415,6 +446,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 		if (provider == null) {
 			return null;
 		}
+		ensureValues();
 		return provider.getImage(editValue);
 	}
 
@@ -460,6 +492,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 
 	@Override
 	public String getValueAsString() {
+		ensureValues();
 		if (editValue == null) {
 			return "";//$NON-NLS-1$
 		}
@@ -481,16 +514,29 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 * @since 3.1 (was previously private)
 	 */
 	public Object[] getValues() {
+		ensureValues();
 		return values;
 	}
 
+	/**
+	 * Returns whether the values of this entry have to be fetched again before
+	 * they are used. Viewers may use this to only fetch the values of the
+	 * entries they show.
+	 *
+	 * @return <code>true</code> if the values of this entry are out of date
+	 */
+	boolean hasStaleValues() {
+		return valuesStale;
+	}
+
 	@Override
 	public boolean hasChildEntries() {
+		ensureValues();
 		if (childEntries != null && childEntries.length > 0) {
 			return true;
 		}
 		// see if we could have entires if we were asked
-		return computeMergedPropertyDescriptors().size() > 0;
+		return getMergedPropertyDescriptors().size() > 0;
 	}
 
 	/**
@@ -499,13 +545,15 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 * descriptor id of the old entry).
 	 */
 	private void refreshChildEntries() {
+		// the descriptors may have changed
+		mergedDescriptors = null;
 		if (childEntries == null) {
 			// no children to refresh
 			return;
 		}
 
 		// get the current descriptors
-		List<IPropertyDescriptor> descriptors = computeMergedPropertyDescriptors();
+		List<IPropertyDescriptor> descriptors = getMergedPropertyDescriptors();
 
 		// cache old entries by their descriptor id
 		Map<Object, PropertySheetEntry> entryCache = new HashMap<>(childEntries.length * 2 + 1);
@@ -529,18 +577,20 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 			// see if we have an entry matching this descriptor
 			PropertySheetEntry entry = entryCache.get(d.getId());
 			if (entry != null) {
-				// reuse old entry
+				// reuse old entry, its values are fetched again when used
 				entry.setDescriptor(d);
 				entriesToDispose.remove(entry);
+				entry.valuesStale = true;
+				entry.fireValueChanged();
 			} else {
 				// create new entry
 				entry = createChildEntry();
 				entry.setDescriptor(d);
 				entry.setParent(this);
 				entry.setPropertySourceProvider(propertySourceProvider);
+				entry.valuesStale = true;
 				entriesChanged = true;
 			}
-			entry.refreshValues();
 			newEntries[i] = entry;
 		}
 
@@ -570,6 +620,16 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 		}
 	}
 
+	/**
+	 * Fetches our value objects from our parent if they are out of date.
+	 */
+	private void ensureValues() {
+		if (valuesStale) {
+			valuesStale = false;
+			refreshValues();
+		}
+	}
+
 	/**
 	 * Update our value objects. We ask our parent for the property values based
 	 * on our descriptor.
@@ -678,6 +738,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 *            the new value
 	 */
 	private void setValue(Object newValue) {
+		ensureValues();
 		// Set the value
 		for (int i = 0; i < values.length; i++) {
 			values[i] = newValue;
@@ -704,8 +765,10 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 */
 	@Override
 	public void setValues(Object[] objects) {
+		valuesStale = false;
 		values = objects;
 		sources = new HashMap<>(values.length * 2 + 1);
+		mergedDescriptors = null;
 
 		if (values.length == 0) {
 			editValue = null;
@@ -742,6 +805,7 @@ public class PropertySheetEntry extends EventManager implements IPropertySheetEn
 	 *            the child entry that changed its value
 	 */
 	protected void valueChanged(PropertySheetEntry child) {
+		ensureValues();
 		for (int i = 0; i < values.length; i++) {
 			IPropertySource source = getPropertySource(values[i]);
 			source.setPropertyValue(child.getDescriptor().getId(), child.getEditValue(i));
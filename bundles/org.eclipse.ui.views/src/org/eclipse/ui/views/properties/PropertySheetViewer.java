@@ -52,6 +52,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.swt.widgets.TreeItem;
@@ -127,7 +128,7 @@ class PropertySheetViewer extends Viewer {
 	 */
 	public PropertySheetViewer(Composite parent) {
 		tree = new Tree(parent, SWT.FULL_SELECTION | SWT.SINGLE
-				| SWT.HIDE_SELECTION);
+				| SWT.HIDE_SELECTION | SWT.VIRTUAL);
 
 		// configure the widget
 		tree.setLinesVisible(true);
@@ -340,7 +341,13 @@ class PropertySheetViewer extends Viewer {
 				// update the given entry
 				TreeItem item = findItem(entry);
 				if (item != null) {
-					updateEntry(entry, item);
+					if (entry instanceof PropertySheetEntry
+							&& ((PropertySheetEntry) entry).hasStaleValues()) {
+						// let the entry fetch its values when the item is shown
+						clearItem(item);
+					} else {
+						updateEntry(entry, item);
+					}
 				}
 			}
 
@@ -391,14 +398,29 @@ class PropertySheetViewer extends Viewer {
 			((IPropertySheetEntry) node).addPropertySheetEntryListener(entryListener);
 		}
 
-		// update the visual presentation
-		if (node instanceof IPropertySheetEntry) {
-			updateEntry((IPropertySheetEntry) node, item);
-		} else {
+		// update the visual presentation, entries are updated when their item
+		// is shown, see handleSetData(Event)
+		if (node instanceof PropertySheetCategory) {
 			updateCategory((PropertySheetCategory) node, item);
 		}
 	}
 
+	/**
+	 * Clears the given item, so that the tree requests its presentation again
+	 * when it is shown.
+	 *
+	 * @param item
+	 *			the tree item to clear
+	 */
+	private void clearItem(TreeItem item) {
+		TreeItem parentItem = item.getParentItem();
+		if (parentItem != null) {
+			parentItem.clear(parentItem.indexOf(item), false);
+		} else {
+			tree.clear(tree.indexOf(item), false);
+		}
+	}
+
 	/**
 	 * Deactivate the currently active cell editor.
 	 */
@@ -757,6 +779,25 @@ class PropertySheetViewer extends Viewer {
 		createChildren(event.item);
 	}
 
+	/**
+	 * A tree item is about to be shown for the first time since it was created
+	 * or cleared. Update it from its entry, which fetches the property values
+	 * of the entry if necessary, so that only the values of the properties
+	 * actually shown are retrieved.
+	 *
+	 * @param event
+	 *			the SWT set data event
+	 */
+	private void handleSetData(Event event) {
+		TreeItem item = (TreeItem) event.item;
+		Object data = item.getData();
+		if (data instanceof IPropertySheetEntry) {
+			updateEntry((IPropertySheetEntry) data, item);
+		} else if (data instanceof PropertySheetCategory) {
+			item.setText(0, ((PropertySheetCategory) data).getCategoryName());
+		}
+	}
+
 	/**
 	 * Hides the categories.
 	 */
@@ -812,6 +853,9 @@ class PropertySheetViewer extends Viewer {
 			}
 		});
 
+		// Update the items when they are shown
+		tree.addListener(SWT.SetData, this::handleSetData);
+
 		// Add a tree listener to expand and collapse which
 		// allows for lazy creation of children
 		tree.addTreeListener(new TreeListener() {
@@ -1292,7 +1336,10 @@ class PropertySheetViewer extends Viewer {
 		for (int i = 0; i < newSize; i++) {
 			Object el = children.get(i);
 			if (el instanceof IPropertySheetEntry) {
-				updateEntry((IPropertySheetEntry) el, childItems[i]);
+				// the entry is updated when its item is shown
+				childItems[i].setData(el);
+				entryToItemMap.put(el, childItems[i]);
+				clearItem(childItems[i]);
 			} else {
 				updateCategory((PropertySheetCategory) el, childItems[i]);
 				updateChildrenOf(el, childItems[i]);
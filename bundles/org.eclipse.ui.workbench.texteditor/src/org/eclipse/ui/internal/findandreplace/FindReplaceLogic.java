@@ -23,10 +23,15 @@ import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.swt.graphics.Point;
 
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.operation.IRunnableContext;
+
 import org.eclipse.jface.text.IFindReplaceTarget;
 import org.eclipse.jface.text.IFindReplaceTargetExtension;
 import org.eclipse.jface.text.IFindReplaceTargetExtension3;
 import org.eclipse.jface.text.IFindReplaceTargetExtension4;
+import org.eclipse.jface.text.IFindReplaceTargetExtension5;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Region;
 
@@ -236,6 +241,8 @@ public class FindReplaceLogic implements IFindReplaceLogic {
 				}
 			} catch (PatternSyntaxException ex) {
 				status = new InvalidRegExStatus(ex);
+			} catch (OperationCanceledException ex) {
+				// nothing was replaced
 			} catch (IllegalStateException ex) {
 				// we don't keep state in this dialog
 			}
@@ -361,6 +368,15 @@ public class FindReplaceLogic implements IFindReplaceLogic {
 			return 0;
 		}
 
+		if (target instanceof IFindReplaceTargetExtension5 batchingTarget) {
+			boolean wholeWordSearch = isActive(SearchOptions.WHOLE_WORD) && isWholeWordSearchAvailable(findString);
+			IRunnableContext runnableContext = PlatformUI.isWorkbenchRunning()
+					? PlatformUI.getWorkbench().getProgressService()
+					: null;
+			return batchingTarget.replaceAll(findString, replaceString, isActive(SearchOptions.CASE_SENSITIVE),
+					wholeWordSearch, isRegExSearchAvailableAndActive(), runnableContext);
+		}
+
 		List<Point> replacements = new ArrayList<>();
 		executeInForwardMode(() -> {
 			executeWithReplaceAllEnabled(() -> {
@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+
+
+/**
+ * An index of the words of a document, kept up to date with the document changes.
+ * <p>
+ * The index counts the occurrences of every word, so that the words starting with a given prefix
+ * can be looked up without scanning the document. Clients {@link #connect(IDocument, Pattern)
+ * connect} to the index of a document and word pattern while they use it, and
+ * {@link #disconnect() disconnect} when they are done. The index is shared by the connected
+ * clients and listens to the document only as long as there are any.
+ * </p>
+ * <p>
+ * Document changes are recorded as the text of the changed lines before and after the change,
+ * which is cheap enough to be done in the thread changing the document. The recorded changes are
+ * applied to the index in the background, or in the calling thread when the index is queried
+ * before. As lines are recorded as a whole, words must not span lines, i.e. the word pattern must
+ * not match line delimiters. The whole document content is only indexed by the first query after
+ * connecting or after the document content has been replaced.
+ * </p>
+ *
+ * @since 3.18
+ */
+public final class DocumentWordIndex {
+
+	/** The delay after a document change before the change is applied in the background. */
+	private static final long UPDATE_DELAY= 500;
+
+	/** The connected indexes per document and word pattern. */
+	private static final Map<IDocument, Map<String, DocumentWordIndex>> fgIndexes= new HashMap<>();
+
+	/**
+	 * A change to apply to the index: the text whose words are removed and the text whose words
+	 * are added.
+	 */
+	private static final class Change {
+
+		private final String fRemovedText;
+
+		private final String fAddedText;
+
+		Change(String removedText, String addedText) {
+			fRemovedText= removedText;
+			fAddedText= addedText;
+		}
+	}
+
+	private final IDocument fDocument;
+
+	private final Pattern fWordPattern;
+
+	/** The number of connected clients, guarded by {@link #fgIndexes}. */
+	private int fConnections;
+
+	/** The number of occurrences of every word, sorted for prefix lookups. */
+	private final NavigableMap<String, int[]> fWords= new TreeMap<>();
+
+	/** The changes not yet applied to {@link #fWords}. */
+	private final Queue<Change> fPendingChanges= new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The number of times the whole content of the document had to be indexed again, starting
+	 * stale.
+	 */
+	private final AtomicInteger fInvalidations= new AtomicInteger(1);
+
+	/**
+	 * The value of {@link #fInvalidations} when the content of the document was last read, the
+	 * index is stale while they differ.
+	 */
+	private volatile int fIndexedInvalidations;
+
+	private final AtomicBoolean fUpdateScheduled= new AtomicBoolean();
+
+	private final Job fUpdateJob;
+
+	private final IDocumentListener fDocumentListener= new IDocumentListener() {
+
+		/** The text of the lines about to be changed */
+		private String fRemovedText;
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			IDocument document= event.getDocument();
+			if (isStale() || event.getLength() == document.getLength()) {
+				fRemovedText= null;
+				return;
+			}
+			fRemovedText= getLines(document, event.getOffset(), event.getLength());
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			if (fRemovedText == null) {
+				invalidate();
+				return;
+			}
+			String text= event.getText();
+			int length= text == null ? 0 : text.length();
+			String addedText= getLines(event.getDocument(), event.getOffset(), length);
+			if (addedText == null) {
+				invalidate();
+			} else {
+				fPendingChanges.add(new Change(fRemovedText, addedText));
+				if (fUpdateScheduled.compareAndSet(false, true))
+					fUpdateJob.schedule(UPDATE_DELAY);
+			}
+			fRemovedText= null;
+		}
+	};
+
+	private DocumentWordIndex(IDocument document, Pattern wordPattern) {
+		fDocument= document;
+		fWordPattern= wordPattern;
+		fUpdateJob= new Job(EditorMessages.DocumentWordIndex_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				fUpdateScheduled.set(false);
+				update(false);
+				return Status.OK_STATUS;
+			}
+		};
+		fUpdateJob.setSystem(true);
+		fUpdateJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Connects to the index of the words of the given document, creating it if needed. The words
+	 * are the matches of the given pattern, which must not match line delimiters. Each call must be
+	 * balanced by a call to {@link #disconnect()} on the returned index.
+	 *
+	 * @param document the document
+	 * @param wordPattern the pattern matching a word
+	 * @return the word index of the document
+	 */
+	public static DocumentWordIndex connect(IDocument document, Pattern wordPattern) {
+		synchronized (fgIndexes) {
+			Map<String, DocumentWordIndex> indexes= fgIndexes.computeIfAbsent(document, d -> new HashMap<>());
+			DocumentWordIndex index= indexes.computeIfAbsent(wordPattern.pattern(), p -> new DocumentWordIndex(document, wordPattern));
+			if (index.fConnections++ == 0)
+				document.addDocumentListener(index.fDocumentListener);
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the index of the words of the given document if a client is connected to it.
+	 *
+	 * @param document the document
+	 * @param wordPattern the pattern matching a word
+	 * @return the connected word index of the document, or <code>null</code> if there is none
+	 */
+	public static DocumentWordIndex getConnectedIndex(IDocument document, Pattern wordPattern) {
+		synchronized (fgIndexes) {
+			Map<String, DocumentWordIndex> indexes= fgIndexes.get(document);
+			return indexes == null ? null : indexes.get(wordPattern.pattern());
+		}
+	}
+
+	/**
+	 * Disconnects from this index. The index stops listening to the document when the last client
+	 * has disconnected.
+	 */
+	public void disconnect() {
+		synchronized (fgIndexes) {
+			if (fConnections == 0 || --fConnections > 0)
+				return;
+			fDocument.removeDocumentListener(fDocumentListener);
+			Map<String, DocumentWordIndex> indexes= fgIndexes.get(fDocument);
+			indexes.remove(fWordPattern.pattern());
+			if (indexes.isEmpty())
+				fgIndexes.remove(fDocument);
+		}
+		fUpdateJob.cancel();
+		invalidate();
+	}
+
+	/**
+	 * Returns the document of this index.
+	 *
+	 * @return the document
+	 */
+	public IDocument getDocument() {
+		return fDocument;
+	}
+
+	/**
+	 * Returns the words of the document which start with the given prefix, including the prefix
+	 * itself if it is a word of the document.
+	 *
+	 * @param prefix the prefix
+	 * @return the words starting with the prefix, in lexicographical order
+	 */
+	public List<String> getWords(String prefix) {
+		synchronized (fWords) {
+			update(true);
+			return new ArrayList<>(getWordsStartingWith(prefix).keySet());
+		}
+	}
+
+	/**
+	 * Returns whether the document contains a word which starts with the given prefix and is
+	 * longer than the prefix.
+	 *
+	 * @param prefix the prefix
+	 * @return <code>true</code> if the prefix can be completed to a word of the document
+	 */
+	public boolean hasCompletions(String prefix) {
+		synchronized (fWords) {
+			update(true);
+			NavigableMap<String, int[]> words= getWordsStartingWith(prefix);
+			return words.size() > (words.containsKey(prefix) ? 1 : 0);
+		}
+	}
+
+	/**
+	 * Returns the number of occurrences of the given word in the document.
+	 *
+	 * @param word the word
+	 * @return the number of occurrences, <code>0</code> if the word does not occur in the document
+	 */
+	public int getFrequency(String word) {
+		synchronized (fWords) {
+			update(true);
+			int[] count= fWords.get(word);
+			return count == null ? 0 : count[0];
+		}
+	}
+
+	private NavigableMap<String, int[]> getWordsStartingWith(String prefix) {
+		return fWords.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+	}
+
+	/**
+	 * Drops the recorded changes, the whole document content is indexed by the next query.
+	 */
+	private void invalidate() {
+		fInvalidations.incrementAndGet();
+		fPendingChanges.clear();
+	}
+
+	private boolean isStale() {
+		return fInvalidations.get() != fIndexedInvalidations;
+	}
+
+	/**
+	 * Applies the pending changes to the index.
+	 *
+	 * @param readDocument <code>true</code> if the document content may be read, i.e. if called
+	 *            by a query rather than in the background
+	 */
+	private void update(boolean readDocument) {
+		synchronized (fWords) {
+			if (isStale()) {
+				if (!readDocument)
+					return;
+				int invalidations= fInvalidations.get();
+				fPendingChanges.clear();
+				fWords.clear();
+				count(fDocument.get(), 1);
+				// changes made while reading are invalidations, as the index was still stale,
+				// so the index stays stale if there were any
+				fIndexedInvalidations= invalidations;
+			}
+			Change change;
+			while ((change= fPendingChanges.poll()) != null) {
+				count(change.fRemovedText, -1);
+				count(change.fAddedText, 1);
+			}
+		}
+	}
+
+	private void count(String text, int delta) {
+		Matcher matcher= fWordPattern.matcher(text);
+		while (matcher.find()) {
+			String word= matcher.group();
+			int[] count= fWords.get(word);
+			if (count == null) {
+				if (delta > 0)
+					fWords.put(word, new int[] { delta });
+			} else {
+				count[0]+= delta;
+				if (count[0] <= 0)
+					fWords.remove(word);
+			}
+		}
+	}
+
+	/**
+	 * Returns the text of the lines covering the given range of the document.
+	 *
+	 * @param document the document
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @return the text of the lines, or <code>null</code> if the range is not valid
+	 */
+	private static String getLines(IDocument document, int offset, int length) {
+		try {
+			int start= document.getLineOffset(document.getLineOfOffset(offset));
+			int lastLine= document.getLineOfOffset(offset + length);
+			int end= document.getLineOffset(lastLine) + document.getLineLength(lastLine);
+			return document.get(start, end - start);
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+}
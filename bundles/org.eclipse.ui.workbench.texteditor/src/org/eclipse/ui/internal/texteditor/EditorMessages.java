@@ -30,6 +30,7 @@ final class EditorMessages extends NLS {
 	public static String Editor_error_gotoLastEditPosition_message;
 	public static String Editor_error_gotoNextEditPosition_title;
 	public static String Editor_error_gotoNextEditPosition_message;
+	public static String DocumentWordIndex_job_name;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, EditorMessages.class);
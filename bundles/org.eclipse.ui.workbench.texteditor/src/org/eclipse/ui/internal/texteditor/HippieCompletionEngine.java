@@ -15,6 +15,7 @@
 package org.eclipse.ui.internal.texteditor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -298,6 +299,8 @@ public final class HippieCompletionEngine {
 	 * @since 3.6
 	 */
 	public Iterator<String> getForwardIterator(IDocument document, CharSequence prefix, int firstPosition, boolean currentWordLast) {
+		if (!mayHaveCompletions(document, prefix))
+			return Collections.emptyIterator();
 		return new HippieCompletionForwardIterator(document, prefix, firstPosition, currentWordLast);
 	}
 
@@ -315,13 +318,17 @@ public final class HippieCompletionEngine {
 	 * @since 3.6
 	 */
 	public Iterator<String> getBackwardIterator(IDocument document, CharSequence prefix, int firstPosition) {
+		if (!mayHaveCompletions(document, prefix))
+			return Collections.emptyIterator();
 		return new HippieCompletionBackwardIterator(document, prefix, firstPosition);
 	}
 
 	/**
 	 * Provides an iterator that will get the completions for all the documents received, starting
 	 * at the "document" passed (first going backward and then forward from the position passed) and
-	 * later going forward through each of the "otherDocuments".
+	 * later going forward through each of the "otherDocuments". The completions of another document
+	 * whose {@link #connectWordIndex(IDocument) word index is connected} are taken from the index,
+	 * in lexicographical order, instead of scanning the document.
 	 *
 	 * @param document the document to be scanned
 	 * @param otherDocuments the additional documents to be scanned
@@ -337,6 +344,71 @@ public final class HippieCompletionEngine {
 		return new MultipleDocumentsIterator(document, otherDocuments, prefix, firstPosition);
 	}
 
+	/**
+	 * Connects to the {@link DocumentWordIndex word index} of the given document. While connected,
+	 * the index is used to skip scanning the document if it has no completion for a prefix, and
+	 * serves the completions of the document when another document is completed. The index must be
+	 * disconnected when the document is not completed anymore.
+	 *
+	 * @param document the document
+	 * @return the connected word index of the document
+	 * @since 3.18
+	 */
+	public static DocumentWordIndex connectWordIndex(IDocument document) {
+		return DocumentWordIndex.connect(document, COMPLETION_WORD_PATTERN);
+	}
+
+	/**
+	 * Checks the connected {@link DocumentWordIndex word index} of the document, if any, for
+	 * completions of the prefix, so that documents without any completion need not be scanned.
+	 *
+	 * @param document the document to be scanned
+	 * @param prefix the prefix to search for
+	 * @return <code>false</code> if the document has no completion for the prefix,
+	 *         <code>true</code> if it has or if that is not known
+	 */
+	private static boolean mayHaveCompletions(IDocument document, CharSequence prefix) {
+		DocumentWordIndex index= getConnectedWordIndex(document, prefix);
+		return index == null || index.hasCompletions(prefix.toString());
+	}
+
+	/**
+	 * Returns the completions of the prefix in a document other than the one being completed. They
+	 * are served from the connected {@link DocumentWordIndex word index} of the document, in
+	 * lexicographical order, if there is one. Otherwise the document is scanned from its beginning.
+	 *
+	 * @param document the document to be searched
+	 * @param prefix the prefix to search for
+	 * @return an iterator over the completions of the prefix, excluding the common prefix
+	 */
+	private Iterator<String> getOtherDocumentIterator(IDocument document, CharSequence prefix) {
+		DocumentWordIndex index= getConnectedWordIndex(document, prefix);
+		if (index == null)
+			return getForwardIterator(document, prefix, 0, false);
+		List<String> completions= new ArrayList<>();
+		for (String word : index.getWords(prefix.toString())) {
+			if (word.length() > prefix.length())
+				completions.add(word.substring(prefix.length()));
+		}
+		return completions.iterator();
+	}
+
+	/**
+	 * Returns the connected {@link DocumentWordIndex word index} of the document if it can be used
+	 * to look up the completions of the prefix.
+	 *
+	 * @param document the document
+	 * @param prefix the prefix to search for
+	 * @return the connected word index, or <code>null</code> if there is none or if the prefix is
+	 *         not made of word characters
+	 */
+	private static DocumentWordIndex getConnectedWordIndex(IDocument document, CharSequence prefix) {
+		// the completions of a prefix made of word characters are the indexed words
+		if (!COMPLETION_WORD_PATTERN.matcher(prefix).matches())
+			return null;
+		return DocumentWordIndex.getConnectedIndex(document, COMPLETION_WORD_PATTERN);
+	}
+
 
 
 	/**
@@ -424,8 +496,8 @@ public final class HippieCompletionEngine {
 
 
 			while (fCurrLocation < this.fOtherDocuments.size()) {
-				fCompletionsForwardIterator= getForwardIterator(
-						(this.fOtherDocuments.get(fCurrLocation)), fPrefix, 0, false);
+				fCompletionsForwardIterator= getOtherDocumentIterator(
+						(this.fOtherDocuments.get(fCurrLocation)), fPrefix);
 				fCurrLocation++;
 				if (checkNext()) {
 					return;
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.texteditor.quickdiff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.text.source.LineRange;
+
+import org.eclipse.compare.rangedifferencer.AbstractRangeDifferenceFactory;
+import org.eclipse.compare.rangedifferencer.RangeDifference;
+import org.eclipse.compare.rangedifferencer.RangeDifferencer;
+
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocEquivalenceComparator;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocumentEquivalenceClass;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.Hash;
+
+
+/**
+ * Computes the line differences between two documents by splitting them into small hunks first.
+ * <p>
+ * Lines common to the start and the end of both documents are matched right away. In between,
+ * lines that occur exactly once in each of the documents are used as anchors, as in the patience
+ * diff algorithm: the longest sequence of such lines that appears in the same order in both documents
+ * is matched, and the hunks between the anchors are split in the same way. Only hunks that
+ * cannot be split any further are compared by the {@link RangeDifferencer}, whose effort grows
+ * with the product of the hunk sizes.
+ * </p>
+ * <p>
+ * The per-line hashes are taken from the {@link DocumentEquivalenceClass equivalence classes} of
+ * the documents, which cache them and keep them up to date with document changes.
+ * </p>
+ */
+public final class PatienceLineDiffer {
+
+	/**
+	 * The number of lines in a hunk below which it is compared without looking for anchors.
+	 */
+	private static final int MIN_ANCHORED_LINES= 16;
+
+	private final AbstractRangeDifferenceFactory fFactory;
+
+	private final IProgressMonitor fMonitor;
+
+	private final DocumentEquivalenceClass fLeft;
+
+	private final DocumentEquivalenceClass fRight;
+
+	private final ArrayList<QuickDiffRangeDifference> fDifferences= new ArrayList<>();
+
+	private PatienceLineDiffer(AbstractRangeDifferenceFactory factory, IProgressMonitor monitor, DocumentEquivalenceClass left, DocumentEquivalenceClass right) {
+		fFactory= factory;
+		fMonitor= monitor;
+		fLeft= left;
+		fRight= right;
+	}
+
+	/**
+	 * Finds the differences between two documents. The returned differences cover both documents
+	 * completely, including the unchanged ranges, like the result of
+	 * {@link RangeDifferencer#findRanges(AbstractRangeDifferenceFactory, IProgressMonitor, org.eclipse.compare.rangedifferencer.IRangeComparator, org.eclipse.compare.rangedifferencer.IRangeComparator)}.
+	 *
+	 * @param factory the factory creating the differences, must create
+	 *            {@link QuickDiffRangeDifference}s
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @param left the equivalence class of the left (reference) document
+	 * @param right the equivalence class of the right (actual) document
+	 * @return the differences, in document order
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	public static ArrayList<QuickDiffRangeDifference> findRanges(AbstractRangeDifferenceFactory factory, IProgressMonitor monitor, DocumentEquivalenceClass left, DocumentEquivalenceClass right) {
+		PatienceLineDiffer differ= new PatienceLineDiffer(factory, monitor, left, right);
+		differ.diff(0, left.getCount(), 0, right.getCount());
+		if (differ.fDifferences.isEmpty())
+			differ.fDifferences.add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, 0, 0, 0, 0));
+		return differ.fDifferences;
+	}
+
+	/**
+	 * Diffs the given hunk, the ranges being given as start inclusive and end exclusive lines.
+	 */
+	private void diff(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		if (fMonitor != null && fMonitor.isCanceled())
+			throw new OperationCanceledException();
+
+		int prefix= 0;
+		while (leftStart + prefix < leftEnd && rightStart + prefix < rightEnd && equal(leftStart + prefix, rightStart + prefix))
+			prefix++;
+		addUnchanged(leftStart, rightStart, prefix);
+		leftStart+= prefix;
+		rightStart+= prefix;
+
+		int suffix= 0;
+		while (leftStart < leftEnd - suffix && rightStart < rightEnd - suffix && equal(leftEnd - suffix - 1, rightEnd - suffix - 1))
+			suffix++;
+		leftEnd-= suffix;
+		rightEnd-= suffix;
+
+		diffTrimmed(leftStart, leftEnd, rightStart, rightEnd);
+		addUnchanged(leftEnd, rightEnd, suffix);
+	}
+
+	private void diffTrimmed(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		int leftLength= leftEnd - leftStart;
+		int rightLength= rightEnd - rightStart;
+		if (leftLength == 0 && rightLength == 0)
+			return;
+		if (leftLength == 0 || rightLength == 0) {
+			add(new QuickDiffRangeDifference(RangeDifference.CHANGE, rightStart, rightLength, leftStart, leftLength));
+			return;
+		}
+
+		int[] anchors= leftLength + rightLength < MIN_ANCHORED_LINES ? null : findAnchors(leftStart, leftEnd, rightStart, rightEnd);
+		if (anchors == null) {
+			compare(leftStart, leftEnd, rightStart, rightEnd);
+			return;
+		}
+
+		// anchors holds pairs of matching left and right lines, in document order
+		int left= leftStart;
+		int right= rightStart;
+		for (int i= 0; i < anchors.length; i+= 2) {
+			diff(left, anchors[i], right, anchors[i + 1]);
+			addUnchanged(anchors[i], anchors[i + 1], 1);
+			left= anchors[i] + 1;
+			right= anchors[i + 1] + 1;
+		}
+		diff(left, leftEnd, right, rightEnd);
+	}
+
+	/**
+	 * Returns the longest sequence of lines occurring exactly once in both ranges and in the same
+	 * order, as pairs of left and right line, or <code>null</code> if there is none.
+	 */
+	private int[] findAnchors(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		// per hash: occurrences left, occurrences right, left line, right line
+		Map<Hash, int[]> occurrences= new HashMap<>();
+		for (int line= leftStart; line < leftEnd; line++) {
+			int[] occurrence= occurrences.computeIfAbsent(fLeft.getHash(line), h -> new int[4]);
+			occurrence[0]++;
+			occurrence[2]= line;
+		}
+		for (int line= rightStart; line < rightEnd; line++) {
+			int[] occurrence= occurrences.get(fRight.getHash(line));
+			if (occurrence != null) {
+				occurrence[1]++;
+				occurrence[3]= line;
+			}
+		}
+
+		// the right lines of the unique lines, in left order
+		int[] rightLines= new int[leftEnd - leftStart];
+		int unique= 0;
+		for (int line= leftStart; line < leftEnd; line++) {
+			int[] occurrence= occurrences.get(fLeft.getHash(line));
+			if (occurrence[0] == 1 && occurrence[1] == 1)
+				rightLines[unique++]= occurrence[3];
+		}
+		if (unique == 0)
+			return null;
+
+		// patience sorting: the longest increasing subsequence of the right lines
+		int[] pileTops= new int[unique];
+		int[] predecessors= new int[unique];
+		int piles= 0;
+		for (int i= 0; i < unique; i++) {
+			// the leftmost pile whose top is on a later right line
+			int low= 0;
+			int high= piles;
+			while (low < high) {
+				int middle= (low + high) >>> 1;
+				if (rightLines[pileTops[middle]] < rightLines[i])
+					low= middle + 1;
+				else
+					high= middle;
+			}
+			int pile= low;
+			predecessors[i]= pile > 0 ? pileTops[pile - 1] : -1;
+			pileTops[pile]= i;
+			if (pile == piles)
+				piles++;
+		}
+
+		int[] anchors= new int[2 * piles];
+		int index= pileTops[piles - 1];
+		for (int i= piles - 1; i >= 0; i--) {
+			anchors[2 * i + 1]= rightLines[index];
+			index= predecessors[index];
+		}
+		for (int i= 0; i < piles; i++)
+			anchors[2 * i]= occurrences.get(fRight.getHash(anchors[2 * i + 1]))[2];
+		return anchors;
+	}
+
+	private void compare(int leftStart, int leftEnd, int rightStart, int rightEnd) {
+		DocEquivalenceComparator reference= new DocEquivalenceComparator(fLeft, new LineRange(leftStart, leftEnd - leftStart));
+		DocEquivalenceComparator actual= new DocEquivalenceComparator(fRight, new LineRange(rightStart, rightEnd - rightStart));
+		for (RangeDifference difference : RangeDifferencer.findRanges(fFactory, fMonitor, reference, actual)) {
+			QuickDiffRangeDifference quickDiffDifference= (QuickDiffRangeDifference) difference;
+			quickDiffDifference.shiftLeft(leftStart);
+			quickDiffDifference.shiftRight(rightStart);
+			add(quickDiffDifference);
+		}
+	}
+
+	private boolean equal(int leftLine, int rightLine) {
+		return fLeft.getHash(leftLine).equals(fRight.getHash(rightLine));
+	}
+
+	private void addUnchanged(int leftStart, int rightStart, int length) {
+		if (length > 0)
+			add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, rightStart, length, leftStart, length));
+	}
+
+	/**
+	 * Appends a difference, merging it with the previous one if both are of the same kind.
+	 */
+	private void add(QuickDiffRangeDifference difference) {
+		if (difference.leftLength() == 0 && difference.rightLength() == 0)
+			return;
+		List<QuickDiffRangeDifference> differences= fDifferences;
+		if (!differences.isEmpty()) {
+			QuickDiffRangeDifference last= differences.get(differences.size() - 1);
+			if (last.kind() == difference.kind()) {
+				differences.set(differences.size() - 1, new QuickDiffRangeDifference(last.kind(), last.rightStart(), last.rightLength() + difference.rightLength(), last.leftStart(), last.leftLength() + difference.leftLength()));
+				return;
+			}
+		}
+		differences.add(difference);
+	}
+}
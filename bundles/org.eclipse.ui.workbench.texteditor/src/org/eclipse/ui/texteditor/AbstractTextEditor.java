@@ -6158,7 +6158,7 @@ public abstract class AbstractTextEditor extends EditorPart implements ITextEdit
 			if (fFindReplaceTarget == null) {
 				IFindReplaceTarget target= (fSourceViewer == null ? null : fSourceViewer.getFindReplaceTarget());
 				if (target != null) {
-					fFindReplaceTarget= new FindReplaceTarget(this, target);
+					fFindReplaceTarget= FindReplaceTarget.create(this, target);
 					if (fFindScopeHighlightColor != null)
 						fFindReplaceTarget.setScopeHighlightColor(fFindScopeHighlightColor);
 				}
@@ -16,10 +16,13 @@ package org.eclipse.ui.texteditor;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Point;
 
+import org.eclipse.jface.operation.IRunnableContext;
+
 import org.eclipse.jface.text.IFindReplaceTarget;
 import org.eclipse.jface.text.IFindReplaceTargetExtension;
 import org.eclipse.jface.text.IFindReplaceTargetExtension3;
 import org.eclipse.jface.text.IFindReplaceTargetExtension4;
+import org.eclipse.jface.text.IFindReplaceTargetExtension5;
 import org.eclipse.jface.text.IRegion;
 
 
@@ -30,6 +33,31 @@ import org.eclipse.jface.text.IRegion;
 class FindReplaceTarget implements IFindReplaceTarget, IFindReplaceTargetExtension, IFindReplaceTargetExtension2,
 		IFindReplaceTargetExtension3, IFindReplaceTargetExtension4 {
 
+	/**
+	 * Find/replace target wrapping a target which replaces all occurrences at once.
+	 */
+	static class BatchingFindReplaceTarget extends FindReplaceTarget implements IFindReplaceTargetExtension5 {
+
+		/** The wrapped find/replace target */
+		private IFindReplaceTargetExtension5 fBatchingTarget;
+
+		/**
+		 * Creates a new batching find/replace target.
+		 *
+		 * @param editor the editor
+		 * @param target the wrapped find/replace target
+		 */
+		BatchingFindReplaceTarget(AbstractTextEditor editor, IFindReplaceTarget target) {
+			super(editor, target);
+			fBatchingTarget= (IFindReplaceTargetExtension5) target;
+		}
+
+		@Override
+		public int replaceAll(String findString, String replaceString, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IRunnableContext runnableContext) {
+			return fBatchingTarget.replaceAll(findString, replaceString, caseSensitive, wholeWord, regExSearch, runnableContext);
+		}
+	}
+
 	/** The editor */
 	private AbstractTextEditor fEditor;
 	/** The find/replace target */
@@ -46,6 +74,20 @@ class FindReplaceTarget implements IFindReplaceTarget, IFindReplaceTargetExtensi
 		fTarget= target;
 	}
 
+	/**
+	 * Creates a new find/replace target which only supports replacing all
+	 * occurrences at once if the wrapped target does.
+	 *
+	 * @param editor the editor
+	 * @param target the wrapped find/replace target
+	 * @return the find/replace target
+	 */
+	static FindReplaceTarget create(AbstractTextEditor editor, IFindReplaceTarget target) {
+		if (target instanceof IFindReplaceTargetExtension5)
+			return new BatchingFindReplaceTarget(editor, target);
+		return new FindReplaceTarget(editor, target);
+	}
+
 	/**
 	 * Returns the wrapped find/replace target.
 	 *
@@ -27,10 +27,12 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRewriteTarget;
+import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.text.source.ISourceViewer;
 
 import org.eclipse.ui.internal.texteditor.CompoundEditExitStrategy;
+import org.eclipse.ui.internal.texteditor.DocumentWordIndex;
 import org.eclipse.ui.internal.texteditor.HippieCompletionEngine;
 import org.eclipse.ui.internal.texteditor.TextEditorPlugin;
 
@@ -192,6 +194,32 @@ final class HippieCompleteAction extends TextEditorAction {
 	 */
 	private CompletionState fLastCompletion= null;
 
+	/**
+	 * The word index of the document shown in the viewer of the editor, connected from the first
+	 * completion until the viewer shows another document
+	 */
+	private DocumentWordIndex fWordIndex;
+
+	/**
+	 * The viewer whose document is indexed
+	 */
+	private ISourceViewer fIndexedViewer;
+
+	/**
+	 * Disconnects the word index when the viewer input changes, which it also does when the viewer
+	 * is disposed
+	 */
+	private final ITextInputListener fIndexedInputListener= new ITextInputListener() {
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			disconnectWordIndex();
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+		}
+	};
+
 	/**
 	 * The completion engine
 	 */
@@ -341,9 +369,40 @@ final class HippieCompleteAction extends TextEditorAction {
 	@Override
 	public void setEditor(ITextEditor editor) {
 		clearState(); // make sure to remove listers before the editor changes!
+		disconnectWordIndex();
 		super.setEditor(editor);
 	}
 
+	/**
+	 * Connects to the word index of the given document if it is shown in the viewer of the editor,
+	 * so that the next completions need not scan the document if it has no completion.
+	 *
+	 * @param document the document currently displayed in the editor
+	 */
+	private void connectWordIndex(IDocument document) {
+		if (fWordIndex != null && fWordIndex.getDocument() == document)
+			return;
+		disconnectWordIndex();
+		ISourceViewer viewer= ((AbstractTextEditor) getTextEditor()).getSourceViewer();
+		if (viewer == null || viewer.getDocument() != document)
+			return;
+		fWordIndex= HippieCompletionEngine.connectWordIndex(document);
+		fIndexedViewer= viewer;
+		viewer.addTextInputListener(fIndexedInputListener);
+	}
+
+	/**
+	 * Disconnects from the word index, if connected.
+	 */
+	private void disconnectWordIndex() {
+		if (fWordIndex == null)
+			return;
+		fIndexedViewer.removeTextInputListener(fIndexedInputListener);
+		fWordIndex.disconnect();
+		fWordIndex= null;
+		fIndexedViewer= null;
+	}
+
 	/**
 	 * Update the completion state. The completion cache is updated with the
 	 * completions based on the currently displayed document and the current
@@ -360,6 +419,7 @@ final class HippieCompleteAction extends TextEditorAction {
 
 		if (!documents.isEmpty()) {
 			fDocument= documents.remove(0);
+			connectWordIndex(fDocument);
 
 			Iterator<String> suggestions;
 			try {
@@ -144,6 +144,12 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private static final String DIALOG_WIDTH = "DIALOG_WIDTH"; //$NON-NLS-1$
 
+	/**
+	 * The number of cached items from which they are matched in parallel, if the
+	 * filter supports it.
+	 */
+	private static final int PARALLEL_MATCHING_THRESHOLD = 2000;
+
 	/**
 	 * Represents an empty selection in the pattern input field (used only for
 	 * initial pattern).
@@ -1166,15 +1172,6 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		contentProvider.addHistoryElement(item);
 	}
 
-	/**
-	 * Returns a history comparator.
-	 *
-	 * @return decorated comparator
-	 */
-	private Comparator<Object> getHistoryComparator() {
-		return new HistoryComparator();
-	}
-
 	/**
 	 * Returns the history of selected elements.
 	 *
@@ -1928,6 +1925,12 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			if (lastCompletedFilter != null && lastCompletedFilter.isSubFilter(this.itemsFilter)) {
 
+				if (itemsFilter.isParallelMatchingSupported()
+						&& lastCompletedResult.size() >= PARALLEL_MATCHING_THRESHOLD) {
+					filterCacheInParallel(monitor);
+					return;
+				}
+
 				int length = lastCompletedResult.size() / 500;
 				monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, length);
 
@@ -1962,6 +1965,22 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 		}
 
+		/**
+		 * Filters the result of the last completed filtering, matching the items in
+		 * parallel.
+		 *
+		 * @param monitor for monitoring progress
+		 */
+		private void filterCacheInParallel(GranualProgressMonitor monitor) {
+			monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, 1);
+			Object[] matches = lastCompletedResult.parallelStream()
+					.filter(item -> !monitor.isCanceled() && itemsFilter.matchItem(item)).toArray();
+			if (!monitor.isCanceled()) {
+				contentProvider.addMatches(matches, itemsFilter);
+				monitor.worked(1);
+			}
+		}
+
 	}
 
 	/**
@@ -2279,6 +2298,23 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 */
 		public abstract boolean matchItem(Object item);
 
+		/**
+		 * Returns whether {@link #matchItem(Object)} may be called from several
+		 * threads at the same time. If so, large results of a previous filtering are
+		 * matched in parallel when this filter is a sub-filter of the previous one.
+		 * <p>
+		 * The default implementation returns <code>false</code>. Subclasses whose
+		 * matching does not modify any state may override it.
+		 * </p>
+		 *
+		 * @return <code>true</code> if items may be matched concurrently,
+		 *         <code>false</code> otherwise
+		 * @since 3.133
+		 */
+		public boolean isParallelMatchingSupported() {
+			return false;
+		}
+
 		/**
 		 * Checks consistency of an item. Item is inconsistent if was changed or
 		 * removed.
@@ -2434,6 +2470,18 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		/**
+		 * Adds items which are already known to match the given filter.
+		 *
+		 * @param matches     the matching items
+		 * @param itemsFilter the filter the items match
+		 */
+		public void addMatches(Object[] matches, ItemsFilter itemsFilter) {
+			if (itemsFilter == filter) {
+				this.items.addAll(Arrays.asList(matches));
+			}
+		}
+
 		/**
 		 * Add all history items to <code>contentProvider</code>.
 		 *
@@ -2482,7 +2530,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 
 			synchronized (lastSortedItems) {
-				lastSortedItems.sort(getHistoryComparator());
+				sortByHistory(lastSortedItems);
 			}
 			return item;
 		}
@@ -2501,7 +2549,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 				this.lastSortedItems.remove(item);
 			}
 			synchronized (lastSortedItems) {
-				lastSortedItems.sort(getHistoryComparator());
+				sortByHistory(lastSortedItems);
 			}
 			this.refresh();
 		}
@@ -2575,12 +2623,30 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 				synchronized (lastSortedItems) {
 					lastSortedItems.clear();
 					lastSortedItems.addAll(items);
-					lastSortedItems.sort(getHistoryComparator());
+					sortByHistory(lastSortedItems);
 				}
 			}
 			return lastSortedItems.toArray();
 		}
 
+		/**
+		 * Sorts the given items according to the history. The names and history state
+		 * of the items are looked up once per item rather than for every comparison.
+		 *
+		 * @param itemsToSort the items to sort
+		 */
+		private void sortByHistory(List<Object> itemsToSort) {
+			HistoryComparator comparator = new HistoryComparator();
+			SortKey[] keys = new SortKey[itemsToSort.size()];
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = comparator.createKey(itemsToSort.get(i));
+			}
+			Arrays.sort(keys, comparator::compare);
+			for (int i = 0; i < keys.length; i++) {
+				itemsToSort.set(i, keys[i].item);
+			}
+		}
+
 		/**
 		 * Remember result of filtering.
 		 *
@@ -2918,6 +2984,21 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		}
 	}
 
+	/**
+	 * An item with the properties it is sorted by.
+	 */
+	private static final class SortKey {
+		final Object item;
+		final boolean perfectMatch;
+		final boolean history;
+
+		SortKey(Object item, boolean perfectMatch, boolean history) {
+			this.item = item;
+			this.perfectMatch = perfectMatch;
+			this.history = history;
+		}
+	}
+
 	/**
 	 * Compares items according to the history.
 	 */
@@ -2934,27 +3015,32 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		SortKey createKey(Object item) {
+			return new SortKey(item, isPerfectMatch(item), isHistoryElement(item));
+		}
+
 		@Override
 		public int compare(Object o1, Object o2) {
+			return compare(createKey(o1), createKey(o2));
+		}
+
+		int compare(SortKey k1, SortKey k2) {
 			// find perfect matches
-			if (filterPattern != null) {
-				// See if any are exact matches
-				boolean m1 = filterPattern.equals(getElementName(o1));
-				boolean m2 = filterPattern.equals(getElementName(o2));
-				if (!m1 || !m2) {
-					if (m1 && !m2) {
-						return -1;
-					}
-					if (m2 && !m1) {
-						return 1;
-					}
+			boolean m1 = k1.perfectMatch;
+			boolean m2 = k2.perfectMatch;
+			if (!m1 || !m2) {
+				if (m1 && !m2) {
+					return -1;
+				}
+				if (m2 && !m1) {
+					return 1;
 				}
 			}
 
-			boolean h1 = isHistoryElement(o1);
-			boolean h2 = isHistoryElement(o2);
+			boolean h1 = k1.history;
+			boolean h2 = k2.history;
 			if (h1 == h2) {
-				return itemsComparator.compare(o1, o2);
+				return itemsComparator.compare(k1.item, k2.item);
 			}
 
 			if (h1) {
@@ -2967,6 +3053,10 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			return 0;
 		}
 
+		private boolean isPerfectMatch(Object item) {
+			return filterPattern != null && filterPattern.equals(getElementName(item));
+		}
+
 	}
 
 	/**
@@ -58,7 +58,10 @@ import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.IWorkbenchPartSite;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.menus.WorkbenchMenuService;
 import org.eclipse.ui.internal.registry.IWorkbenchRegistryConstants;
+import org.eclipse.ui.menus.IMenuService;
 
 /**
  * This class extends a single popup menu
@@ -377,7 +380,13 @@ public class PopupMenuExtender implements IMenuListener2, IRegistryChangeListene
 		if (obj instanceof MenuManagerRenderer) {
 			MenuManagerRenderer renderer = (MenuManagerRenderer) obj;
 			renderer.reconcileManagerToModel(menu, menuModel);
-			renderer.processContributions(menuModel, menuModel.getElementId(), false, true);
+			IMenuService menuService = PlatformUI.getWorkbench().getService(IMenuService.class);
+			if (menuService instanceof WorkbenchMenuService) {
+				((WorkbenchMenuService) menuService).processContributions(renderer, menuModel,
+						menuModel.getElementId(), true);
+			} else {
+				renderer.processContributions(menuModel, menuModel.getElementId(), false, true);
+			}
 			// double cast because we're bad people
 			renderer.processContents((MElementContainer<MUIElement>) ((Object) menuModel));
 		}
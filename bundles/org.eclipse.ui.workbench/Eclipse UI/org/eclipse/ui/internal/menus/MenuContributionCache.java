@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.menus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuContribution;
+import org.eclipse.e4.ui.model.application.ui.menu.MPopupMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBarContribution;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * <p>
+ * Resolves the menu and tool bar contributions of the application model per
+ * location, so that showing a menu does not have to scan all contributions
+ * of all installed plug-ins.
+ * </p>
+ * <p>
+ * The contributions of the application are indexed by parent id when they are
+ * first gathered after a change, so a burst of changes, e.g. while the
+ * extension registry is read, leads to a single pass over the contributions.
+ * The contributions resolved for a location are cached per location id and
+ * the state of the menu that determines which contributions apply to it. The
+ * visibility of the contributions is not cached; it is still evaluated by the
+ * renderers whenever a menu is shown.
+ * </p>
+ * <p>
+ * All methods must be called on the UI thread.
+ * </p>
+ */
+public class MenuContributionCache {
+
+	private static final MMenuContribution[] NO_MENU_CONTRIBUTIONS = new MMenuContribution[0];
+
+	private static final MToolBarContribution[] NO_TOOLBAR_CONTRIBUTIONS = new MToolBarContribution[0];
+
+	/**
+	 * The contributions of the application indexed by parent id, together with
+	 * their position in the application model.
+	 */
+	private static final class Index {
+		final int generation;
+
+		final Map<String, List<MMenuContribution>> menuContributions = new HashMap<>();
+
+		final Map<String, List<MToolBarContribution>> toolBarContributions = new HashMap<>();
+
+		final Map<Object, Integer> positions = new HashMap<>();
+
+		Index(int generation) {
+			this.generation = generation;
+		}
+	}
+
+	private final MApplication application;
+
+	private final EventHandler invalidator = this::handleEvent;
+
+	/**
+	 * Incremented whenever the contributions of the application change.
+	 */
+	private int generation;
+
+	private Index index;
+
+	private final Map<String, MMenuContribution[]> menuCache = new HashMap<>();
+
+	private final Map<String, MToolBarContribution[]> toolBarCache = new HashMap<>();
+
+	MenuContributionCache(MApplication application) {
+		this.application = application;
+	}
+
+	EventHandler getInvalidator() {
+		return invalidator;
+	}
+
+	/**
+	 * The topics that invalidate the cache.
+	 */
+	static String[] getTopics() {
+		return new String[] { UIEvents.MenuContributions.TOPIC_MENUCONTRIBUTIONS,
+				UIEvents.ToolBarContributions.TOPIC_TOOLBARCONTRIBUTIONS, UIEvents.MenuContribution.TOPIC_PARENTID,
+				UIEvents.ToolBarContribution.TOPIC_PARENTID, UIEvents.ApplicationElement.TOPIC_TAGS };
+	}
+
+	private void handleEvent(Event event) {
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		if (element == application || element instanceof MMenuContribution
+				|| element instanceof MToolBarContribution) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Discard all resolved contributions. The index is computed again when
+	 * contributions are gathered the next time.
+	 */
+	void invalidate() {
+		generation++;
+		menuCache.clear();
+		toolBarCache.clear();
+	}
+
+	void dispose() {
+		generation++;
+		index = null;
+		menuCache.clear();
+		toolBarCache.clear();
+	}
+
+	/**
+	 * @return whether the index is up to date with the application model
+	 */
+	public boolean isIndexCurrent() {
+		return index != null && index.generation == generation;
+	}
+
+	/**
+	 * Gather the menu contributions for the given menu, in the same order as
+	 * {@link ContributionsAnalyzer#XXXgatherMenuContributions}.
+	 *
+	 * @param menuModel     the menu to contribute to
+	 * @param id            the id of the location
+	 * @param toContribute  the list to add the contributions to
+	 * @param includePopups whether popup contributions apply
+	 */
+	public void gatherMenuContributions(MMenu menuModel, String id, List<MMenuContribution> toContribute,
+			boolean includePopups) {
+		if (id == null || id.isEmpty()) {
+			return;
+		}
+		Index current = getIndex();
+		List<String> popupIds = getPopupIds(menuModel, id, includePopups);
+		String key = getMenuKey(menuModel, id, includePopups, popupIds);
+		MMenuContribution[] resolved = menuCache.get(key);
+		if (resolved == null) {
+			resolved = resolveMenuContributions(current, menuModel, id, includePopups, popupIds);
+			menuCache.put(key, resolved);
+		}
+		for (MMenuContribution contribution : resolved) {
+			if (contribution.isToBeRendered()) {
+				toContribute.add(contribution);
+			}
+		}
+	}
+
+	/**
+	 * Gather the tool bar contributions for the given location, in the same
+	 * order as {@link ContributionsAnalyzer#XXXgatherToolBarContributions}.
+	 *
+	 * @param id           the id of the location
+	 * @param toContribute the list to add the contributions to
+	 */
+	public void gatherToolBarContributions(String id, List<MToolBarContribution> toContribute) {
+		if (id == null || id.isEmpty()) {
+			return;
+		}
+		MToolBarContribution[] resolved = toolBarCache.get(id);
+		if (resolved == null) {
+			List<MToolBarContribution> candidates = getIndex().toolBarContributions.get(id);
+			resolved = candidates == null ? NO_TOOLBAR_CONTRIBUTIONS
+					: candidates.toArray(new MToolBarContribution[candidates.size()]);
+			toolBarCache.put(id, resolved);
+		}
+		for (MToolBarContribution contribution : resolved) {
+			if (contribution.isToBeRendered()) {
+				toContribute.add(contribution);
+			}
+		}
+	}
+
+	private static List<String> getPopupIds(MMenu menuModel, String id, boolean includePopups) {
+		List<String> popupIds = new ArrayList<>();
+		popupIds.add(id);
+		if (includePopups) {
+			for (String tag : menuModel.getTags()) {
+				if (tag.startsWith("popup:")) { //$NON-NLS-1$
+					String tmp = tag.substring("popup:".length()); //$NON-NLS-1$
+					if (!popupIds.contains(tmp)) {
+						popupIds.add(tmp);
+					}
+				}
+			}
+		}
+		return popupIds;
+	}
+
+	/*
+	 * The key captures all state of the menu that the gathered contributions
+	 * depend on: the location ids, the kind of menu and its filter tags.
+	 */
+	private static String getMenuKey(MMenu menuModel, String id, boolean includePopups, List<String> popupIds) {
+		StringBuilder key = new StringBuilder(id);
+		key.append(includePopups ? "|p" : "|m"); //$NON-NLS-1$ //$NON-NLS-2$
+		key.append(menuModel instanceof MPopupMenu ? 'P' : 'M');
+		List<String> tags = menuModel.getTags();
+		key.append(tags.contains(ContributionsAnalyzer.MC_POPUP) ? '1' : '0');
+		key.append(tags.contains(ContributionsAnalyzer.MC_MENU) ? '1' : '0');
+		for (int i = 1; i < popupIds.size(); i++) {
+			key.append('|').append(popupIds.get(i));
+		}
+		return key.toString();
+	}
+
+	private static MMenuContribution[] resolveMenuContributions(Index current, MMenu menuModel, String id,
+			boolean includePopups, List<String> popupIds) {
+		List<MMenuContribution> candidates = new ArrayList<>();
+		for (String popupId : includePopups ? popupIds : Collections.singletonList(id)) {
+			List<MMenuContribution> contributions = current.menuContributions.get(popupId);
+			if (contributions != null) {
+				candidates.addAll(contributions);
+			}
+		}
+		boolean popupAny = includePopups && menuModel instanceof MPopupMenu
+				&& !popupIds.contains(ContributionsAnalyzer.POPUP_PARENT_ID);
+		if (popupAny) {
+			List<MMenuContribution> contributions = current.menuContributions
+					.get(ContributionsAnalyzer.POPUP_PARENT_ID);
+			if (contributions != null) {
+				candidates.addAll(contributions);
+			}
+		}
+		if (candidates.isEmpty()) {
+			return NO_MENU_CONTRIBUTIONS;
+		}
+		candidates.sort(Comparator.comparing(current.positions::get));
+
+		// contributions to any popup menu come first, like in the analyzer
+		List<MMenuContribution> result = new ArrayList<>(candidates.size());
+		List<MMenuContribution> included = new ArrayList<>(candidates.size());
+		for (MMenuContribution contribution : candidates) {
+			if (ContributionsAnalyzer.isFiltered(menuModel, contribution, includePopups)) {
+				continue;
+			}
+			if (includePopups && menuModel instanceof MPopupMenu
+					&& ContributionsAnalyzer.POPUP_PARENT_ID.equals(contribution.getParentId())) {
+				result.add(contribution);
+			} else {
+				included.add(contribution);
+			}
+		}
+		result.addAll(included);
+		return result.toArray(new MMenuContribution[result.size()]);
+	}
+
+	private Index getIndex() {
+		if (!isIndexCurrent()) {
+			index = computeIndex();
+		}
+		return index;
+	}
+
+	private Index computeIndex() {
+		Index newIndex = new Index(generation);
+		List<MMenuContribution> menuContributions = application.getMenuContributions();
+		for (int i = 0; i < menuContributions.size(); i++) {
+			MMenuContribution contribution = menuContributions.get(i);
+			String parentId = contribution.getParentId();
+			if (parentId == null) {
+				// see bug 320790
+				continue;
+			}
+			newIndex.menuContributions.computeIfAbsent(parentId, p -> new ArrayList<>()).add(contribution);
+			newIndex.positions.put(contribution, Integer.valueOf(i));
+		}
+		for (MToolBarContribution contribution : application.getToolBarContributions()) {
+			String parentId = contribution.getParentId();
+			if (parentId != null) {
+				newIndex.toolBarContributions.computeIfAbsent(parentId, p -> new ArrayList<>()).add(contribution);
+			}
+		}
+		return newIndex;
+	}
+}
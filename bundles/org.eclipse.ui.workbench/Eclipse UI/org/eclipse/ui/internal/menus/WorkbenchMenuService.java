@@ -23,6 +23,7 @@ import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.e4.core.commands.ExpressionContext;
 import org.eclipse.e4.core.contexts.ContextFunction;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
 import org.eclipse.e4.ui.internal.workbench.swt.AbstractPartRenderer;
@@ -81,13 +82,22 @@ public class WorkbenchMenuService implements IMenuService, IMenuServiceWorkaroun
 	private MenuPersistence persistence;
 	private Map<AbstractContributionFactory, Object> factoriesToContributions = new HashMap<>();
 	private EModelService modelService;
+	private MenuContributionCache contributionCache;
 
 	public WorkbenchMenuService(ServiceLocator serviceLocator, IEclipseContext e4Context) {
 		this.serviceLocator = serviceLocator;
 		this.e4Context = e4Context;
 		modelService = e4Context.get(EModelService.class);
 
-		persistence = new MenuPersistence(e4Context.get(MApplication.class), e4Context);
+		MApplication application = e4Context.get(MApplication.class);
+		persistence = new MenuPersistence(application, e4Context);
+		contributionCache = new MenuContributionCache(application);
+		IEventBroker eventBroker = e4Context.get(IEventBroker.class);
+		if (eventBroker != null) {
+			for (String topic : MenuContributionCache.getTopics()) {
+				eventBroker.subscribe(topic, contributionCache.getInvalidator());
+			}
+		}
 	}
 
 	@Override
@@ -102,9 +112,40 @@ public class WorkbenchMenuService implements IMenuService, IMenuServiceWorkaroun
 
 	@Override
 	public void dispose() {
+		IEventBroker eventBroker = e4Context.get(IEventBroker.class);
+		if (eventBroker != null) {
+			eventBroker.unsubscribe(contributionCache.getInvalidator());
+		}
+		contributionCache.dispose();
 		persistence.dispose();
 	}
 
+	/**
+	 * @return the cache of the menu and tool bar contributions per location
+	 */
+	public MenuContributionCache getContributionCache() {
+		return contributionCache;
+	}
+
+	/**
+	 * Process the contributions to the given menu and its sub-menus like
+	 * {@link MenuManagerRenderer#processContributions(MMenu, String, boolean, boolean)},
+	 * but gather them from the contribution cache.
+	 *
+	 * @param renderer  the renderer of the menu
+	 * @param menuModel the menu to contribute to
+	 * @param elementId the id of the location
+	 * @param isPopup   whether popup contributions apply
+	 */
+	public void processContributions(MenuManagerRenderer renderer, MMenu menuModel, String elementId,
+			boolean isPopup) {
+		renderer.processContributions(menuModel, elementId, false, isPopup, (menu, id) -> {
+			List<MMenuContribution> toContribute = new ArrayList<>();
+			contributionCache.gatherMenuContributions(menu, id, toContribute, isPopup);
+			return toContribute;
+		});
+	}
+
 	private boolean inToolbar(MenuLocationURI location) {
 		return location.getScheme().startsWith("toolbar"); //$NON-NLS-1$
 	}
@@ -243,7 +284,7 @@ public class WorkbenchMenuService implements IMenuService, IMenuServiceWorkaroun
 				MenuManagerRenderer renderer = (MenuManagerRenderer) obj;
 				mMenu.setRenderer(renderer);
 				renderer.reconcileManagerToModel(menu, mMenu);
-				renderer.processContributions(mMenu, uri.getPath(), false, "popup".equals(uri.getScheme())); //$NON-NLS-1$
+				processContributions(renderer, mMenu, uri.getPath(), "popup".equals(uri.getScheme())); //$NON-NLS-1$
 				// double cast because we're bad people
 				renderer.processContents((MElementContainer<MUIElement>) ((Object) mMenu));
 				final IEclipseContext evalContext;
@@ -267,7 +308,9 @@ public class WorkbenchMenuService implements IMenuService, IMenuServiceWorkaroun
 				ToolBarManagerRenderer renderer = (ToolBarManagerRenderer) obj;
 				mToolBar.setRenderer(renderer);
 				renderer.reconcileManagerToModel(toolbar, mToolBar);
-				renderer.processContribution(mToolBar, uri.getPath());
+				List<MToolBarContribution> toContribute = new ArrayList<>();
+				contributionCache.gatherToolBarContributions(uri.getPath(), toContribute);
+				renderer.processContribution(mToolBar, toContribute);
 				// double cast because we're bad people
 				renderer.processContents((MElementContainer<MUIElement>) ((Object) mToolBar));
 			}
@@ -520,6 +563,7 @@ public class WorkbenchMenuService implements IMenuService, IMenuServiceWorkaroun
 	 */
 	public void readRegistry() {
 		persistence.read();
+		contributionCache.invalidate();
 	}
 
 }
@@ -106,6 +106,12 @@ public class Policy {
 	 */
 	public static boolean DEBUG_HANDLERS_VERBOSE = DEFAULT;
 
+	/**
+	 * Whether to print the cost of every evaluation of a core expression
+	 * registered with the evaluation service.
+	 */
+	public static boolean DEBUG_EVALUATIONS_PERFORMANCE = DEFAULT;
+
 	/**
 	 * Whether to print debugging information about unexpected occurrences and
 	 * important state changes in the operation history.
@@ -177,6 +183,7 @@ public class Policy {
 			DEBUG_HANDLERS = getDebugOption("/trace/handlers"); //$NON-NLS-1$
 			DEBUG_HANDLERS_PERFORMANCE = getDebugOption("/trace/handlers.performance"); //$NON-NLS-1$
 			DEBUG_HANDLERS_VERBOSE = getDebugOption("/trace/handlers.verbose"); //$NON-NLS-1$
+			DEBUG_EVALUATIONS_PERFORMANCE = getDebugOption("/trace/evaluations.performance"); //$NON-NLS-1$
 			DEBUG_OPERATIONS = getDebugOption("/trace/operations"); //$NON-NLS-1$
 			DEBUG_OPERATIONS_VERBOSE = getDebugOption("/trace/operations.verbose"); //$NON-NLS-1$
 			DEBUG_SHOW_ALL_JOBS = getDebugOption("/debug/showAllJobs"); //$NON-NLS-1$
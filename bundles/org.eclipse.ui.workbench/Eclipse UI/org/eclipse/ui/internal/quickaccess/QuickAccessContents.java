@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -104,6 +105,11 @@ public abstract class QuickAccessContents {
 	private QuickAccessProvider[] providers;
 	private Map<String, QuickAccessProvider> providerMap = new HashMap<>();
 	private Map<QuickAccessElement, QuickAccessProvider> elementsToProviders = new HashMap<>();
+	/**
+	 * The matchers of the elements, reused for all the requests so that the
+	 * labels of the elements are read and normalized once.
+	 */
+	private final Map<QuickAccessElement, QuickAccessMatcher> matchers = new ConcurrentHashMap<>();
 
 	protected Table table;
 	protected Label infoLabel;
@@ -457,7 +463,7 @@ public abstract class QuickAccessContents {
 					.entrySet()) {
 				QuickAccessProvider provider = elementsPerProvider.getKey();
 				List<QuickAccessEntry> entries = elementsPerProvider.getValue().stream() //
-						.map(QuickAccessMatcher::new) //
+						.map(this::getMatcher) //
 						.map(matcher -> matcher.match(finalFilter, provider)) //
 						.filter(Objects::nonNull) //
 						.collect(Collectors.toList());
@@ -477,7 +483,7 @@ public abstract class QuickAccessContents {
 						int toPickEntries = nbEntriesPerProvider;
 						while (toPickEntries > 0 && !elements.isEmpty()) {
 							QuickAccessElement element = elements.remove(0);
-							QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+							QuickAccessEntry entry = getMatcher(element).match(filter, provider);
 							if (entry != null) {
 								numberOfSlotsLeft--;
 								toPickEntries--;
@@ -497,7 +503,7 @@ public abstract class QuickAccessContents {
 							boolean entryPicked = false;
 							while (!entryPicked && !elements.isEmpty()) {
 								QuickAccessElement element = elements.remove(0);
-								QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+								QuickAccessEntry entry = getMatcher(element).match(filter, provider);
 								if (entry != null) {
 									numberOfSlotsLeft--;
 									entryPicked = true;
@@ -530,6 +536,10 @@ public abstract class QuickAccessContents {
 		return (List<QuickAccessEntry>[]) res.toArray(new List<?>[res.size()]);
 	}
 
+	private QuickAccessMatcher getMatcher(QuickAccessElement element) {
+		return matchers.computeIfAbsent(element, QuickAccessMatcher::new);
+	}
+
 	/*
 	 * Consider whether we could directly check the "matchQuality" here, but it
 	 * seems to be a more expensive operation
@@ -22,6 +22,12 @@ import org.eclipse.ui.quickaccess.QuickAccessElement;
 /**
  * QuickAccessMatch contains the logic to check whether a given
  * {@link QuickAccessElement} matches a input user request.
+ * <p>
+ * The labels of the element are read once, and their normalized forms, like
+ * their lower case and camel case forms, are computed once and reused for all
+ * the requests, so that a matcher should be reused for all the requests of a
+ * quick access session.
+ * </p>
  *
  * @noreference This class is not intended to be referenced by clients.
  */
@@ -29,10 +35,51 @@ public final class QuickAccessMatcher {
 
 	private final QuickAccessElement element;
 
+	/**
+	 * The labels of the element and of its provider with their normalized forms.
+	 */
+	private static final class Labels {
+		final String label;
+		final String matchLabel;
+		final String providerName;
+		final String lowerCaseLabel;
+		final String lowerCaseMatchLabel;
+		final String camelCase;
+		final String combinedLabel;
+		final String lowerCaseCombinedLabel;
+		final String lowerCaseCombinedMatchLabel;
+		final String combinedCamelCase;
+		final String providerCamelCase;
+
+		Labels(String label, String matchLabel, String providerName) {
+			this.label = label;
+			this.matchLabel = matchLabel;
+			this.providerName = providerName;
+			lowerCaseLabel = label.toLowerCase();
+			lowerCaseMatchLabel = matchLabel.toLowerCase();
+			camelCase = CamelUtil.getCamelCase(label);
+			combinedLabel = providerName + " " + label; //$NON-NLS-1$
+			lowerCaseCombinedLabel = combinedLabel.toLowerCase();
+			lowerCaseCombinedMatchLabel = (providerName + " " + matchLabel).toLowerCase(); //$NON-NLS-1$
+			combinedCamelCase = CamelUtil.getCamelCase(combinedLabel);
+			providerCamelCase = CamelUtil.getCamelCase(providerName);
+		}
+	}
+
+	private Labels labels;
+
 	public QuickAccessMatcher(QuickAccessElement element) {
 		this.element = element;
 	}
 
+	private Labels getLabels(QuickAccessProvider provider) {
+		String providerName = provider.getName();
+		if (labels == null || !labels.providerName.equals(providerName)) {
+			labels = new Labels(element.getLabel(), element.getMatchLabel(), providerName);
+		}
+		return labels;
+	}
+
 	private static final int[][] EMPTY_INDICES = new int[0][0];
 	private static final String WS_WILD_START = "^\\s*(\\*|\\?)*"; //$NON-NLS-1$
 	private static final String WS_WILD_END = "(\\*|\\?)*\\s*$"; //$NON-NLS-1$
@@ -42,38 +89,51 @@ public final class QuickAccessMatcher {
 	private static final String PAR_END = "\\)"; //$NON-NLS-1$
 	private static final String ONE_CHAR = ".?"; //$NON-NLS-1$
 
+	/**
+	 * A pattern compiled from a filter. The patterns of the last filter are shared
+	 * by all matchers, as all elements are matched against the same filter.
+	 */
+	private static final class FilterPattern {
+		final String filter;
+		final Pattern pattern;
+
+		FilterPattern(String filter, Pattern pattern) {
+			this.filter = filter;
+			this.pattern = pattern;
+		}
+	}
+
 	// whitespaces filter and patterns
-	private String wsFilter;
-	private Pattern wsPattern;
+	private static volatile FilterPattern wsPattern;
 
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
 	 * The generated pattern will replace whitespace with * to match all.
 	 */
-	private Pattern getWhitespacesPattern(String filter) {
-		if (wsPattern == null || !filter.equals(wsFilter)) {
-			wsFilter = filter;
+	private static Pattern getWhitespacesPattern(String filter) {
+		FilterPattern current = wsPattern;
+		if (current == null || !filter.equals(current.filter)) {
 			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			sFilter = String.format(".*(%s).*", sFilter.replaceAll(ANY_WS, ").*(")); //$NON-NLS-1$//$NON-NLS-2$
-			wsPattern = safeCompile(sFilter);
+			current = new FilterPattern(filter, safeCompile(sFilter));
+			wsPattern = current;
 		}
-		return wsPattern;
+		return current.pattern;
 	}
 
 	// wildcard filter and patterns
-	private String wcFilter;
-	private Pattern wcPattern;
+	private static volatile FilterPattern wcPattern;
 
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
 	 * The generated pattern will handle '*' and '?' wildcards.
 	 */
-	private Pattern getWildcardsPattern(String filter) {
+	private static Pattern getWildcardsPattern(String filter) {
 		// squash consecutive **** into a single *
 		filter = filter.replaceAll("\\*+", "*"); //$NON-NLS-1$ //$NON-NLS-2$
-		if (wcPattern == null || !filter.equals(wcFilter)) {
-			wcFilter = filter;
+		FilterPattern current = wcPattern;
+		if (current == null || !filter.equals(current.filter)) {
 			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			// replace '*' and '?' with their matchers ").*(" and ").?("
@@ -99,9 +159,10 @@ public final class QuickAccessMatcher {
 			// remove empty capturing groups
 			sFilter = sFilter.replace("()", EMPTY_STR); //$NON-NLS-1$
 			//
-			wcPattern = safeCompile(sFilter);
+			current = new FilterPattern(filter, safeCompile(sFilter));
+			wcPattern = current;
 		}
-		return wcPattern;
+		return current.pattern;
 	}
 
 	/**
@@ -133,14 +194,15 @@ public final class QuickAccessMatcher {
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
 	public QuickAccessEntry match(String filter, QuickAccessProvider providerForMatching) {
-		String matchLabel = element.getMatchLabel();
+		Labels l = getLabels(providerForMatching);
+		String matchLabel = l.matchLabel;
 		// first occurrence of filter
-		int index = matchLabel.toLowerCase().indexOf(filter);
+		int index = l.lowerCaseMatchLabel.indexOf(filter);
 		if (index != -1) {
-			index = element.getLabel().toLowerCase().indexOf(filter);
+			index = l.lowerCaseLabel.indexOf(filter);
 			if (index != -1) { // match actual label
-				int quality = matchLabel.toLowerCase().equals(filter) ? QuickAccessEntry.MATCH_PERFECT
-						: (matchLabel.toLowerCase().startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
+				int quality = l.lowerCaseMatchLabel.equals(filter) ? QuickAccessEntry.MATCH_PERFECT
+						: (l.lowerCaseMatchLabel.startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
 								: QuickAccessEntry.MATCH_GOOD);
 				return new QuickAccessEntry(element, providerForMatching,
 						new int[][] { { index, index + filter.length() - 1 } }, EMPTY_INDICES, quality);
@@ -161,9 +223,9 @@ public final class QuickAccessMatcher {
 		// if matches, return an entry
 		if (m.matches()) {
 			// and highlight match on the label only
-			String label = element.getLabel();
+			String label = l.label;
 			if (!matchLabel.equals(label)) {
-				m = p.matcher(element.getLabel());
+				m = p.matcher(label);
 				if (!m.matches()) {
 					return new QuickAccessEntry(element, providerForMatching, EMPTY_INDICES, EMPTY_INDICES,
 							QuickAccessEntry.MATCH_GOOD);
@@ -181,13 +243,11 @@ public final class QuickAccessMatcher {
 			return new QuickAccessEntry(element, providerForMatching, indices, EMPTY_INDICES, quality);
 		}
 		//
-		String combinedMatchLabel = (providerForMatching.getName() + " " + element.getMatchLabel()); //$NON-NLS-1$
-		String combinedLabel = (providerForMatching.getName() + " " + element.getLabel()); //$NON-NLS-1$
-		index = combinedMatchLabel.toLowerCase().indexOf(filter);
+		index = l.lowerCaseCombinedMatchLabel.indexOf(filter);
 		if (index != -1) { // match
-			index = combinedLabel.toLowerCase().indexOf(filter);
+			index = l.lowerCaseCombinedLabel.indexOf(filter);
 			if (index != -1) { // compute highlight on label
-				int lengthOfElementMatch = index + filter.length() - providerForMatching.getName().length() - 1;
+				int lengthOfElementMatch = index + filter.length() - l.providerName.length() - 1;
 				if (lengthOfElementMatch > 0) {
 					return new QuickAccessEntry(element, providerForMatching,
 							new int[][] { { 0, lengthOfElementMatch - 1 } },
@@ -200,27 +260,24 @@ public final class QuickAccessMatcher {
 					QuickAccessEntry.MATCH_PARTIAL);
 		}
 		//
-		String camelCase = CamelUtil.getCamelCase(element.getLabel()); // use actual label for camelcase
-		index = camelCase.indexOf(filter);
+		index = l.camelCase.indexOf(filter); // use actual label for camelcase
 		if (index != -1) {
 			int[][] indices = CamelUtil.getCamelCaseIndices(matchLabel, index, filter.length());
 			return new QuickAccessEntry(element, providerForMatching, indices, EMPTY_INDICES,
 					QuickAccessEntry.MATCH_GOOD);
 		}
-		String combinedCamelCase = CamelUtil.getCamelCase(combinedLabel);
-		index = combinedCamelCase.indexOf(filter);
+		index = l.combinedCamelCase.indexOf(filter);
 		if (index != -1) {
-			String providerCamelCase = CamelUtil.getCamelCase(providerForMatching.getName());
-			int lengthOfElementMatch = index + filter.length() - providerCamelCase.length();
+			int lengthOfElementMatch = index + filter.length() - l.providerCamelCase.length();
 			if (lengthOfElementMatch > 0) {
 				return new QuickAccessEntry(element, providerForMatching,
 						CamelUtil.getCamelCaseIndices(matchLabel, 0, lengthOfElementMatch),
-						CamelUtil.getCamelCaseIndices(providerForMatching.getName(), index,
+						CamelUtil.getCamelCaseIndices(l.providerName, index,
 								filter.length() - lengthOfElementMatch),
 						QuickAccessEntry.MATCH_GOOD);
 			}
 			return new QuickAccessEntry(element, providerForMatching, EMPTY_INDICES,
-					CamelUtil.getCamelCaseIndices(providerForMatching.getName(), index, filter.length()),
+					CamelUtil.getCamelCaseIndices(l.providerName, index, filter.length()),
 					QuickAccessEntry.MATCH_GOOD);
 		}
 		return null;
@@ -14,8 +14,10 @@
 
 package org.eclipse.ui.internal.services;
 
+import org.eclipse.core.commands.internal.util.Tracing;
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.e4.core.commands.ExpressionContext;
@@ -33,6 +35,9 @@ import org.eclipse.ui.services.IEvaluationReference;
 public class EvaluationReference extends RunAndTrack implements IEvaluationReference {
 	private static final int THROTTLE_MAX = 100;
 	private static final int THROTTLE_VALUE = 3;
+	private static final boolean DEBUG_PERFORMANCE = org.eclipse.ui.internal.misc.Policy.DEBUG_EVALUATIONS_PERFORMANCE;
+	private static final String TRACING_COMPONENT = "EVALUATIONS"; //$NON-NLS-1$
+	private static final String[] NO_NAMES = new String[0];
 	final IEclipseContext context;
 	final Expression expression;
 	final IPropertyChangeListener listener;
@@ -42,6 +47,17 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 	boolean participating = true;
 	boolean postingChanges = true;
 	boolean hasRun = false;
+	/**
+	 * The variables read during the last evaluation, and the values they had.
+	 * <code>null</code> if the expression has to be evaluated on every change.
+	 */
+	private RecordingEvaluationContext inputs;
+	private String[] accessedNames;
+	/**
+	 * Whether the result of the expression only depends on the variables it
+	 * reads, see {@link #getAccessedNames()}.
+	 */
+	private boolean recordInputs;
 	static LogThrottle logThrottle = new LogThrottle(THROTTLE_MAX, THROTTLE_VALUE);
 
 	public EvaluationReference(IEclipseContext context, Expression expression, IPropertyChangeListener listener,
@@ -91,19 +107,67 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 		cache = result;
 	}
 
+	/**
+	 * Returns the names of the variables and properties the expression may access
+	 * according to its {@link ExpressionInfo}. The names are computed once.
+	 *
+	 * @return the accessed names, never <code>null</code>
+	 */
+	String[] getAccessedNames() {
+		if (accessedNames == null) {
+			if (expression == null) {
+				accessedNames = NO_NAMES;
+			} else {
+				ExpressionInfo info = expression.computeExpressionInfo();
+				String[] variables = info.getAccessedVariableNames();
+				String[] properties = info.getAccessedPropertyNames();
+				accessedNames = new String[variables.length + properties.length];
+				System.arraycopy(variables, 0, accessedNames, 0, variables.length);
+				System.arraycopy(properties, 0, accessedNames, variables.length, properties.length);
+				// property testers and system properties may give another result for
+				// the very same inputs, so such expressions are always evaluated
+				recordInputs = properties.length == 0 && !info.hasSystemPropertyAccess()
+						&& info.getMisbehavingExpressionTypes() == null;
+			}
+		}
+		return accessedNames;
+	}
+
 	@Override
 	public boolean changed(IEclipseContext context) {
 		if (!participating) {
 			return false;
 		}
 
+		// Only re-evaluate if one of the variables the expression actually read
+		// refers to another object. Reading them again keeps them tracked.
+		if (hasRun && inputs != null && inputs.isUnchanged(new ExpressionContext(this.context))) {
+			if (DEBUG_PERFORMANCE) {
+				Tracing.printTrace(TRACING_COMPONENT, "skipped, inputs unchanged: " + expression); //$NON-NLS-1$
+			}
+			return participating;
+		}
 		evaluate();
 		return participating;
 	}
 
 	public void evaluate() {
 		boolean value = cache;
-		evaluate(new ExpressionContext(context));
+		long startTime = DEBUG_PERFORMANCE ? System.nanoTime() : 0L;
+		getAccessedNames();
+		if (!recordInputs) {
+			evaluate(new ExpressionContext(context));
+		} else {
+			RecordingEvaluationContext recordingContext = new RecordingEvaluationContext(
+					new ExpressionContext(context));
+			evaluate(recordingContext);
+			inputs = recordingContext;
+		}
+		if (DEBUG_PERFORMANCE) {
+			final long elapsedTime = (System.nanoTime() - startTime) / 1000L;
+			Tracing.printTrace(TRACING_COMPONENT, "evaluated in " + elapsedTime + "us, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (inputs == null ? 0 : inputs.getInputCount()) + " inputs: " + expression); //$NON-NLS-1$
+		}
 		if (!postingChanges) {
 			return;
 		}
@@ -18,11 +18,14 @@ package org.eclipse.ui.internal.services;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
@@ -62,6 +65,12 @@ public final class EvaluationService implements IEvaluationService {
 	private ListenerList<IPropertyChangeListener> serviceListeners = new ListenerList<>(ListenerList.IDENTITY);
 	ArrayList<ISourceProvider> sourceProviders = new ArrayList<>();
 	LinkedList<EvaluationReference> refs = new LinkedList<>();
+	/**
+	 * The references by the names of the variables and properties their
+	 * expressions access, so that {@link #requestEvaluation(String)} only visits
+	 * the affected references.
+	 */
+	private HashMap<String, LinkedHashSet<EvaluationReference>> refsByAccessedName = new HashMap<>();
 	private ISourceProviderListener contextUpdater;
 
 	private HashSet<String> ratVariables = new HashSet<>();
@@ -192,6 +201,7 @@ public final class EvaluationService implements IEvaluationService {
 			invalidate(ref, false);
 		}
 		refs.clear();
+		refsByAccessedName.clear();
 		serviceListeners.clear();
 	}
 
@@ -217,6 +227,9 @@ public final class EvaluationService implements IEvaluationService {
 	public void addEvaluationReference(IEvaluationReference ref) {
 		EvaluationReference eref = (EvaluationReference) ref;
 		refs.add(eref);
+		for (String name : eref.getAccessedNames()) {
+			refsByAccessedName.computeIfAbsent(name, n -> new LinkedHashSet<>()).add(eref);
+		}
 		boolean changed = false;
 		if (eref.getExpression() != null) {
 			ExpressionInfo info = new ExpressionInfo();
@@ -239,10 +252,19 @@ public final class EvaluationService implements IEvaluationService {
 	}
 
 	private void invalidate(IEvaluationReference ref, boolean remove) {
+		EvaluationReference eref = (EvaluationReference) ref;
 		if (remove) {
 			refs.remove(ref);
+			for (String name : eref.getAccessedNames()) {
+				Set<EvaluationReference> named = refsByAccessedName.get(name);
+				if (named != null) {
+					named.remove(eref);
+					if (named.isEmpty()) {
+						refsByAccessedName.remove(name);
+					}
+				}
+			}
 		}
-		EvaluationReference eref = (EvaluationReference) ref;
 		eref.participating = false;
 		eref.evaluate();
 		eref.hasRun = false;
@@ -267,29 +289,10 @@ public final class EvaluationService implements IEvaluationService {
 		context.set(pokeVar, "link"); //$NON-NLS-1$
 
 		startSourceChange();
-		for (EvaluationReference ref : refs) {
-			Expression expr = ref.getExpression();
-			if (expr != null) {
-				boolean evaluated = false;
-				ExpressionInfo info = expr.computeExpressionInfo();
-				String[] names = info.getAccessedPropertyNames();
-				for (String name : names) {
-					if (propertyName.equals(name)) {
-						evaluated = true;
-						ref.evaluate();
-						break;
-					}
-				}
-				if (!evaluated) {
-					names = info.getAccessedVariableNames();
-					for (String name : names) {
-						if (propertyName.equals(name)) {
-							evaluated = true;
-							ref.evaluate();
-							break;
-						}
-					}
-				}
+		Set<EvaluationReference> named = refsByAccessedName.get(propertyName);
+		if (named != null) {
+			for (EvaluationReference ref : named.toArray(new EvaluationReference[named.size()])) {
+				ref.evaluate();
 			}
 		}
 		endSourceChange();
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * <p>
+ * An evaluation context that records the variables an expression actually
+ * reads while it is evaluated, together with the values it saw. After the
+ * evaluation, {@link #isUnchanged(IEvaluationContext)} tells whether all of
+ * those inputs still refer to the same objects, in which case the expression
+ * does not need to be evaluated again.
+ * </p>
+ * <p>
+ * The values are compared by identity: an equal but different object, e.g. a
+ * new selection, may give another result when it is adapted or tested.
+ * Expressions using property testers must not be recorded at all, as the
+ * testers may give another result for the very same object.
+ * </p>
+ * <p>
+ * As a consequence, a change made to a mutable value in place is not noticed.
+ * A variable whose value changes must be set to a new object, or the
+ * evaluation must be requested explicitly with
+ * {@link org.eclipse.ui.services.IEvaluationService#requestEvaluation(String)}.
+ * </p>
+ * <p>
+ * Expressions that navigate to the parent or the root context cannot be
+ * tracked; for them the recorded inputs are never considered unchanged.
+ * </p>
+ */
+final class RecordingEvaluationContext implements IEvaluationContext {
+
+	private final IEvaluationContext delegate;
+
+	/**
+	 * The names of the variables read, <code>null</code> standing for the default
+	 * variable.
+	 */
+	private final List<String> names = new ArrayList<>(4);
+
+	private final List<Object> values = new ArrayList<>(4);
+
+	private boolean allowPluginActivationRead;
+
+	private boolean allowPluginActivation;
+
+	private boolean trackable = true;
+
+	RecordingEvaluationContext(IEvaluationContext delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Whether all inputs recorded during the last evaluation still refer to the
+	 * same objects in the given context. Reading the inputs again keeps them tracked by
+	 * the Eclipse context the given evaluation context is based on.
+	 *
+	 * @param current the evaluation context to compare against
+	 * @return <code>true</code> if the expression would see the same inputs
+	 */
+	boolean isUnchanged(IEvaluationContext current) {
+		if (!trackable) {
+			return false;
+		}
+		boolean unchanged = true;
+		// read every input, even after a difference was found, so that the
+		// tracking of the underlying context stays complete
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			Object value = name == null ? current.getDefaultVariable() : current.getVariable(name);
+			if (value != values.get(i)) {
+				unchanged = false;
+			}
+		}
+		if (allowPluginActivationRead && current.getAllowPluginActivation() != allowPluginActivation) {
+			unchanged = false;
+		}
+		return unchanged;
+	}
+
+	/**
+	 * @return the number of inputs that were recorded
+	 */
+	int getInputCount() {
+		return names.size() + (allowPluginActivationRead ? 1 : 0);
+	}
+
+	private Object record(String name, Object value) {
+		for (int i = 0; i < names.size(); i++) {
+			if (Objects.equals(names.get(i), name)) {
+				return value;
+			}
+		}
+		names.add(name);
+		values.add(value);
+		return value;
+	}
+
+	@Override
+	public IEvaluationContext getParent() {
+		trackable = false;
+		return delegate.getParent();
+	}
+
+	@Override
+	public IEvaluationContext getRoot() {
+		trackable = false;
+		return delegate.getRoot();
+	}
+
+	@Override
+	public void setAllowPluginActivation(boolean value) {
+		delegate.setAllowPluginActivation(value);
+	}
+
+	@Override
+	public boolean getAllowPluginActivation() {
+		boolean value = delegate.getAllowPluginActivation();
+		if (!allowPluginActivationRead) {
+			allowPluginActivationRead = true;
+			allowPluginActivation = value;
+		}
+		return value;
+	}
+
+	@Override
+	public Object getDefaultVariable() {
+		return record(null, delegate.getDefaultVariable());
+	}
+
+	@Override
+	public void addVariable(String name, Object value) {
+		trackable = false;
+		delegate.addVariable(name, value);
+	}
+
+	@Override
+	public Object removeVariable(String name) {
+		trackable = false;
+		return delegate.removeVariable(name);
+	}
+
+	@Override
+	public Object getVariable(String name) {
+		return record(name, delegate.getVariable(name));
+	}
+
+	@Override
+	public Object resolveVariable(String name, Object[] args) throws CoreException {
+		trackable = false;
+		return delegate.resolveVariable(name, args);
+	}
+}
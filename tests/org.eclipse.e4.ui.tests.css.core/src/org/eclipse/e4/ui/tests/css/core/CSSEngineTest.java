@@ -16,17 +16,27 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.tests.css.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
 import org.eclipse.e4.ui.tests.css.core.util.TestElement;
 import org.junit.jupiter.api.Test;
+import org.w3c.css.sac.InputSource;
 import org.w3c.css.sac.Selector;
 import org.w3c.css.sac.SelectorList;
 import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleRule;
+import org.w3c.dom.css.CSSStyleSheet;
 
 class CSSEngineTest {
 
@@ -80,6 +90,26 @@ class CSSEngineTest {
 		assertFalse(engine.matches(selector, "", null));
 	}
 
+	@Test
+	void testStyleSheetParsedOnceForSameContent() throws Exception {
+		String uri = "platform:/plugin/org.eclipse.e4.ui.tests.css.core/testStyleSheetParsedOnce.css";
+		CSSRule first = parseFirstRule(new TestCSSEngine(), uri, "Date { color: red; }");
+		CSSRule second = parseFirstRule(new TestCSSEngine(), uri, "Date { color: red; }");
+		assertSame(first, second);
+
+		CSSRule changed = parseFirstRule(new TestCSSEngine(), uri, "Date { color: blue; }");
+		assertNotSame(first, changed);
+		assertEquals("blue", ((CSSStyleRule) changed).getStyle().getPropertyCSSValue("color").getCssText());
+	}
+
+	private static CSSRule parseFirstRule(TestCSSEngine engine, String uri, String css) throws IOException {
+		InputSource source = new InputSource();
+		source.setURI(uri);
+		source.setByteStream(new ByteArrayInputStream(css.getBytes(StandardCharsets.UTF_8)));
+		CSSStyleSheet styleSheet = (CSSStyleSheet) engine.parseStyleSheet(source);
+		assertEquals(1, styleSheet.getCssRules().getLength());
+		return styleSheet.getCssRules().item(0);
+	}
 
 	private TestCSSEngine engineWhichProducesElementsWithAttributeA() {
 		TestCSSEngine engine = new TestCSSEngine();
@@ -28,6 +28,7 @@ import org.eclipse.e4.ui.tests.css.forms.ExpandableCompositeTest;
 import org.eclipse.e4.ui.tests.css.forms.SectionTest;
 import org.eclipse.e4.ui.tests.css.properties.tabbed.TabbedPropertiesListTest;
 import org.eclipse.e4.ui.tests.css.properties.tabbed.TabbedPropertiesTitleTest;
+import org.eclipse.e4.ui.tests.css.swt.BatchSkinningTest;
 import org.eclipse.e4.ui.tests.css.swt.Bug419482Test;
 import org.eclipse.e4.ui.tests.css.swt.Bug459961Test;
 import org.eclipse.e4.ui.tests.css.swt.ButtonTest;
@@ -69,7 +70,7 @@ import org.junit.platform.suite.api.Suite;
 		ButtonTextTransformTest.class, LabelTextTransformTest.class, TextTextTransformTest.class, DescendentTest.class,
 		ThemeTest.class, Bug459961Test.class, Bug419482Test.class, ShellActiveTest.class, InheritTest.class,
 		TableTest.class, TreeTest.class, TabbedPropertiesListTest.class, TabbedPropertiesTitleTest.class,
-		ExpandableCompositeTest.class, SectionTest.class })
+		ExpandableCompositeTest.class, SectionTest.class, BatchSkinningTest.class })
 public class CssSwtTestSuite {
 
 }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTApplyStylesListener;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Tests that batching the skin events styles the widgets as styling them right away
+ */
+public class BatchSkinningTest extends CSSSWTTestCase {
+
+	private static final String BATCH_SKINNING = "org.eclipse.e4.ui.css.batchSkinning";
+
+	private static final String STYLE_SHEET = "Label { background-color: #FF0000 }\n"
+			+ ".green { background-color: #00FF00 }\n" + "#blue { color: #0000FF }\n"
+			+ "Button { background-color: #FFFFFF }";
+
+	private CSSSWTApplyStylesListener listener;
+
+	/** The widgets styled by the engine */
+	private final Set<Object> styledWidgets = new HashSet<>();
+
+	/** The widgets which were already styled when their skin event was sent */
+	private final Set<Object> styledOnSkinEvent = new HashSet<>();
+
+	private final Listener skinProbe = event -> {
+		if (styledWidgets.contains(event.widget)) {
+			styledOnSkinEvent.add(event.widget);
+		}
+	};
+
+	@Override
+	@AfterEach
+	public void tearDown() {
+		disposeListener();
+		System.clearProperty(BATCH_SKINNING);
+		super.tearDown();
+	}
+
+	@Test
+	void testBatchedStylesMatchImmediateStyles() {
+		List<String> immediate = createAndStyleWidgets(false);
+		assertEquals("Label (0,255,0) (0,0,255)", immediate.get(1));
+		assertTrue(immediate.get(4).startsWith("Button (255,255,255)"));
+		assertEquals(immediate, createAndStyleWidgets(true));
+	}
+
+	@Test
+	void testBatchingSwitchedAtRuntime() {
+		createAndStyleWidgets(true);
+		assertFalse(styledWidgets.isEmpty());
+		assertTrue(styledOnSkinEvent.isEmpty(), "Widgets must be styled after their skin events");
+
+		createAndStyleWidgets(false);
+		assertFalse(styledWidgets.isEmpty());
+		assertEquals(styledWidgets, styledOnSkinEvent, "Widgets must be styled on their skin events");
+	}
+
+	/**
+	 * Creates widgets which are skinned by a {@link CSSSWTApplyStylesListener},
+	 * reskins them, and returns their styles.
+	 */
+	private List<String> createAndStyleWidgets(boolean batch) {
+		disposeListener();
+		System.setProperty(BATCH_SKINNING, Boolean.toString(batch));
+		listener = new CSSSWTApplyStylesListener(display, createCountingEngine());
+		// notified after the listener, as registered after it
+		display.addListener(SWT.Skin, skinProbe);
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Composite panel = new Composite(shell, SWT.NONE);
+		panel.setLayout(new FillLayout());
+		List<Control> controls = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Label label = new Label(panel, SWT.NONE);
+			label.setText("Label " + i);
+			if (i % 2 == 1) {
+				WidgetElement.setCSSClass(label, "green");
+				WidgetElement.setID(label, "blue");
+			}
+			controls.add(label);
+		}
+		controls.add(new Button(panel, SWT.PUSH));
+		// skin the widgets again, as done after their CSS class changed
+		shell.reskin(SWT.ALL);
+		shell.pack();
+		while (display.readAndDispatch()) {
+			// process the skin events and the batches
+		}
+
+		List<String> styles = new ArrayList<>();
+		for (Control control : controls) {
+			styles.add(control.getClass().getSimpleName() + " " + toString(control.getBackground().getRGB()) + " "
+					+ toString(control.getForeground().getRGB()));
+		}
+		shell.dispose();
+		return styles;
+	}
+
+	private CSSSWTEngineImpl createCountingEngine() {
+		styledWidgets.clear();
+		styledOnSkinEvent.clear();
+		CSSSWTEngineImpl countingEngine = new CSSSWTEngineImpl(display) {
+			@Override
+			public void applyStyles(Object element, boolean applyStylesToChildNodes) {
+				styledWidgets.add(element);
+				super.applyStyles(element, applyStylesToChildNodes);
+			}
+		};
+		countingEngine.setErrorHandler(e -> fail(e.getMessage()));
+		try {
+			countingEngine.parseStyleSheet(new StringReader(STYLE_SHEET));
+		} catch (IOException e) {
+			fail(e.getMessage());
+		}
+		engine = countingEngine;
+		return countingEngine;
+	}
+
+	private void disposeListener() {
+		display.removeListener(SWT.Skin, skinProbe);
+		if (listener != null) {
+			listener.dispose();
+			listener = null;
+		}
+	}
+
+	private static String toString(RGB rgb) {
+		return "(" + rgb.red + "," + rgb.green + "," + rgb.blue + ")";
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.e4.ui.tests.application.ModelElementTest;
 import org.eclipse.e4.ui.tests.application.ModelRobustnessTest;
 import org.eclipse.e4.ui.tests.application.ResourceHandlerTest;
 import org.eclipse.e4.ui.tests.application.StartupTestSuite;
+import org.eclipse.e4.ui.tests.application.UIEventPublisherTest;
 import org.eclipse.e4.ui.tests.application.UIEventTypesTest;
 import org.eclipse.e4.ui.tests.workbench.AreaRendererTest;
 import org.eclipse.e4.ui.tests.workbench.Bug308317Test;
@@ -48,6 +49,7 @@ import org.eclipse.e4.ui.tests.workbench.ModelServiceImplTest;
 import org.eclipse.e4.ui.tests.workbench.PartFocusTest;
 import org.eclipse.e4.ui.tests.workbench.PartOnTopManagerTest;
 import org.eclipse.e4.ui.tests.workbench.PartRenderingEngineTests;
+import org.eclipse.e4.ui.tests.workbench.ProgressViewUpdaterTest;
 import org.eclipse.e4.ui.tests.workbench.SWTPartRendererTest;
 import org.eclipse.e4.ui.tests.workbench.SashRendererTest;
 import org.eclipse.e4.ui.tests.workbench.TopoSortTests;
@@ -67,6 +69,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 		StartupTestSuite.class,
 		UIEventTypesTest.class,
+		UIEventPublisherTest.class,
 		Bug299755Test.class,
 		Bug308220Test.class,
 		Bug320857Test.class,
@@ -104,7 +107,8 @@ import org.junit.runners.Suite;
 		AreaRendererTest.class,
 		SWTPartRendererTest.class,
 		ModelServiceImplTest.class,
-		CompositePartClosingTest.class
+		CompositePartClosingTest.class,
+		ProgressViewUpdaterTest.class
 })
 public class UIAllTests {
 }
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.workbench.UIEvents.ApplicationElement;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTypes;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.EList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Tests the topics and the arguments of the events sent by {@link UIEventPublisher}.
+ */
+public class UIEventPublisherTest {
+
+	private static final String TOPIC_BASE = "org/eclipse/e4/ui/model/application/ApplicationElement/";
+
+	/** The events sent, as the topic followed by the arguments */
+	private final List<Object[]> events = new ArrayList<>();
+
+	/** Run by the broker when it sends the next event */
+	private Runnable onSend;
+
+	private IEclipseContext context;
+
+	private MApplication application;
+
+	@Before
+	public void setUp() {
+		context = EclipseContextFactory.create();
+		context.set(IEventBroker.class, new RecordingEventBroker());
+		application = MApplicationFactory.INSTANCE.createApplication();
+		((Notifier) application).eAdapters().add(new UIEventPublisher(context));
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	@Test
+	public void testSet() {
+		application.setElementId("first");
+		application.setElementId("second");
+		// no event for a no-op
+		application.setElementId("second");
+
+		assertEquals(2, events.size());
+		assertEvent(0, TOPIC_BASE + "elementId/SET", EventTypes.SET, ApplicationElement.ELEMENTID, null, "first",
+				null);
+		assertEvent(1, TOPIC_BASE + "elementId/SET", EventTypes.SET, ApplicationElement.ELEMENTID, "first",
+				"second", null);
+	}
+
+	@Test
+	public void testListChanges() {
+		application.getTags().add("a");
+		application.getTags().add("b");
+		((EList<String>) application.getTags()).move(0, 1);
+		application.getTags().remove("a");
+
+		assertEquals(4, events.size());
+		assertEvent(0, TOPIC_BASE + "tags/ADD", EventTypes.ADD, ApplicationElement.TAGS, null, "a", 0);
+		assertEvent(1, TOPIC_BASE + "tags/ADD", EventTypes.ADD, ApplicationElement.TAGS, null, "b", 1);
+		// for a move, the old value is the source position
+		assertEvent(2, TOPIC_BASE + "tags/MOVE", EventTypes.MOVE, ApplicationElement.TAGS, 1, "b", 0);
+		assertEvent(3, TOPIC_BASE + "tags/REMOVE", EventTypes.REMOVE, ApplicationElement.TAGS, "a", null, 1);
+	}
+
+	@Test
+	public void testMapValueChange() {
+		application.getPersistedState().put("key", "first");
+		application.getPersistedState().put("key", "second");
+		application.getTransientData().put("key", "value");
+		application.getTransientData().put("key", "other value");
+
+		assertEquals(4, events.size());
+		assertEquals(TOPIC_BASE + "persistedState/ADD", events.get(0)[0]);
+		assertEquals(TOPIC_BASE + "persistedState/SET", events.get(1)[0]);
+		Map<?, ?> args = (Map<?, ?>) events.get(1)[1];
+		assertEquals(application, args.get(EventTags.ELEMENT));
+		assertEquals(ApplicationElement.PERSISTEDSTATE, args.get(EventTags.ATTNAME));
+		assertEquals("first", ((Map.Entry<?, ?>) args.get(EventTags.OLD_VALUE)).getValue());
+		assertEquals("second", ((Map.Entry<?, ?>) args.get(EventTags.NEW_VALUE)).getValue());
+
+		assertEquals(TOPIC_BASE + "transientData/ADD", events.get(2)[0]);
+		assertEquals(TOPIC_BASE + "transientData/SET", events.get(3)[0]);
+		args = (Map<?, ?>) events.get(3)[1];
+		assertEquals(ApplicationElement.TRANSIENTDATA, args.get(EventTags.ATTNAME));
+		assertEquals("key", ((Map.Entry<?, ?>) args.get(EventTags.NEW_VALUE)).getKey());
+		assertEquals("other value", ((Map.Entry<?, ?>) args.get(EventTags.NEW_VALUE)).getValue());
+	}
+
+	@Test
+	public void testChangeWhileSending() {
+		onSend = () -> application.setElementId("nested");
+		application.getTags().add("a");
+
+		assertEquals(2, events.size());
+		// the nested event is recorded first, and did not change the arguments of the outer event
+		assertEvent(0, TOPIC_BASE + "elementId/SET", EventTypes.SET, ApplicationElement.ELEMENTID, null, "nested",
+				null);
+		assertEvent(1, TOPIC_BASE + "tags/ADD", EventTypes.ADD, ApplicationElement.TAGS, null, "a", 0);
+	}
+
+	private void assertEvent(int index, String topic, String type, String attName, Object oldValue,
+			Object newValue, Object position) {
+		Map<String, Object> expected = new HashMap<>();
+		expected.put(EventTags.TYPE, type);
+		expected.put(EventTags.ELEMENT, application);
+		expected.put(EventTags.ATTNAME, attName);
+		expected.put(EventTags.WIDGET, null);
+		if (oldValue != null) {
+			expected.put(EventTags.OLD_VALUE, oldValue);
+		}
+		if (newValue != null) {
+			expected.put(EventTags.NEW_VALUE, newValue);
+		}
+		if (position != null) {
+			expected.put(EventTags.POSITION, position);
+		}
+		assertEquals(topic, events.get(index)[0]);
+		assertEquals(expected, events.get(index)[1]);
+	}
+
+	/**
+	 * Records the events with a copy of their arguments, taken once the handlers ran.
+	 */
+	private class RecordingEventBroker implements IEventBroker {
+
+		@Override
+		public boolean send(String topic, Object data) {
+			assertTrue(data instanceof Map);
+			Runnable runnable = onSend;
+			onSend = null;
+			if (runnable != null) {
+				runnable.run();
+			}
+			events.add(new Object[] { topic, new HashMap<>((Map<?, ?>) data) });
+			return true;
+		}
+
+		@Override
+		public boolean post(String topic, Object data) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean subscribe(String topic, EventHandler eventHandler) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headers) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean unsubscribe(EventHandler eventHandler) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
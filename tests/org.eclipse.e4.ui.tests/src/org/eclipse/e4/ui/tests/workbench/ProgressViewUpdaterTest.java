@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.workbench;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.e4.ui.progress.internal.IProgressUpdateCollector;
+import org.eclipse.e4.ui.progress.internal.JobInfo;
+import org.eclipse.e4.ui.progress.internal.ProgressViewUpdater;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link ProgressViewUpdater} delays its updates according to
+ * the time the viewers take to render them, and counts the updates it
+ * coalesces.
+ */
+public class ProgressViewUpdaterTest {
+
+	/** The minimal delay between two updates */
+	private static final long UPDATE_DELAY = 100;
+
+	/** The time the collector takes to render an update, in milliseconds */
+	private static final long RENDER_COST = 100;
+
+	/**
+	 * An updater whose updates are run by the test, timed by a clock advanced by
+	 * the collectors.
+	 */
+	private static class TestUpdater extends ProgressViewUpdater {
+
+		long nanoTime;
+
+		int scheduledUpdates;
+
+		TestUpdater() {
+		}
+
+		@Override
+		protected long nanoTime() {
+			return nanoTime;
+		}
+
+		@Override
+		protected void scheduleUpdate() {
+			scheduledUpdates++;
+		}
+
+		// made accessible to the test
+
+		@Override
+		public void addCollector(IProgressUpdateCollector newCollector) {
+			super.addCollector(newCollector);
+		}
+
+		@Override
+		public void updateCollectors() {
+			super.updateCollectors();
+		}
+
+		@Override
+		public long getUpdateDelay() {
+			return super.getUpdateDelay();
+		}
+
+		@Override
+		public long getProcessedUpdates() {
+			return super.getProcessedUpdates();
+		}
+
+		@Override
+		public long getRenderedUpdates() {
+			return super.getRenderedUpdates();
+		}
+	}
+
+	/**
+	 * A collector which takes a given time to render an update.
+	 */
+	private static class TestCollector implements IProgressUpdateCollector {
+
+		private final TestUpdater updater;
+
+		long cost;
+
+		int refreshes;
+
+		int removedElements;
+
+		TestCollector(TestUpdater updater) {
+			this.updater = updater;
+			updater.addCollector(this);
+		}
+
+		@Override
+		public void refresh() {
+			refreshes++;
+			updater.nanoTime += cost * 1_000_000;
+		}
+
+		@Override
+		public void refresh(Object[] elements) {
+		}
+
+		@Override
+		public void add(Object[] elements) {
+		}
+
+		@Override
+		public void remove(Object[] elements) {
+			removedElements += elements.length;
+		}
+	}
+
+	@Test
+	public void testCheapUpdatesUseMinimalDelay() {
+		TestUpdater updater = new TestUpdater();
+		TestCollector collector = new TestCollector(updater);
+
+		updater.refreshAll();
+		updater.updateCollectors();
+
+		assertEquals(1, collector.refreshes);
+		assertEquals(UPDATE_DELAY, updater.getUpdateDelay());
+	}
+
+	@Test
+	public void testExpensiveUpdatesAreDelayed() {
+		TestUpdater updater = new TestUpdater();
+		TestCollector collector = new TestCollector(updater);
+		collector.cost = RENDER_COST;
+
+		updater.refreshAll();
+		updater.updateCollectors();
+
+		assertEquals(1, collector.refreshes);
+		// with the default budget of 20 percent, the delay is four times the render cost
+		assertEquals(4 * RENDER_COST, updater.getUpdateDelay());
+
+		// the delay shrinks back once the updates are cheap again
+		collector.cost = 0;
+		updater.refreshAll();
+		updater.updateCollectors();
+		assertEquals(2, collector.refreshes);
+		assertEquals(UPDATE_DELAY, updater.getUpdateDelay());
+	}
+
+	@Test
+	public void testUpdatesAreCoalesced() {
+		TestUpdater updater = new TestUpdater();
+		TestCollector collector = new TestCollector(updater);
+		// a job which is not running, as one that finished since it was added
+		JobInfo info = new JobInfo(new Job("Test job") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return Status.OK_STATUS;
+			}
+		}, null, null) {
+		};
+
+		updater.addJob(info);
+		updater.refreshJobInfo(info);
+		updater.refreshJobInfo(info);
+		updater.removeJob(info);
+		assertEquals(4, updater.scheduledUpdates);
+		assertEquals(4, updater.getProcessedUpdates());
+		assertEquals(0, updater.getRenderedUpdates());
+
+		updater.updateCollectors();
+		// only the removal is passed to the viewers
+		assertEquals(1, collector.removedElements);
+		assertEquals(1, updater.getRenderedUpdates());
+
+		updater.refreshAll();
+		updater.updateCollectors();
+		// a full refresh counts as one update
+		assertEquals(1, collector.refreshes);
+		assertEquals(4, updater.getProcessedUpdates());
+		assertEquals(2, updater.getRenderedUpdates());
+	}
+}
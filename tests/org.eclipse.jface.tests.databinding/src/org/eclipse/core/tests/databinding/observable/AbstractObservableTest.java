@@ -185,6 +185,25 @@ public class AbstractObservableTest extends AbstractDefaultRealmTestCase {
 		assertTrue(observable.lastListenerRemoved);
 	}
 
+	@Test
+	public void testFireEventsWithListenersOfOtherType() throws Exception {
+		ChangeEventTracker changeListener = new ChangeEventTracker();
+		observable.addChangeListener(changeListener);
+
+		observable.fireStale();
+		observable.fireChange();
+		assertEquals(1, changeListener.count);
+
+		StaleEventTracker staleListener = new StaleEventTracker();
+		observable.addStaleListener(staleListener);
+		observable.removeChangeListener(changeListener);
+
+		observable.fireChange();
+		observable.fireStale();
+		assertEquals(1, changeListener.count);
+		assertEquals(1, staleListener.count);
+	}
+
 	@Test
 	public void testFireStaleRealmChecks() throws Exception {
 		RealmTester.setDefault(new CurrentRealm(true));
@@ -16,6 +16,9 @@
 package org.eclipse.core.tests.internal.databinding.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import java.beans.PropertyDescriptor;
 
@@ -26,6 +29,22 @@ import org.junit.Test;
  * @since 3.2
  */
 public class BeanPropertyHelperTest {
+	public static class PrimitiveBean {
+		private long count;
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException("failing");
+		}
+	}
+
 	@Test
 	public void testGetPropertyDescriptor_ClassProperty()
 			throws SecurityException, NoSuchMethodException {
@@ -53,4 +72,55 @@ public class BeanPropertyHelperTest {
 		assertEquals(IBean.class.getMethod("setValue", String.class), pd.getWriteMethod());
 	}
 
+	@Test
+	public void testGetPropertyDescriptor_Cached() {
+		assertSame(BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value"),
+				BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value"));
+		assertSame(BeanPropertyHelper.getPropertyDescriptor(IBeanExtension.class, "value"),
+				BeanPropertyHelper.getPropertyDescriptor(IBeanExtension.class, "value"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetPropertyDescriptor_MissingProperty() {
+		BeanPropertyHelper.getPropertyDescriptor(Bean.class, "missing");
+	}
+
+	@Test
+	public void testReadWriteProperty() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		Bean bean = new Bean("old");
+		assertEquals("old", BeanPropertyHelper.readProperty(bean, pd));
+		BeanPropertyHelper.writeProperty(bean, pd, "new");
+		assertEquals("new", bean.getValue());
+		BeanPropertyHelper.writeProperty(bean, pd, null);
+		assertNull(BeanPropertyHelper.readProperty(bean, pd));
+	}
+
+	@Test
+	public void testReadWritePrimitiveProperty() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count");
+		PrimitiveBean bean = new PrimitiveBean();
+		BeanPropertyHelper.writeProperty(bean, pd, Long.valueOf(3));
+		assertEquals(Long.valueOf(3), BeanPropertyHelper.readProperty(bean, pd));
+		// widened like by reflection
+		BeanPropertyHelper.writeProperty(bean, pd, Integer.valueOf(5));
+		assertEquals(Long.valueOf(5), BeanPropertyHelper.readProperty(bean, pd));
+	}
+
+	@Test
+	public void testReadPropertyOfWrongSource() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		assertNull(BeanPropertyHelper.readProperty("not a bean", pd));
+	}
+
+	@Test
+	public void testReadPropertyRethrowsException() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "failing");
+		try {
+			BeanPropertyHelper.readProperty(new PrimitiveBean(), pd);
+			fail();
+		} catch (RuntimeException e) {
+			assertEquals(IllegalStateException.class, e.getCause().getClass());
+		}
+	}
 }
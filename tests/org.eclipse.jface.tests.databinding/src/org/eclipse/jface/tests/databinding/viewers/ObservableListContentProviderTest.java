@@ -17,9 +17,11 @@ package org.eclipse.jface.tests.databinding.viewers;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Observables;
@@ -101,6 +103,25 @@ public class ObservableListContentProviderTest extends AbstractDefaultRealmTestC
 		assertEquals(0, viewer.getTable().getItemCount());
 	}
 
+	@Test
+	public void testViewerUpdate_BulkChange() {
+		input.add("first");
+		List<Object> elements = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			elements.add("element " + i);
+		}
+		input.addAll(elements);
+		assertEquals(101, viewer.getTable().getItemCount());
+		assertEquals("first", viewer.getElementAt(0));
+		assertEquals("element 99", viewer.getElementAt(100));
+		assertEquals(101, contentProvider.getKnownElements().size());
+
+		input.removeAll(elements.subList(0, 90));
+		assertEquals(11, viewer.getTable().getItemCount());
+		assertEquals("element 90", viewer.getElementAt(1));
+		assertEquals(11, contentProvider.getKnownElements().size());
+	}
+
 	@Test
 	public void testInputChanged_ClearsKnownElements() {
 		Object element = new Object();
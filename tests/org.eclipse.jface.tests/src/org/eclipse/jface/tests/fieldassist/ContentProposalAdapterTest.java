@@ -14,18 +14,35 @@
 package org.eclipse.jface.tests.fieldassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.jface.fieldassist.ContentProposal;
 import org.eclipse.jface.fieldassist.ContentProposalAdapter;
+import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
+import org.eclipse.jface.fieldassist.IContentProposalProvider2;
 import org.eclipse.jface.fieldassist.SimpleContentProposalProvider;
 import org.eclipse.jface.fieldassist.TextContentAdapter;
+import org.eclipse.jface.util.ILogger;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.tests.harness.util.TestRunLogUtil;
 import org.junit.After;
@@ -119,6 +136,160 @@ public class ContentProposalAdapterTest {
 		assertOneShellUp();
 	}
 
+	/**
+	 * Tests that the proposals of an {@link IContentProposalProvider2} are shown
+	 * once computed, and that a newer request cancels the pending one.
+	 */
+	@Test
+	public void testAsyncProposalProvider() throws Exception {
+		List<CompletableFuture<IContentProposal[]>> requests = new ArrayList<>();
+		contentProposalAdapter.setContentProposalProvider(new IContentProposalProvider2() {
+			@Override
+			public IContentProposal[] getProposals(String contents, int position) {
+				throw new AssertionError("proposals must be requested asynchronously");
+			}
+
+			@Override
+			public CompletableFuture<IContentProposal[]> getProposalsAsync(String contents, int position) {
+				CompletableFuture<IContentProposal[]> request = new CompletableFuture<>();
+				requests.add(request);
+				return request;
+			}
+		});
+		sendFocusInToControl();
+
+		contentProposalAdapter.openProposalPopup();
+		contentProposalAdapter.openProposalPopup();
+		spinEventLoop();
+		assertEquals(2, requests.size());
+		assertTrue(requests.get(0).isCancelled());
+		assertFalse(contentProposalAdapter.isProposalPopupOpen());
+
+		requests.get(1).complete(new IContentProposal[] { new ContentProposal("one") });
+		spinEventLoop();
+		assertTrue(contentProposalAdapter.isProposalPopupOpen());
+
+		contentProposalAdapter.closeProposalPopup();
+		assertOneShellUp();
+	}
+
+	/**
+	 * Tests that a failed request of an {@link IContentProposalProvider2} is
+	 * logged and no longer pending.
+	 */
+	@Test
+	public void testFailedAsyncProposalRequest() throws Exception {
+		List<CompletableFuture<IContentProposal[]>> requests = new ArrayList<>();
+		contentProposalAdapter.setContentProposalProvider(new IContentProposalProvider2() {
+			@Override
+			public IContentProposal[] getProposals(String contents, int position) {
+				throw new AssertionError("proposals must be requested asynchronously");
+			}
+
+			@Override
+			public CompletableFuture<IContentProposal[]> getProposalsAsync(String contents, int position) {
+				CompletableFuture<IContentProposal[]> request = new CompletableFuture<>();
+				requests.add(request);
+				return request;
+			}
+		});
+		List<IStatus> logged = new ArrayList<>();
+		ILogger logger = Policy.getLog();
+		Policy.setLog(logged::add);
+		try {
+			sendFocusInToControl();
+			contentProposalAdapter.openProposalPopup();
+			IllegalStateException failure = new IllegalStateException("no proposals");
+			requests.get(0).completeExceptionally(failure);
+			spinEventLoop();
+			assertFalse(contentProposalAdapter.isProposalPopupOpen());
+			assertEquals(1, logged.size());
+			assertEquals(IStatus.ERROR, logged.get(0).getSeverity());
+			assertSame(failure, logged.get(0).getException());
+
+			// the failed request is not canceled by the next one
+			contentProposalAdapter.openProposalPopup();
+			assertEquals(2, requests.size());
+			assertFalse(requests.get(0).isCancelled());
+			requests.get(1).complete(new IContentProposal[] { new ContentProposal("one") });
+			spinEventLoop();
+			assertTrue(contentProposalAdapter.isProposalPopupOpen());
+			assertEquals(1, logged.size());
+		} finally {
+			Policy.setLog(logger);
+		}
+
+		contentProposalAdapter.closeProposalPopup();
+		assertOneShellUp();
+	}
+
+	/**
+	 * Tests that a longer filter text only checks the proposals matching the
+	 * previous one, and that a shorter one checks all proposals again.
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testFilterNarrowsPreviousMatches() throws Exception {
+		CountingLabelProvider labelProvider = new CountingLabelProvider();
+		contentProposalAdapter.setLabelProvider(labelProvider);
+		contentProposalAdapter.setFilterStyle(ContentProposalAdapter.FILTER_CUMULATIVE);
+		sendFocusInToControl();
+		contentProposalAdapter.openProposalPopup();
+		spinEventLoop();
+		assertTrue(contentProposalAdapter.isProposalPopupOpen());
+
+		labelProvider.reset();
+		sendKeyDownToPopup('t');
+		assertEquals(getProposals().length, labelProvider.getFilterChecks());
+		assertEquals(List.of("two", "three", "ten"), getShownProposals());
+
+		labelProvider.reset();
+		sendKeyDownToPopup('w');
+		assertEquals(3, labelProvider.getFilterChecks());
+		assertEquals(List.of("two"), getShownProposals());
+
+		labelProvider.reset();
+		sendKeyDownToPopup(SWT.BS);
+		assertEquals(getProposals().length, labelProvider.getFilterChecks());
+		assertEquals(List.of("two", "three", "ten"), getShownProposals());
+
+		contentProposalAdapter.closeProposalPopup();
+		assertOneShellUp();
+	}
+
+	/**
+	 * A label provider counting the labels computed to filter the proposals. The
+	 * popup computes the image of a proposal along with its label when showing
+	 * it, but only the label when filtering it.
+	 */
+	private static class CountingLabelProvider extends LabelProvider {
+
+		private int texts;
+
+		private int images;
+
+		@Override
+		public String getText(Object element) {
+			texts++;
+			return ((IContentProposal) element).getContent();
+		}
+
+		@Override
+		public Image getImage(Object element) {
+			images++;
+			return null;
+		}
+
+		int getFilterChecks() {
+			return texts - images;
+		}
+
+		void reset() {
+			texts = 0;
+			images = 0;
+		}
+	}
+
 	// most of the following code is copied from AbstractFieldAssistTestCase
 
 	@Before
@@ -183,6 +354,51 @@ public class ContentProposalAdapterTest {
 		spinEventLoop();
 	}
 
+	/**
+	 * Sends an SWT KeyDown event for the specified character to the field assist
+	 * control while the popup is open, which filters the proposals.
+	 */
+	private void sendKeyDownToPopup(char character) {
+		Event event = new Event();
+		event.character = character;
+		text.notifyListeners(SWT.KeyDown, event);
+		spinEventLoop();
+	}
+
+	/**
+	 * Returns the proposals shown in the popup.
+	 */
+	private List<String> getShownProposals() {
+		for (Shell shell : getDisplay().getShells()) {
+			if (shell != controlShell && shell.getChildren().length > 0) {
+				Table table = findTable(shell);
+				if (table != null) {
+					List<String> shown = new ArrayList<>();
+					for (TableItem item : table.getItems()) {
+						shown.add(item.getText());
+					}
+					return shown;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Table findTable(Composite composite) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof Table table) {
+				return table;
+			}
+			if (child instanceof Composite childComposite) {
+				Table table = findTable(childComposite);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
 	private void spinEventLoop() {
 		// spin the event loop again because we have some asyncExec calls in the
 		// ContentProposalAdapter class
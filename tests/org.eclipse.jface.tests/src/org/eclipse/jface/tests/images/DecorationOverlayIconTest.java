@@ -26,6 +26,9 @@ import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.DecorationOverlayIcon;
 import org.eclipse.jface.viewers.IDecoration;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -158,4 +161,38 @@ public class DecorationOverlayIconTest {
 		assertTrue(equalButDifferentIcon1.equals(equalButDifferentIcon2));
 		assertEquals(equalButDifferentIcon1.hashCode(), equalButDifferentIcon2.hashCode());
 	}
+
+	@Test
+	public void testImageDataOfBundleImagesShared() {
+		new DecorationOverlayIcon(baseDescriptor1, overlayDescriptor1, IDecoration.TOP_LEFT).getImageData(100);
+		long hits = JFaceResources.getImageCacheStatistics().get("hits").longValue();
+		ImageData data = new DecorationOverlayIcon(baseDescriptor1, overlayDescriptor1, IDecoration.TOP_LEFT)
+				.getImageData(100);
+		assertNotNull(data);
+		assertEquals("Composed image data was not shared", hits + 1,
+				JFaceResources.getImageCacheStatistics().get("hits").longValue());
+	}
+
+	@Test
+	public void testImageDataOfMutableImagesNotShared() {
+		ImageData baseData = new ImageData(64, 64, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		ImageDescriptor base = ImageDescriptor.createFromImageDataProvider(zoom -> zoom == 100 ? baseData : null);
+		ImageData data = new DecorationOverlayIcon(base, overlayDescriptor1, IDecoration.TOP_LEFT).getImageData(100);
+		assertEquals(new RGB(0, 0, 0), data.palette.getRGB(data.getPixel(63, 63)));
+
+		// an equal icon must not get the composition of the old base image data
+		baseData.setPixel(63, 63, 0xFFFFFF);
+		data = new DecorationOverlayIcon(base, overlayDescriptor1, IDecoration.TOP_LEFT).getImageData(100);
+		assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(63, 63)));
+
+		// neither the composition of mutable overlays
+		ImageData overlayData = new ImageData(64, 64, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		ImageDescriptor overlay = ImageDescriptor
+				.createFromImageDataProvider(zoom -> zoom == 100 ? overlayData : null);
+		data = new DecorationOverlayIcon(baseDescriptor1, overlay, IDecoration.REPLACE).getImageData(100);
+		assertEquals(new RGB(0, 0, 0), data.palette.getRGB(data.getPixel(0, 0)));
+		overlayData.setPixel(0, 0, 0xFFFFFF);
+		data = new DecorationOverlayIcon(baseDescriptor1, overlay, IDecoration.REPLACE).getImageData(100);
+		assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(0, 0)));
+	}
 }
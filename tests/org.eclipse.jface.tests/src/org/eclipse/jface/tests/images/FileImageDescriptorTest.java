@@ -35,6 +35,7 @@ import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
@@ -149,6 +150,29 @@ public class FileImageDescriptorTest {
 		image2.dispose();
 	}
 
+	/**
+	 * Test that the image data of equal descriptors is decoded once and that
+	 * every caller gets its own copy of it.
+	 */
+	@Test
+	public void testImageDataSharedBetweenEqualDescriptors() {
+		ImageDescriptor descriptor1 = ImageDescriptor.createFromFile(FileImageDescriptorTest.class, "anything.gif");
+		ImageDescriptor descriptor2 = ImageDescriptor.createFromFile(FileImageDescriptorTest.class, "anything.gif");
+		ImageData data1 = descriptor1.getImageData(100);
+		assertNotNull("Could not load image data", data1);
+
+		long hits = JFaceResources.getImageCacheStatistics().get("hits").longValue();
+		ImageData data2 = descriptor2.getImageData(100);
+		assertEquals("Image data was not shared", hits + 1,
+				JFaceResources.getImageCacheStatistics().get("hits").longValue());
+
+		assertNotSame("Image data must be copied", data1, data2);
+		assertNotSame("Image data must be copied", data1.data, data2.data);
+		int pixel = data2.getPixel(0, 0);
+		data1.setPixel(0, 0, pixel == 0 ? 1 : 0);
+		assertEquals("Image data must be copied", pixel, descriptor1.getImageData(100).getPixel(0, 0));
+	}
+
 	@Test
 	public void testGetxName() {
 		ImageDescriptor descriptor = ImageDescriptor.createFromFile(FileImageDescriptorTest.class,
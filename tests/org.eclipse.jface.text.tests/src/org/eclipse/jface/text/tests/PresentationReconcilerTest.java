@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.TextAttribute;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.jface.text.presentation.PresentationReconciler;
+import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IWordDetector;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
+import org.eclipse.jface.text.rules.WordRule;
+import org.eclipse.jface.text.tests.util.DisplayHelper;
+
+/**
+ * Tests that {@link PresentationReconciler} shows the same presentation whether it repairs large
+ * damages incrementally or at once.
+ */
+public class PresentationReconcilerTest {
+
+	/** The number of lines of the test document, making it larger than an incremental damage. */
+	private static final int LINE_COUNT= 10000;
+
+	@Rule public ScreenshotOnFailureRule screenshotRule= new ScreenshotOnFailureRule();
+
+	private Shell fShell;
+
+	@Before
+	public void setUp() {
+		fShell= new Shell();
+		fShell.setLayout(new FillLayout(SWT.VERTICAL));
+		fShell.setSize(500, 400);
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	@Test
+	public void testIncrementalRepairShowsFullPresentation() {
+		TextViewer full= createViewer(false);
+		TextViewer incremental= createViewer(true);
+		fShell.open();
+
+		full.setDocument(new Document(createContent()));
+		incremental.setDocument(new Document(createContent()));
+
+		assertSamePresentation(full, incremental);
+	}
+
+	@Test
+	public void testIncrementalRepairShowsVisibleLinesFirst() {
+		TextViewer full= createViewer(false);
+		TextViewer incremental= createViewer(true);
+		fShell.open();
+
+		full.setDocument(new Document(createContent()));
+		incremental.setDocument(new Document(createContent()));
+
+		// the visible lines are repaired right away, the others are not yet
+		StyledText fullWidget= full.getTextWidget();
+		StyledText incrementalWidget= incremental.getTextWidget();
+		int visibleEnd= incremental.getBottomIndexEndOffset() + 1;
+		assertArrayEquals(fullWidget.getStyleRanges(0, visibleEnd), incrementalWidget.getStyleRanges(0, visibleEnd));
+		assertFalse(Arrays.equals(fullWidget.getStyleRanges(), incrementalWidget.getStyleRanges()));
+
+		assertSamePresentation(full, incremental);
+	}
+
+	@Test
+	public void testIncrementalRepairFollowsDocumentChanges() throws BadLocationException {
+		TextViewer full= createViewer(false);
+		TextViewer incremental= createViewer(true);
+		fShell.open();
+
+		IDocument fullDocument= new Document(createContent());
+		IDocument incrementalDocument= new Document(createContent());
+		full.setDocument(fullDocument);
+		incremental.setDocument(incrementalDocument);
+
+		// change the document while the repair is pending
+		for (IDocument document : new IDocument[] { fullDocument, incrementalDocument }) {
+			int offset= document.getLineOffset(LINE_COUNT / 2);
+			document.replace(offset, document.getLineLength(LINE_COUNT / 2), "");
+			document.replace(document.getLength() - 10, 0, "keyword \"inserted\" ");
+			document.replace(0, 0, "keyword\n");
+		}
+
+		assertSamePresentation(full, incremental);
+	}
+
+	@Test
+	public void testIncrementalRepairDisabledByDefault() {
+		assertFalse(new PresentationReconciler().isIncrementalRepair());
+	}
+
+	private TextViewer createViewer(boolean incrementalRepair) {
+		TextViewer viewer= new TextViewer(fShell, SWT.V_SCROLL | SWT.H_SCROLL);
+		Display display= fShell.getDisplay();
+		Token keyword= new Token(new TextAttribute(display.getSystemColor(SWT.COLOR_DARK_MAGENTA), null, SWT.BOLD));
+		Token string= new Token(new TextAttribute(display.getSystemColor(SWT.COLOR_BLUE)));
+		WordRule wordRule= new WordRule(new WordDetector());
+		wordRule.addWord("keyword", keyword);
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new IRule[] { wordRule, new SingleLineRule("\"", "\"", string, '\\') });
+
+		PresentationReconciler reconciler= new PresentationReconciler();
+		reconciler.setIncrementalRepair(incrementalRepair);
+		DefaultDamagerRepairer damagerRepairer= new DefaultDamagerRepairer(scanner);
+		reconciler.setDamager(damagerRepairer, IDocument.DEFAULT_CONTENT_TYPE);
+		reconciler.setRepairer(damagerRepairer, IDocument.DEFAULT_CONTENT_TYPE);
+		reconciler.install(viewer);
+		return viewer;
+	}
+
+	private static String createContent() {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < LINE_COUNT; i++) {
+			content.append("line ").append(i);
+			if (i % 3 == 0)
+				content.append(" keyword");
+			if (i % 5 == 0)
+				content.append(" \"string ").append(i).append('"');
+			content.append(" text\n");
+		}
+		return content.toString();
+	}
+
+	private void assertSamePresentation(TextViewer expected, TextViewer actual) {
+		StyleRange[] expectedRanges= expected.getTextWidget().getStyleRanges();
+		assertTrue(expectedRanges.length > 0);
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return Arrays.equals(expectedRanges, actual.getTextWidget().getStyleRanges());
+			}
+		}.waitForCondition(fShell.getDisplay(), 10000);
+		assertArrayEquals(expectedRanges, actual.getTextWidget().getStyleRanges());
+	}
+
+	private static class WordDetector implements IWordDetector {
+		@Override
+		public boolean isWordStart(char c) {
+			return Character.isJavaIdentifierStart(c);
+		}
+
+		@Override
+		public boolean isWordPart(char c) {
+			return Character.isJavaIdentifierPart(c);
+		}
+	}
+}
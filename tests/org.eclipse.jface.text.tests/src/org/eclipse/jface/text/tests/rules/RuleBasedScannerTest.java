@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.rules.BufferedRuleBasedScanner;
+import org.eclipse.jface.text.rules.EndOfLineRule;
+import org.eclipse.jface.text.rules.ICharacterScanner;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.IWhitespaceDetector;
+import org.eclipse.jface.text.rules.IWordDetector;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.NumberRule;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
+import org.eclipse.jface.text.rules.WhitespaceRule;
+import org.eclipse.jface.text.rules.WordRule;
+
+/**
+ * Tests that skipping rules based on the first character of a token does not change the tokens
+ * returned by a {@link RuleBasedScanner}.
+ */
+public class RuleBasedScannerTest {
+
+	private static final String CONTENT= "/* comment\n * \"not a string\" */\n" //
+			+ "int x = 42; // line comment 'x'\n" //
+			+ "String s = \"a \\\" b\"; char c = '\\'';\n" //
+			+ "for (int i = 0; i < 10; i++) x += i * 3;\n" //
+			+ "/* unterminated comment é 12 ü";
+
+	/**
+	 * A rule delegating to another rule, which prevents the scanner from skipping it.
+	 */
+	private static final class DelegatingRule implements IRule {
+
+		private final IRule fRule;
+
+		DelegatingRule(IRule rule) {
+			fRule= rule;
+		}
+
+		@Override
+		public IToken evaluate(ICharacterScanner scanner) {
+			return fRule.evaluate(scanner);
+		}
+	}
+
+	private static IRule[] createRules() {
+		IWordDetector wordDetector= new IWordDetector() {
+			@Override
+			public boolean isWordStart(char c) {
+				return Character.isJavaIdentifierStart(c);
+			}
+
+			@Override
+			public boolean isWordPart(char c) {
+				return Character.isJavaIdentifierPart(c);
+			}
+		};
+		WordRule wordRule= new WordRule(wordDetector, new Token("identifier"));
+		wordRule.addWord("int", new Token("keyword"));
+		wordRule.addWord("for", new Token("keyword"));
+		wordRule.addWord("char", new Token("keyword"));
+		IWhitespaceDetector whitespaceDetector= Character::isWhitespace;
+		return new IRule[] {
+				new MultiLineRule("/*", "*/", new Token("comment"), (char) 0, true),
+				new EndOfLineRule("//", new Token("line comment")),
+				new SingleLineRule("\"", "\"", new Token("string"), '\\'),
+				new SingleLineRule("'", "'", new Token("char"), '\\'),
+				new WhitespaceRule(whitespaceDetector, new Token("whitespace")),
+				new NumberRule(new Token("number")),
+				wordRule };
+	}
+
+	private static List<String> scan(RuleBasedScanner scanner, IRule[] rules, IDocument document) {
+		scanner.setRules(rules);
+		scanner.setDefaultReturnToken(new Token("default"));
+		scanner.setRange(document, 0, document.getLength());
+		List<String> tokens= new ArrayList<>();
+		IToken token;
+		while (!(token= scanner.nextToken()).isEOF()) {
+			tokens.add(token.getData() + "@" + scanner.getTokenOffset() + "+" + scanner.getTokenLength());
+		}
+		return tokens;
+	}
+
+	private static IRule[] delegate(IRule[] rules) {
+		IRule[] delegates= new IRule[rules.length];
+		for (int i= 0; i < rules.length; i++) {
+			delegates[i]= new DelegatingRule(rules[i]);
+		}
+		return delegates;
+	}
+
+	@Test
+	public void testSameTokensAsWithoutSkippingRules() {
+		IDocument document= new Document(CONTENT);
+		IRule[] rules= createRules();
+		List<String> expected= scan(new RuleBasedScanner(), delegate(rules), document);
+		assertEquals(expected, scan(new RuleBasedScanner(), rules, document));
+		assertEquals(expected, scan(new BufferedRuleBasedScanner(16), rules, document));
+	}
+
+	@Test
+	public void testColumnConstraint() {
+		IDocument document= new Document("#a\n #b\n#c");
+		EndOfLineRule rule= new EndOfLineRule("#", new Token("directive"));
+		rule.setColumnConstraint(0);
+		IRule[] rules= { rule };
+		List<String> expected= scan(new RuleBasedScanner(), delegate(rules), document);
+		assertEquals(expected, scan(new RuleBasedScanner(), rules, document));
+		assertEquals("directive@0+3", expected.get(0));
+		assertEquals("default@4+1", expected.get(2));
+	}
+}
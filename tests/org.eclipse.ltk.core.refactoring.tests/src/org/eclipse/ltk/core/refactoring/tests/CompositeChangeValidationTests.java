@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourceAttributes;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+/**
+ * Tests that validating the text file changes of a {@link CompositeChange}
+ * concurrently gives the same result as validating them one after the other.
+ */
+public class CompositeChangeValidationTests {
+
+	private static final String PARALLEL_VALIDATION= "org.eclipse.ltk.core.refactoring.parallelValidation";
+
+	/** More text file changes than validated concurrently at least */
+	private static final int FILE_COUNT= 20;
+
+	private SimpleTestProject fProject;
+
+	private final List<IFile> fFiles= new ArrayList<>();
+
+	private static class StatusChange extends Change {
+		private final RefactoringStatus fStatus;
+
+		StatusChange(RefactoringStatus status) {
+			fStatus= status;
+		}
+
+		@Override
+		public String getName() {
+			return "Status change";
+		}
+
+		@Override
+		public void initializeValidationData(IProgressMonitor pm) {
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			return fStatus;
+		}
+
+		@Override
+		public Change perform(IProgressMonitor pm) throws CoreException {
+			return null;
+		}
+
+		@Override
+		public Object getModifiedElement() {
+			return null;
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		for (int i= 0; i < FILE_COUNT; i++) {
+			fFiles.add(fProject.createFile(fProject.getProject(), "file" + i + ".txt", "content " + i));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		System.clearProperty(PARALLEL_VALIDATION);
+		for (IFile file : fFiles) {
+			setReadOnly(file, false);
+		}
+		fProject.delete();
+	}
+
+	@Test
+	public void testValidStatus() throws Exception {
+		CompositeChange change= createChange();
+		change.initializeValidationData(null);
+
+		String sequential= validate(change, false);
+		assertEquals("", sequential);
+		assertEquals(sequential, validate(change, true));
+	}
+
+	@Test
+	public void testStatusPropagation() throws Exception {
+		CompositeChange change= createChange();
+		change.add(new StatusChange(RefactoringStatus.createWarningStatus("first warning")));
+		for (int i= 0; i < FILE_COUNT; i+= 5) {
+			change.add(new StatusChange(RefactoringStatus.createErrorStatus("error " + i)));
+			change.add(createTextFileChange(fProject.createFile(fProject.getProject(), "extra" + i + ".txt", "")));
+		}
+		change.add(new StatusChange(RefactoringStatus.createInfoStatus("last info")));
+		change.initializeValidationData(null);
+
+		String sequential= validate(change, false);
+		assertTrue(sequential, sequential.startsWith("WARNING first warning\nERROR error 0\nERROR error 5\n"));
+		assertTrue(sequential, sequential.endsWith("INFO last info\n"));
+		assertEquals(sequential, validate(change, true));
+	}
+
+	@Test
+	public void testStopAtFirstFatalError() throws Exception {
+		CompositeChange change= createChange();
+		change.add(new StatusChange(RefactoringStatus.createWarningStatus("not validated")));
+		change.initializeValidationData(null);
+		// changing the files after initializing the validation data is a fatal error
+		setContents(fFiles.get(5));
+		setContents(fFiles.get(12));
+
+		String sequential= validate(change, false);
+		assertTrue(sequential, sequential.contains("file5.txt"));
+		assertFalse(sequential, sequential.contains("file12.txt"));
+		assertFalse(sequential, sequential.contains("not validated"));
+		assertEquals(sequential, validate(change, true));
+	}
+
+	@Test
+	public void testCoreExceptionPropagation() throws Exception {
+		CompositeChange change= createChangeWithUninitializedChild(10);
+		setContents(fFiles.get(15));
+
+		String sequential= validate(change, false);
+		assertTrue(sequential, sequential.startsWith("CoreException"));
+		assertEquals(sequential, validate(change, true));
+	}
+
+	@Test
+	public void testNoCoreExceptionAfterFatalError() throws Exception {
+		CompositeChange change= createChangeWithUninitializedChild(10);
+		setContents(fFiles.get(3));
+
+		String sequential= validate(change, false);
+		assertTrue(sequential, sequential.contains("FATAL"));
+		assertFalse(sequential, sequential.startsWith("CoreException"));
+		assertEquals(sequential, validate(change, true));
+	}
+
+	@Test
+	public void testValidateEditFiles() throws Exception {
+		CompositeChange change= createChange();
+		change.initializeValidationData(null);
+		// the workspace reports read-only files passed to validateEdit
+		setReadOnly(fFiles.get(6), true);
+		setReadOnly(fFiles.get(11), true);
+
+		String sequential= validate(change, false);
+		assertTrue(sequential, sequential.contains("file6.txt"));
+		assertFalse(sequential, sequential.contains("file11.txt"));
+		assertEquals(sequential, validate(change, true));
+	}
+
+	private CompositeChange createChange() {
+		CompositeChange change= new CompositeChange("Composite change");
+		for (IFile file : fFiles) {
+			change.add(createTextFileChange(file));
+		}
+		return change;
+	}
+
+	/**
+	 * Creates a change whose children are initialized, except the one at the
+	 * given index. Validating that child throws a {@link CoreException}.
+	 */
+	private CompositeChange createChangeWithUninitializedChild(int uninitialized) {
+		CompositeChange change= new CompositeChange("Composite change");
+		for (int i= 0; i < fFiles.size(); i++) {
+			TextFileChange child= createTextFileChange(fFiles.get(i));
+			if (i != uninitialized)
+				child.initializeValidationData(null);
+			change.add(child);
+		}
+		return change;
+	}
+
+	private static TextFileChange createTextFileChange(IFile file) {
+		TextFileChange change= new TextFileChange("Change of " + file.getName(), file);
+		change.setEdit(new ReplaceEdit(0, 0, "changed "));
+		return change;
+	}
+
+	/**
+	 * Validates the given change and describes the resulting status, or the
+	 * thrown exception.
+	 */
+	private static String validate(Change change, boolean parallel) {
+		System.setProperty(PARALLEL_VALIDATION, Boolean.toString(parallel));
+		try {
+			StringBuilder result= new StringBuilder();
+			for (RefactoringStatusEntry entry : change.isValid(null).getEntries()) {
+				result.append(getSeverityString(entry)).append(' ').append(entry.getMessage()).append('\n');
+			}
+			return result.toString();
+		} catch (CoreException e) {
+			return "CoreException " + e.getStatus().getMessage();
+		}
+	}
+
+	private static String getSeverityString(RefactoringStatusEntry entry) {
+		if (entry.isFatalError())
+			return "FATAL";
+		if (entry.isError())
+			return "ERROR";
+		if (entry.isWarning())
+			return "WARNING";
+		return "INFO";
+	}
+
+	private static void setContents(IFile file) throws CoreException {
+		file.setContents(new ByteArrayInputStream("modified".getBytes()), true, false, null);
+	}
+
+	private static void setReadOnly(IFile file, boolean readOnly) throws CoreException {
+		if (!file.exists())
+			return;
+		ResourceAttributes attributes= file.getResourceAttributes();
+		attributes.setReadOnly(readOnly);
+		file.setResourceAttributes(attributes);
+	}
+}
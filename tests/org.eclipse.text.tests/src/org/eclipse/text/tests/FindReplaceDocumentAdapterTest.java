@@ -480,6 +480,32 @@ public class FindReplaceDocumentAdapterTest {
 		}
 	}
 
+	@Test
+	public void testRepeatedBackwardSearch() throws Exception {
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+		String[] patterns= { "a+", "\\w+", "ab|b", "x*", "c.*?\\(" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		for (String pattern : patterns) {
+			fDocument.set("aab abab\nxaaa ab c(b) abc(\nb"); //$NON-NLS-1$
+			assertBackwardSearch(adapter, pattern);
+			fDocument.replace(3, 0, "ba"); //$NON-NLS-1$
+			assertBackwardSearch(adapter, pattern);
+		}
+	}
+
+	private void assertBackwardSearch(FindReplaceDocumentAdapter adapter, String pattern) throws BadLocationException {
+		String content= fDocument.get();
+		java.util.regex.Matcher matcher= java.util.regex.Pattern.compile(pattern, java.util.regex.Pattern.MULTILINE).matcher(content);
+		for (int offset= content.length() - 1; offset >= 0; offset--) {
+			IRegion expected= null;
+			boolean found= matcher.find(0);
+			while (found && matcher.end() <= offset + 1) {
+				expected= new Region(matcher.start(), matcher.end() - matcher.start());
+				found= matcher.start() < content.length() && matcher.find(matcher.start() + 1);
+			}
+			assertEquals(pattern + " at " + offset, expected, adapter.find(offset, pattern, false, true, false, true)); //$NON-NLS-1$
+		}
+	}
+
 	@Test
 	public void testRegexFindStackOverflow_fail() throws Exception {
 		// test for https://bugs.eclipse.org/bugs/show_bug.cgi?id=102699
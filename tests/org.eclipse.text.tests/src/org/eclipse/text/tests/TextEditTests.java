@@ -41,8 +41,17 @@ import org.eclipse.text.edits.TextEditCopier;
 import org.eclipse.text.edits.UndoEdit;
 
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IDocumentPartitioner;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPredicateRule;
+import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
 
 public class TextEditTests {
 
@@ -1385,6 +1394,103 @@ public class TextEditTests {
 		assertEquals(result, 2, 1);
 	}
 
+	@Test
+	public void testManyEdits() throws Exception {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 300; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		MultiTextEdit root= new MultiTextEdit();
+		for (int i= 0; i < 300; i++) {
+			int offset= content.indexOf("line " + i + "\n");
+			switch (i % 3) {
+				case 0:
+					root.addChild(new ReplaceEdit(offset, 4, "LINE"));
+					break;
+				case 1:
+					root.addChild(new InsertEdit(offset, "> "));
+					root.addChild(new InsertEdit(offset, ">"));
+					break;
+				default:
+					root.addChild(new DeleteEdit(offset, 5));
+					break;
+			}
+		}
+		MultiTextEdit copy= (MultiTextEdit) root.copy();
+
+		// a position in the changed region makes the edits being applied one by one
+		IDocument reference= new Document(content.toString());
+		reference.addPosition(new Position(10, 1));
+		UndoEdit referenceUndo= copy.apply(reference, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS);
+
+		IDocument document= new Document(content.toString());
+		UndoEdit undo= root.apply(document, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS);
+
+		Assert.assertEquals(reference.get(), document.get());
+		TextEdit[] children= root.getChildren();
+		TextEdit[] referenceChildren= copy.getChildren();
+		for (int i= 0; i < children.length; i++) {
+			assertEquals(children[i], referenceChildren[i].getOffset(), referenceChildren[i].getLength());
+		}
+		assertEquals(root, copy.getOffset(), copy.getLength());
+		assertEquals(undo, referenceUndo.getOffset(), referenceUndo.getLength());
+		Assert.assertEquals(referenceUndo.getChildrenSize(), undo.getChildrenSize());
+
+		undo.apply(document);
+		Assert.assertEquals(content.toString(), document.get());
+	}
+
+	@Test
+	public void testManyEditsWithPartitioner() throws Exception {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 300; i++) {
+			content.append("line ").append(i).append(" 'text'\n");
+		}
+		MultiTextEdit root= new MultiTextEdit();
+		for (int i= 0; i < 300; i++) {
+			int offset= content.indexOf("line " + i + " ");
+			if (i % 2 == 0)
+				root.addChild(new InsertEdit(offset, "'"));
+			else
+				root.addChild(new DeleteEdit(content.indexOf("'", offset), 1));
+		}
+		MultiTextEdit copy= (MultiTextEdit) root.copy();
+
+		IDocument reference= createPartitionedDocument(content.toString());
+		reference.addPosition(new Position(10, 1));
+		copy.apply(reference);
+
+		IDocument document= createPartitionedDocument(content.toString());
+		int[] changes= new int[1];
+		document.addDocumentListener(new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				changes[0]++;
+			}
+		});
+		root.apply(document);
+
+		// the positions of the partitioner do not prevent a single document change
+		Assert.assertEquals(1, changes[0]);
+		Assert.assertEquals(reference.get(), document.get());
+		Assert.assertArrayEquals(reference.computePartitioning(0, reference.getLength()),
+				document.computePartitioning(0, document.getLength()));
+	}
+
+	private static IDocument createPartitionedDocument(String content) {
+		IDocument document= new Document(content);
+		RuleBasedPartitionScanner scanner= new RuleBasedPartitionScanner();
+		scanner.setPredicateRules(new IPredicateRule[] { new SingleLineRule("'", "'", new Token("string")) });
+		IDocumentPartitioner partitioner= new FastPartitioner(scanner, new String[] { "string" });
+		document.setDocumentPartitioner(partitioner);
+		partitioner.connect(document);
+		return document;
+	}
+
 	private void doUndoRedo(UndoEdit undo, String redoResult) throws Exception {
 		UndoEdit redo= undo.apply(fDocument);
 		assertBufferContent();
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.forms.widgets;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.forms.widgets.FormText;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the sizes cached by {@link FormText} are the sizes computed from
+ * scratch.
+ */
+public class FormTextTest {
+	private static Display display;
+
+	static {
+		try {
+			display = PlatformUI.getWorkbench().getDisplay();
+		} catch (Throwable e) {
+			// this is to run without eclipse
+			display = new Display();
+		}
+	}
+
+	private static final String TEXT = "<form><p>A short paragraph.</p>"
+			+ "<p>A longer paragraph, with <b>bold</b> text and a <a href=\"link\">link</a>, which is wrapped"
+			+ " when the form text gets narrow.<br/>It has a second line.</p>"
+			+ "<li>A list item with https://www.eclipse.org/ in it</li></form>";
+
+	private Shell shell;
+
+	@Before
+	public void setUp() throws Exception {
+		shell = new Shell(display);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+	}
+
+	@Test
+	public void testComputeSizeAfterWidthChanges() {
+		FormText formText = new FormText(shell, SWT.NONE);
+		formText.setText(TEXT, true, true);
+		int[] widths = { SWT.DEFAULT, 1000, 600, 200, 50, 200, 600, 1000, SWT.DEFAULT };
+		for (int width : widths) {
+			FormText reference = new FormText(shell, SWT.NONE);
+			reference.setText(TEXT, true, true);
+			assertEquals("Width " + width, reference.computeSize(width, SWT.DEFAULT),
+					formText.computeSize(width, SWT.DEFAULT));
+			reference.dispose();
+		}
+	}
+
+	@Test
+	public void testComputeSizeAfterFontChange() {
+		FormText formText = new FormText(shell, SWT.NONE);
+		formText.setText(TEXT, true, true);
+		formText.computeSize(300, SWT.DEFAULT);
+		formText.setFont(formText.getFont());
+
+		FormText reference = new FormText(shell, SWT.NONE);
+		reference.setText(TEXT, true, true);
+		assertEquals(reference.computeSize(300, SWT.DEFAULT), formText.computeSize(300, SWT.DEFAULT));
+	}
+}
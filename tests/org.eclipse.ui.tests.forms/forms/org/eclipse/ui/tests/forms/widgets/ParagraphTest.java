@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.forms.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.ui.forms.HyperlinkSettings;
+import org.eclipse.ui.internal.forms.widgets.FormTextModel;
+import org.eclipse.ui.internal.forms.widgets.Locator;
+import org.eclipse.ui.internal.forms.widgets.Paragraph;
+import org.junit.Test;
+
+/**
+ * Tests that the sizes cached by {@link Paragraph#computeSize} are the sizes
+ * computed from scratch. The text is measured by a fake GC, so that no display
+ * is needed.
+ */
+public class ParagraphTest {
+
+	private static final String TEXT = "<form><p>A short paragraph.</p>"
+			+ "<p>A longer paragraph, with <b>bold</b> text and a <a href=\"link\">link</a>, which is wrapped"
+			+ " when the form text gets narrow.<br/>It has a second line.</p>"
+			+ "<li>A list item with https://www.eclipse.org/ in it</li></form>";
+
+	private static final int[] WIDTHS = { SWT.DEFAULT, 1000, 600, 200, 50, 200, 600, 1000, SWT.DEFAULT };
+
+	private static final int LINE_HEIGHT = 15;
+
+	private final Font font = mock(Font.class);
+
+	private final Font largeFont = mock(Font.class);
+
+	private final Font boldFont = mock(Font.class);
+
+	/** The width of a character in each font */
+	private final Map<Font, Integer> charWidths = new HashMap<>(
+			Map.of(font, 6, largeFont, 9, boldFont, 7));
+
+	private final Hashtable<String, Object> resourceTable = new Hashtable<>(
+			Map.of(FormTextModel.BOLD_FONT_ID, boldFont));
+
+	@Test
+	public void testComputeSizeAfterWidthChanges() {
+		Paragraph[] paragraphs = parse();
+		for (int width : WIDTHS) {
+			assertEquals("Width " + width, computeSize(parse(), font, width), computeSize(paragraphs, font, width));
+		}
+	}
+
+	@Test
+	public void testComputeSizeAfterFontChange() {
+		Paragraph[] paragraphs = parse();
+		for (int width : WIDTHS) {
+			computeSize(paragraphs, font, width);
+			assertEquals("Width " + width, computeSize(parse(), largeFont, width),
+					computeSize(paragraphs, largeFont, width));
+		}
+	}
+
+	private static Paragraph[] parse() {
+		FormTextModel model = new FormTextModel();
+		model.setHyperlinkSettings(mock(HyperlinkSettings.class));
+		model.parseTaggedText(TEXT, true);
+		return model.getParagraphs();
+	}
+
+	/**
+	 * Computes the size of the paragraphs as FormText does.
+	 */
+	private Point computeSize(Paragraph[] paragraphs, Font textFont, int wHint) {
+		GC gc = createGC(textFont);
+		Locator loc = new Locator();
+		int width = wHint != SWT.DEFAULT ? wHint : 0;
+		for (Paragraph p : paragraphs) {
+			loc.rowHeight = 0;
+			loc.indent = p.getIndent();
+			loc.x = p.getIndent();
+			if (p.getSegments().length > 0) {
+				width = Math.max(width, p.computeSize(gc, wHint, loc, resourceTable));
+			} else {
+				loc.y += LINE_HEIGHT;
+			}
+		}
+		return new Point(width, loc.y);
+	}
+
+	/**
+	 * Creates a GC measuring each character of a text with the width of its
+	 * font.
+	 */
+	private GC createGC(Font textFont) {
+		GC gc = mock(GC.class);
+		Font[] current = { textFont };
+		doAnswer(invocation -> current[0] = invocation.getArgument(0)).when(gc).setFont(any());
+		when(gc.getFont()).thenAnswer(invocation -> current[0]);
+		when(gc.textExtent(anyString())).thenAnswer(invocation -> new Point(
+				invocation.<String>getArgument(0).length() * charWidths.get(current[0]).intValue(), LINE_HEIGHT));
+		FontMetrics fontMetrics = mock(FontMetrics.class);
+		when(fontMetrics.getHeight()).thenReturn(LINE_HEIGHT);
+		when(fontMetrics.getLeading()).thenReturn(2);
+		when(fontMetrics.getDescent()).thenReturn(3);
+		when(gc.getFontMetrics()).thenReturn(fontMetrics);
+		return gc;
+	}
+}
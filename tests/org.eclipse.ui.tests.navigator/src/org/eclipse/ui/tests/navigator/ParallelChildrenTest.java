@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.navigator.CommonViewer;
+import org.eclipse.ui.tests.navigator.extension.TestSimpleChildrenContentProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that computing the children of several content extensions in parallel
+ * shows the same children as computing them one after the other.
+ */
+public class ParallelChildrenTest extends NavigatorTestBase {
+
+	private static final String TEST_VIEWER_PARALLEL = "org.eclipse.ui.tests.navigator.ParallelChildrenTestView";
+
+	private static final String TEST_VIEWER_SEQUENTIAL = "org.eclipse.ui.tests.navigator.SequentialChildrenTestView";
+
+	private static final String[] EXTENSIONS = { COMMON_NAVIGATOR_RESOURCE_EXT, TEST_SIMPLE_CHILDREN1,
+			TEST_SIMPLE_CHILDREN2, TEST_SIMPLE_CHILDREN3 };
+
+	private Shell shell;
+
+	public ParallelChildrenTest() {
+		_navigatorInstanceId = TEST_VIEWER_PROGRAMMATIC;
+	}
+
+	@Before
+	public void createShell() {
+		shell = new Shell();
+		TestSimpleChildrenContentProvider.resetTest();
+	}
+
+	@After
+	public void disposeShell() {
+		shell.dispose();
+	}
+
+	private CommonViewer createViewer(String viewerId) {
+		CommonViewer viewer = new CommonViewer(viewerId, shell, SWT.NONE);
+		viewer.getNavigatorContentService().getActivationService().activateExtensions(EXTENSIONS, true);
+		viewer.setInput(ResourcesPlugin.getWorkspace().getRoot());
+		return viewer;
+	}
+
+	private List<String> getChildLabels(CommonViewer viewer) {
+		List<String> labels = new ArrayList<>();
+		for (TreeItem child : ((TreeItem) viewer.testFindItem(_project)).getItems()) {
+			labels.add(child.getText());
+		}
+		return labels;
+	}
+
+	/**
+	 * Expands the project like the user does, in which case the children may be
+	 * computed in parallel.
+	 */
+	private void expandByUser(CommonViewer viewer) {
+		TreeItem item = (TreeItem) viewer.testFindItem(_project);
+		Event event = new Event();
+		event.item = item;
+		viewer.getTree().notifyListeners(SWT.Expand, event);
+		item.setExpanded(true);
+	}
+
+	@Test
+	public void testSameChildrenAsSequential() {
+		CommonViewer sequential = createViewer(TEST_VIEWER_SEQUENTIAL);
+		expandByUser(sequential);
+		List<String> expected = getChildLabels(sequential);
+		assertTrue(expected.size() > 3 * TestSimpleChildrenContentProvider.NUM_ITEMS);
+		assertFalse(TestSimpleChildrenContentProvider._childrenComputedOutsideUIThread);
+
+		CommonViewer parallel = createViewer(TEST_VIEWER_PARALLEL);
+		expandByUser(parallel);
+		waitForCondition("All children are shown", () -> getChildLabels(parallel).size() == expected.size());
+		assertEquals(expected, getChildLabels(parallel));
+		assertTrue(TestSimpleChildrenContentProvider._childrenComputedOutsideUIThread);
+		assertFalse("Content providers must be initialized on the UI thread",
+				TestSimpleChildrenContentProvider._inputChangedOutsideUIThread);
+	}
+
+	@Test
+	public void testOtherRequestsGetAllChildren() {
+		CommonViewer sequential = createViewer(TEST_VIEWER_SEQUENTIAL);
+		sequential.expandToLevel(_project, 1);
+		List<String> expected = getChildLabels(sequential);
+
+		// expanding, revealing or refreshing programmatically shows all children
+		// right away
+		CommonViewer parallel = createViewer(TEST_VIEWER_PARALLEL);
+		parallel.expandToLevel(_project, 1);
+		assertEquals(expected, getChildLabels(parallel));
+		parallel.refresh(_project);
+		assertEquals(expected, getChildLabels(parallel));
+		ITreeContentProvider contentProvider = (ITreeContentProvider) parallel.getContentProvider();
+		assertEquals(expected.size(), contentProvider.getChildren(_project).length);
+		assertFalse(TestSimpleChildrenContentProvider._childrenComputedOutsideUIThread);
+	}
+}
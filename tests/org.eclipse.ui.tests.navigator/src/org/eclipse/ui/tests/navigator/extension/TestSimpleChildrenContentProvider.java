@@ -19,6 +19,7 @@ import java.util.List;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * Provides some children for a given resource.
@@ -27,6 +28,10 @@ public class TestSimpleChildrenContentProvider implements ITreeContentProvider {
 
 	public static final int NUM_ITEMS = 4;
 
+	public static volatile boolean _childrenComputedOutsideUIThread;
+
+	public static volatile boolean _inputChangedOutsideUIThread;
+
 	public String _name;
 
 	private Object[] _children;
@@ -44,6 +49,11 @@ public class TestSimpleChildrenContentProvider implements ITreeContentProvider {
 	public TestSimpleChildrenContentProvider() {
 	}
 
+	public static void resetTest() {
+		_childrenComputedOutsideUIThread = false;
+		_inputChangedOutsideUIThread = false;
+	}
+
 	@Override
 	public Object[] getElements(Object inputElement) {
 		return getChildren(inputElement);
@@ -51,6 +61,9 @@ public class TestSimpleChildrenContentProvider implements ITreeContentProvider {
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		if (Display.getCurrent() == null) {
+			_childrenComputedOutsideUIThread = true;
+		}
 		if (parentElement instanceof IResource) {
 			if (_children == null) {
 				List l = new ArrayList();
@@ -80,6 +93,9 @@ public class TestSimpleChildrenContentProvider implements ITreeContentProvider {
 
 	@Override
 	public void inputChanged(Viewer aViewer, Object oldInput, Object newInput) {
+		if (Display.getCurrent() == null) {
+			_inputChangedOutsideUIThread = true;
+		}
 		_children = null;
 	}
 
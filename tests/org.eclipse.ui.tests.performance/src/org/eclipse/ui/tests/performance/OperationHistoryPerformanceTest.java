@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.operations.AbstractOperation;
+import org.eclipse.core.commands.operations.DefaultOperationHistory;
+import org.eclipse.core.commands.operations.IOperationHistory;
+import org.eclipse.core.commands.operations.IUndoContext;
+import org.eclipse.core.commands.operations.ObjectUndoContext;
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Measures the maintenance cost of the undo history when many undo contexts,
+ * such as many open editors, share one {@link DefaultOperationHistory}. This
+ * test does not rely on the existence of the workbench.
+ */
+public class OperationHistoryPerformanceTest extends BasicPerformanceTest {
+
+	private static final int CONTEXTS = 200;
+
+	private static final int LIMIT = 200;
+
+	private static final class TypingOperation extends AbstractOperation {
+
+		TypingOperation(IUndoContext context) {
+			super("typing"); //$NON-NLS-1$
+			addContext(context);
+		}
+
+		@Override
+		public IStatus execute(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public IStatus redo(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public IStatus undo(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+	}
+
+	private IOperationHistory history;
+
+	private IUndoContext[] contexts;
+
+	public OperationHistoryPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		history = new DefaultOperationHistory();
+		contexts = new IUndoContext[CONTEXTS];
+		for (int i = 0; i < CONTEXTS; i++) {
+			contexts[i] = new ObjectUndoContext("editor" + i); //$NON-NLS-1$
+			history.setLimit(contexts[i], LIMIT);
+		}
+		// fill the history of every context up to its limit
+		for (int i = 0; i < CONTEXTS * LIMIT; i++) {
+			history.execute(new TypingOperation(contexts[i % CONTEXTS]), null, null);
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		history.dispose(IOperationHistory.GLOBAL_UNDO_CONTEXT, true, true, true);
+		history = null;
+		contexts = null;
+		super.doTearDown();
+	}
+
+	/**
+	 * Tests how long it takes to type into one editor while the history is
+	 * full, that is, how long it takes to add an operation, enforce the limit
+	 * of its context and ask whether undo is available.
+	 */
+	public void testTypingWithFullHistory() throws ExecutionException {
+		IUndoContext context = contexts[0];
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int j = 0; j < 2000; j++) {
+				history.execute(new TypingOperation(context), null, null);
+				history.canUndo(context);
+				history.canRedo(context);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests how long it takes to undo and redo in one editor while the history
+	 * is full.
+	 */
+	public void testUndoRedoWithFullHistory() throws ExecutionException {
+		IUndoContext context = contexts[CONTEXTS / 2];
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			for (int j = 0; j < 1000; j++) {
+				history.undo(context, null, null);
+				history.getUndoHistory(context);
+				history.redo(context, null, null);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
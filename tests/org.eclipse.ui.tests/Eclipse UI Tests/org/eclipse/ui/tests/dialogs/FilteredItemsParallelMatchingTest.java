@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.dialogs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.dialogs.DialogSettings;
+import org.eclipse.jface.dialogs.IDialogSettings;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the items filtered from the result of a previous filtering are the
+ * same and in the same order whether the filter matches them in parallel or
+ * one after the other.
+ */
+@RunWith(JUnit4.class)
+public class FilteredItemsParallelMatchingTest extends UITestCase {
+
+	/** More items than the dialog matches in parallel from */
+	private static final int ITEM_COUNT = 5000;
+
+	/** The number of items matching "item1" */
+	private static final int MATCH_COUNT = 1111;
+
+	public FilteredItemsParallelMatchingTest() {
+		super(FilteredItemsParallelMatchingTest.class.getSimpleName());
+	}
+
+	@Test
+	public void testSameMatchesAsSequential() {
+		List<String> sequential = filterCache(false);
+		assertEquals(MATCH_COUNT, sequential.size());
+		assertEquals(sequential, filterCache(true));
+	}
+
+	/**
+	 * Opens the dialog showing all items, then narrows the pattern so that the
+	 * shown items are filtered again, and returns the labels of the items shown.
+	 */
+	private List<String> filterCache(boolean parallel) {
+		TestDialog dialog = new TestDialog(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell(),
+				parallel);
+		dialog.setInitialPattern("item");
+		dialog.open();
+		try {
+			Table table = find(dialog.getShell(), Table.class);
+			waitForItemCount(table, ITEM_COUNT);
+
+			find(dialog.getShell(), Text.class).setText("item1");
+			waitForItemCount(table, MATCH_COUNT);
+			assertTrue(dialog.parallelMatchingQueried);
+
+			List<String> labels = new ArrayList<>();
+			for (TableItem item : table.getItems()) {
+				labels.add(item.getText());
+			}
+			return labels;
+		} finally {
+			dialog.close();
+		}
+	}
+
+	private static void waitForItemCount(Table table, int count) {
+		assertTrue("Items not filtered", DisplayHelper.waitForCondition(table.getDisplay(), 10000,
+				() -> table.getItemCount() == count));
+	}
+
+	private static <T extends Control> T find(Control control, Class<T> type) {
+		if (type.isInstance(control)) {
+			return type.cast(control);
+		}
+		if (control instanceof Composite composite) {
+			for (Control child : composite.getChildren()) {
+				T found = find(child, type);
+				if (found != null) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static class TestDialog extends FilteredItemsSelectionDialog {
+
+		private final boolean parallel;
+
+		volatile boolean parallelMatchingQueried;
+
+		TestDialog(Shell shell, boolean parallel) {
+			super(shell, true);
+			this.parallel = parallel;
+			setListLabelProvider(new LabelProvider());
+			setBlockOnOpen(false);
+		}
+
+		@Override
+		protected Control createExtendedContentArea(Composite parent) {
+			return null;
+		}
+
+		@Override
+		protected IDialogSettings getDialogSettings() {
+			return new DialogSettings("test");
+		}
+
+		@Override
+		protected IStatus validateItem(Object item) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		protected ItemsFilter createFilter() {
+			return new ItemsFilter() {
+				@Override
+				public boolean matchItem(Object item) {
+					return matches((String) item);
+				}
+
+				@Override
+				public boolean isParallelMatchingSupported() {
+					parallelMatchingQueried = true;
+					return parallel;
+				}
+
+				@Override
+				public boolean isConsistentItem(Object item) {
+					return true;
+				}
+			};
+		}
+
+		@Override
+		protected Comparator<String> getItemsComparator() {
+			// longest first, so that the order differs from the order the items are added
+			return Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder());
+		}
+
+		@Override
+		protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter,
+				IProgressMonitor progressMonitor) {
+			for (int i = 0; i < ITEM_COUNT; i++) {
+				contentProvider.add("item" + i, itemsFilter);
+			}
+		}
+
+		@Override
+		public String getElementName(Object item) {
+			return (String) item;
+		}
+	}
+}
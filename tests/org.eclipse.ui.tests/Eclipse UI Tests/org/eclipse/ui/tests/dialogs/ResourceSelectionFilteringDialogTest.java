@@ -76,6 +76,13 @@ public class ResourceSelectionFilteringDialogTest extends UITestCase {
 		}
 	}
 
+	@Test
+	public void testParallelMatchingOnlyWithoutOverriddenMatching() {
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		Assert.assertTrue(dialog.isParallelMatchingSupported(false));
+		Assert.assertFalse(dialog.isParallelMatchingSupported(true));
+	}
+
 	@Override
 	public void doTearDown() throws Exception {
 		super.doTearDown();
@@ -93,5 +100,15 @@ public class ResourceSelectionFilteringDialogTest extends UITestCase {
 		public StructuredSelection getSelectedItems() {
 			return super.getSelectedItems();
 		}
+
+		boolean isParallelMatchingSupported(boolean overrideMatching) {
+			ItemsFilter filter = overrideMatching ? new ResourceFilter() {
+				@Override
+				public boolean matchItem(Object item) {
+					return super.matchItem(item);
+				}
+			} : createFilter();
+			return filter.isParallelMatchingSupported();
+		}
 	}
 }
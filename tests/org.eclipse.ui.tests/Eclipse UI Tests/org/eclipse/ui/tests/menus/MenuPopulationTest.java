@@ -15,12 +15,17 @@
 package org.eclipse.ui.tests.menus;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
+import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.e4.ui.model.application.ui.menu.MHandledItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuContribution;
+import org.eclipse.e4.ui.model.application.ui.menu.MPopupMenu;
 import org.eclipse.e4.ui.model.application.ui.menu.impl.MenuFactoryImpl;
 import org.eclipse.e4.ui.workbench.renderers.swt.HandledContributionItem;
 import org.eclipse.e4.ui.workbench.renderers.swt.MenuManagerRenderer;
@@ -46,6 +51,8 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.PartSite;
 import org.eclipse.ui.internal.PopupMenuExtender;
 import org.eclipse.ui.internal.WorkbenchWindow;
+import org.eclipse.ui.internal.menus.MenuContributionCache;
+import org.eclipse.ui.internal.menus.WorkbenchMenuService;
 import org.eclipse.ui.menus.AbstractContributionFactory;
 import org.eclipse.ui.menus.CommandContributionItem;
 import org.eclipse.ui.menus.CommandContributionItemParameter;
@@ -488,6 +495,52 @@ public class MenuPopulationTest extends MenuTestCase {
 		assertEquals(0, testManager.getSize());
 	}
 
+	@Test
+	public void testContributionCacheMatchesModel() throws Exception {
+		WorkbenchMenuService service = (WorkbenchMenuService) PlatformUI.getWorkbench()
+				.getService(IMenuService.class);
+		MenuContributionCache cache = service.getContributionCache();
+
+		MApplication application = PlatformUI.getWorkbench().getService(MApplication.class);
+		MPopupMenu popup = MenuFactoryImpl.eINSTANCE.createPopupMenu();
+		popup.getTags().add(ContributionsAnalyzer.MC_POPUP);
+		popup.getTags().add("popup:" + MarkerSupportRegistry.MARKERS_ID);
+		MMenu menu = MenuFactoryImpl.eINSTANCE.createMenu();
+		menu.getTags().add(ContributionsAnalyzer.MC_MENU);
+		for (String id : new String[] { IPageLayout.ID_PROBLEM_VIEW, "before.menu", "after.menu",
+				IWorkbenchActionConstants.M_FILE }) {
+			for (MMenu model : new MMenu[] { popup, menu }) {
+				boolean includePopups = model == popup;
+				ArrayList<MMenuContribution> expected = new ArrayList<>();
+				ContributionsAnalyzer.XXXgatherMenuContributions(model, application.getMenuContributions(), id,
+						expected, includePopups);
+				ArrayList<MMenuContribution> actual = new ArrayList<>();
+				cache.gatherMenuContributions(model, id, actual, includePopups);
+				assertEquals(id, expected, actual);
+				assertTrue(cache.isIndexCurrent());
+				// a second lookup is served from the cache
+				actual.clear();
+				cache.gatherMenuContributions(model, id, actual, includePopups);
+				assertEquals(id, expected, actual);
+			}
+		}
+
+		// changing the contributions invalidates the index
+		MMenuContribution contribution = MenuFactoryImpl.eINSTANCE.createMenuContribution();
+		contribution.setParentId("after.menu");
+		contribution.getTags().add(ContributionsAnalyzer.MC_MENU);
+		application.getMenuContributions().add(contribution);
+		try {
+			assertFalse(cache.isIndexCurrent());
+			ArrayList<MMenuContribution> actual = new ArrayList<>();
+			cache.gatherMenuContributions(menu, "after.menu", actual, false);
+			assertTrue(actual.contains(contribution));
+			assertTrue(cache.isIndexCurrent());
+		} finally {
+			application.getMenuContributions().remove(contribution);
+		}
+	}
+
 	@Test
 	public void testAfterQueryInvalid() throws Exception {
 		MenuManager manager = new MenuManager();
@@ -842,4 +842,145 @@ public class OperationsAPITest {
 		history.removeOperationApprover(approver);
 	}
 
+	@Test
+	public void testContextChangedWhileInHistory() {
+		IUndoableOperation[] historyC = history.getUndoHistory(contextC);
+		assertEquals("Context C should have three operations", 3, historyC.length);
+
+		// adding a context to an operation that is already in the history
+		// must be reflected by the history of that context
+		op1.addContext(contextC);
+		historyC = history.getUndoHistory(contextC);
+		assertEquals("Context C should have four operations", 4, historyC.length);
+		assertSame("History should keep the global order", op1, historyC[0]);
+		assertSame("History should keep the global order", op6, historyC[3]);
+		assertSame("op6 should be the undo operation for C", op6, history.getUndoOperation(contextC));
+
+		op6.removeContext(contextC);
+		assertSame("op3 should be the undo operation for C", op3, history.getUndoOperation(contextC));
+		assertEquals("Context C should have three operations", 3, history.getUndoHistory(contextC).length);
+	}
+
+	@Test
+	public void testHistoryOrderAcrossContexts() throws ExecutionException {
+		ObjectUndoContext parent = new ObjectUndoContext("parent");
+		parent.addMatch(contextA);
+		parent.addMatch(contextB);
+		IUndoableOperation[] expected = new IUndoableOperation[] { op1, op2, op4, op5, op6 };
+		IUndoableOperation[] actual = history.getUndoHistory(parent);
+		assertEquals("Parent context should match A and B", expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertSame("Operations should be in the order they were executed", expected[i], actual[i]);
+		}
+		assertEquals("Global context should match everything", 6,
+				history.getUndoHistory(IOperationHistory.GLOBAL_UNDO_CONTEXT).length);
+
+		history.undo(contextA, null, null);
+		assertSame("op5 should be the undo operation for the parent", op5, history.getUndoOperation(parent));
+		assertSame("op6 should be the redo operation for the parent", op6, history.getRedoOperation(parent));
+		assertSame("op6 should be the redo operation for C", op6, history.getRedoOperation(contextC));
+	}
+
+	@Test(timeout = 10000)
+	public void testContextChangedWhileFilteringUntracked() throws ExecutionException {
+		// operations not extending AbstractOperation are asked for their
+		// contexts, which may change the contexts of other operations
+		IUndoableOperation untracked = new UntrackedOperation(contextA) {
+			@Override
+			public boolean hasContext(IUndoContext context) {
+				op1.addContext(contextC);
+				return super.hasContext(context);
+			}
+		};
+		history.execute(untracked, null, null);
+		IUndoableOperation[] historyA = history.getUndoHistory(contextA);
+		assertEquals("Context A should have four operations", 4, historyA.length);
+		assertSame("Untracked operation should be the most recent", untracked, historyA[3]);
+		assertSame("Untracked operation should be the undo operation for A", untracked,
+				history.getUndoOperation(contextA));
+		assertEquals("Context C should have four operations", 4, history.getUndoHistory(contextC).length);
+	}
+
+	@Test
+	public void testLimitWithManyContexts() throws ExecutionException {
+		ObjectUndoContext[] contexts = new ObjectUndoContext[50];
+		for (int i = 0; i < contexts.length; i++) {
+			contexts[i] = new ObjectUndoContext("context" + i);
+			history.setLimit(contexts[i], 5);
+		}
+		for (int i = 0; i < 1000; i++) {
+			IUndoableOperation op = new TestOperation("op" + i);
+			op.addContext(contexts[i % contexts.length]);
+			history.execute(op, null, null);
+		}
+		for (ObjectUndoContext context : contexts) {
+			assertEquals("Limit should be enforced per context", 5, history.getUndoHistory(context).length);
+		}
+		assertEquals("Other contexts should not be affected", 3, history.getUndoHistory(contextA).length);
+	}
+
+	private static class UntrackedOperation implements IUndoableOperation {
+		private final IUndoContext context;
+
+		UntrackedOperation(IUndoContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public void addContext(IUndoContext context) {
+		}
+
+		@Override
+		public boolean canExecute() {
+			return true;
+		}
+
+		@Override
+		public boolean canRedo() {
+			return true;
+		}
+
+		@Override
+		public boolean canUndo() {
+			return true;
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public IStatus execute(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public IUndoContext[] getContexts() {
+			return new IUndoContext[] { context };
+		}
+
+		@Override
+		public String getLabel() {
+			return "untracked";
+		}
+
+		@Override
+		public boolean hasContext(IUndoContext context) {
+			return context.matches(this.context);
+		}
+
+		@Override
+		public IStatus redo(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public void removeContext(IUndoContext context) {
+		}
+
+		@Override
+		public IStatus undo(IProgressMonitor monitor, IAdaptable info) {
+			return Status.OK_STATUS;
+		}
+	}
 }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.propertysheet;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ui.views.properties.IPropertyDescriptor;
+import org.eclipse.ui.views.properties.IPropertySheetEntry;
+import org.eclipse.ui.views.properties.IPropertySource;
+import org.eclipse.ui.views.properties.PropertyDescriptor;
+import org.eclipse.ui.views.properties.PropertySheetEntry;
+import org.junit.Test;
+
+/**
+ * Tests that a {@link PropertySheetEntry} only fetches the property values it
+ * uses.
+ */
+public class PropertySheetEntryTest {
+
+	private static final int PROPERTY_COUNT = 1000;
+
+	/**
+	 * A property source counting the values fetched from it.
+	 */
+	private static class CountingPropertySource implements IPropertySource {
+
+		private final Map<Object, Object> values = new HashMap<>();
+
+		int getPropertyValueCount;
+
+		int getPropertyDescriptorsCount;
+
+		CountingPropertySource() {
+			for (int i = 0; i < PROPERTY_COUNT; i++) {
+				values.put("p" + i, "value " + i);
+			}
+		}
+
+		@Override
+		public Object getEditableValue() {
+			return this;
+		}
+
+		@Override
+		public IPropertyDescriptor[] getPropertyDescriptors() {
+			getPropertyDescriptorsCount++;
+			IPropertyDescriptor[] descriptors = new IPropertyDescriptor[PROPERTY_COUNT];
+			for (int i = 0; i < PROPERTY_COUNT; i++) {
+				descriptors[i] = new PropertyDescriptor("p" + i, "Property " + i);
+			}
+			return descriptors;
+		}
+
+		@Override
+		public Object getPropertyValue(Object id) {
+			getPropertyValueCount++;
+			return values.get(id);
+		}
+
+		@Override
+		public boolean isPropertySet(Object id) {
+			return false;
+		}
+
+		@Override
+		public void resetPropertyValue(Object id) {
+		}
+
+		@Override
+		public void setPropertyValue(Object id, Object value) {
+			values.put(id, value);
+		}
+	}
+
+	private static PropertySheetEntry createRootEntry(CountingPropertySource source) {
+		PropertySheetEntry root = new PropertySheetEntry();
+		root.setPropertySourceProvider(object -> object instanceof IPropertySource ? (IPropertySource) object : null);
+		root.setValues(new Object[] { source });
+		return root;
+	}
+
+	@Test
+	public void testValuesFetchedOnDemand() {
+		CountingPropertySource source = new CountingPropertySource();
+		PropertySheetEntry root = createRootEntry(source);
+
+		IPropertySheetEntry[] entries = root.getChildEntries();
+		assertEquals(PROPERTY_COUNT, entries.length);
+		assertEquals(0, source.getPropertyValueCount);
+
+		assertEquals("value 42", entries[42].getValueAsString());
+		assertEquals("value 7", entries[7].getValueAsString());
+		entries[42].getValueAsString();
+		assertEquals(2, source.getPropertyValueCount);
+	}
+
+	@Test
+	public void testRefreshFetchesValuesAgain() {
+		CountingPropertySource source = new CountingPropertySource();
+		PropertySheetEntry root = createRootEntry(source);
+		IPropertySheetEntry[] entries = root.getChildEntries();
+		assertEquals("value 3", entries[3].getValueAsString());
+
+		source.setPropertyValue("p3", "changed");
+		root.setValues(new Object[] { source });
+		assertEquals(1, source.getPropertyValueCount);
+		assertEquals("changed", entries[3].getValueAsString());
+		assertEquals(2, source.getPropertyValueCount);
+	}
+
+	@Test
+	public void testDescriptorsComputedOnce() {
+		CountingPropertySource source = new CountingPropertySource();
+		PropertySheetEntry root = createRootEntry(source);
+		root.hasChildEntries();
+		root.getChildEntries();
+		root.hasChildEntries();
+		assertEquals(1, source.getPropertyDescriptorsCount);
+	}
+}
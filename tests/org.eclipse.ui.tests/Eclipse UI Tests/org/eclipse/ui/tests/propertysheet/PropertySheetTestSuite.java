@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 	PropertySheetAuto.class,
 	ComboBoxPropertyDescriptorTest.class,
 	DirtyStatePropertySheetTest.class,
+	PropertySheetEntryTest.class,
 })
 public class PropertySheetTestSuite {
 }
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.quickaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.ui.internal.quickaccess.QuickAccessEntry;
+import org.eclipse.ui.internal.quickaccess.QuickAccessMatcher;
+import org.eclipse.ui.internal.quickaccess.QuickAccessProvider;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+import org.junit.Test;
+
+public class QuickAccessMatcherTest {
+
+	private static class TestElement extends QuickAccessElement {
+		final String label;
+		int labelReads;
+
+		TestElement(String label) {
+			this.label = label;
+		}
+
+		@Override
+		public String getLabel() {
+			labelReads++;
+			return label;
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public String getId() {
+			return label;
+		}
+
+		@Override
+		public void execute() {
+		}
+	}
+
+	private static final QuickAccessProvider PROVIDER = new QuickAccessProvider() {
+		@Override
+		public String getId() {
+			return "test.provider";
+		}
+
+		@Override
+		public String getName() {
+			return "Test Provider";
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public QuickAccessElement[] getElements() {
+			return new QuickAccessElement[0];
+		}
+
+		@Override
+		protected void doReset() {
+		}
+	};
+
+	@Test
+	public void testMatchKinds() {
+		QuickAccessMatcher matcher = new QuickAccessMatcher(new TestElement("Show Whitespace Characters"));
+		assertEquals(QuickAccessEntry.MATCH_PERFECT,
+				matcher.match("show whitespace characters", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("show", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("white", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("show char", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("sh*char", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("test provider show", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("swc", PROVIDER).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("tpsw", PROVIDER).getMatchQuality());
+		assertNull(matcher.match("tabs", PROVIDER));
+	}
+
+	@Test
+	public void testLabelsReadOnce() {
+		TestElement element = new TestElement("Console");
+		QuickAccessMatcher matcher = new QuickAccessMatcher(element);
+		assertNotNull(matcher.match("cons", PROVIDER));
+		int labelReads = element.labelReads;
+		assertNull(matcher.match("term", PROVIDER));
+		assertNotNull(matcher.match("con*", PROVIDER));
+		assertEquals(labelReads, element.labelReads);
+	}
+
+}
@@ -31,6 +31,8 @@ import org.eclipse.core.expressions.WithExpression;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.e4.core.contexts.ContextFunction;
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.jface.text.TextSelection;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
@@ -575,6 +577,97 @@ public class EvaluationServiceTest extends UITestCase {
 
 	}
 
+	private static Expression createVariableExpression(String variable, String property, int[] evaluations) {
+		return new Expression() {
+			@Override
+			public void collectExpressionInfo(ExpressionInfo info) {
+				info.addVariableNameAccess(variable);
+				if (property != null) {
+					info.addAccessedPropertyName(property);
+				}
+			}
+
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) {
+				evaluations[0]++;
+				Object value = context.getVariable(variable);
+				return EvaluationResult.valueOf("a".equals(value));
+			}
+		};
+	}
+
+	@Test
+	public void testUnchangedInputsAreNotReevaluated() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		boolean activeShell = forceActive(window.getShell());
+		Assume.assumeTrue(activeShell);
+
+		final String variable = "org.eclipse.ui.tests.services.evaluationInput";
+		final String trigger = "org.eclipse.ui.tests.services.evaluationTrigger";
+		final String value = "a";
+		final int[] evaluations = new int[1];
+		final int[] testerEvaluations = new int[1];
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		IEclipseContext windowContext = window.getService(IEclipseContext.class);
+		// a computed variable that is recomputed, but gives the same object
+		windowContext.set(trigger, Integer.valueOf(0));
+		windowContext.set(variable, new ContextFunction() {
+			@Override
+			public Object compute(IEclipseContext context, String contextKey) {
+				context.get(trigger);
+				return value;
+			}
+		});
+		MyEval listener = new MyEval();
+		MyEval testerListener = new MyEval();
+		IEvaluationReference evalRef = service.addEvaluationListener(
+				createVariableExpression(variable, null, evaluations), listener, IEvaluationService.RESULT);
+		IEvaluationReference testerRef = service.addEvaluationListener(
+				createVariableExpression(variable, "org.eclipse.ui.tests.services.property", testerEvaluations),
+				testerListener, IEvaluationService.RESULT);
+		try {
+			processEvents();
+			assertTrue(listener.currentValue);
+			assertTrue(testerListener.currentValue);
+
+			// the same object must not cause another evaluation, unless the
+			// expression uses property testers, which may see a changed state.
+			// The inputs are compared by identity, so a value changed in place
+			// is not noticed; such a variable must be set to a new object.
+			int count = evaluations[0];
+			int testerCount = testerEvaluations[0];
+			windowContext.set(trigger, Integer.valueOf(1));
+			processEvents();
+			assertEquals(count, evaluations[0]);
+			assertTrue(listener.currentValue);
+			assertEquals(testerCount + 1, testerEvaluations[0]);
+			assertTrue(testerListener.currentValue);
+
+			// another object with the same content is another input
+			windowContext.set(variable, new String(value));
+			processEvents();
+			assertEquals(count + 1, evaluations[0]);
+			assertTrue(listener.currentValue);
+
+			// another value is evaluated again
+			count = evaluations[0];
+			windowContext.set(variable, "b");
+			processEvents();
+			assertEquals(count + 1, evaluations[0]);
+			assertFalse(listener.currentValue);
+
+			// an explicit request always evaluates
+			count = evaluations[0];
+			service.requestEvaluation(variable);
+			assertEquals(count + 1, evaluations[0]);
+		} finally {
+			service.removeEvaluationListener(evalRef);
+			service.removeEvaluationListener(testerRef);
+			windowContext.remove(variable);
+			windowContext.remove(trigger);
+		}
+	}
+
 	static class ActivePartIdExpression extends Expression {
 		private final String partId;
 
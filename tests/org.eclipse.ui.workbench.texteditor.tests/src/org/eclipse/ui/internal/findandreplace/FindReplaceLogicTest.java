@@ -44,6 +44,7 @@ import org.eclipse.jface.text.IFindReplaceTarget;
 import org.eclipse.jface.text.IFindReplaceTargetExtension3;
 import org.eclipse.jface.text.TextSelection;
 import org.eclipse.jface.text.TextViewer;
+import org.eclipse.jface.text.TextViewerUndoManager;
 
 import org.eclipse.ui.internal.findandreplace.status.FindAllStatus;
 import org.eclipse.ui.internal.findandreplace.status.FindStatus;
@@ -196,6 +197,41 @@ public class FindReplaceLogicTest {
 				+ "^");
 	}
 
+	@Test
+	public void testPerformReplaceAllIsUndoneAtOnce() {
+		TextViewer textViewer= setupTextViewer("foo bar foo bar foo");
+		TextViewerUndoManager undoManager= new TextViewerUndoManager(10);
+		textViewer.setUndoManager(undoManager);
+		textViewer.activatePlugins();
+		IFindReplaceLogic findReplaceLogic= setupFindReplaceLogicObject(textViewer);
+		findReplaceLogic.activate(SearchOptions.REGEX);
+
+		findReplaceLogic.performReplaceAll("(f)(o+)", "$2$1");
+		assertThat(textViewer.getDocument().get(), equalTo("oof bar oof bar oof"));
+		expectStatusIsReplaceAllWithCount(findReplaceLogic, 3);
+		assertThat(textViewer.getSelectedRange(), equalTo(new Point(16, 3)));
+
+		undoManager.undo();
+		assertThat(textViewer.getDocument().get(), equalTo("foo bar foo bar foo"));
+		assertThat(undoManager.undoable(), is(false));
+	}
+
+	@Test
+	public void testPerformReplaceAllWithEmptyMatches() {
+		TextViewer textViewer= setupTextViewer("foo\nbar");
+		IFindReplaceLogic findReplaceLogic= setupFindReplaceLogicObject(textViewer);
+		findReplaceLogic.activate(SearchOptions.REGEX);
+
+		findReplaceLogic.performReplaceAll("^", "#");
+		assertThat(textViewer.getDocument().get(), equalTo("#foo\n#bar"));
+		expectStatusIsReplaceAllWithCount(findReplaceLogic, 2);
+
+		textViewer.getDocument().set("ab");
+		findReplaceLogic.performReplaceAll("x*", "-");
+		assertThat(textViewer.getDocument().get(), equalTo("-a-b-"));
+		expectStatusIsReplaceAllWithCount(findReplaceLogic, 3);
+	}
+
 	@Test
 	public void testPerformSelectAndReplace() {
 		TextViewer textViewer= setupTextViewer("Hello<replace>World<replace>!");
@@ -16,6 +16,8 @@ package org.eclipse.ui.workbench.texteditor.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -23,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -35,6 +38,7 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 
+import org.eclipse.ui.internal.texteditor.DocumentWordIndex;
 import org.eclipse.ui.internal.texteditor.HippieCompletionEngine;
 
 /**
@@ -593,6 +597,139 @@ public class HippieCompletionTest {
 
 	}
 
+	/*
+	 * The word index follows the document changes while connected
+	 */
+	@Test
+	public void testWordIndex() throws Exception {
+		IDocument document= new Document("" +
+				"foo fooBar\n" +
+				"bar\n" +
+				"");
+		Pattern wordPattern= Pattern.compile("\\w+");
+		assertNull(DocumentWordIndex.getConnectedIndex(document, wordPattern));
+		DocumentWordIndex index= DocumentWordIndex.connect(document, wordPattern);
+		try {
+			assertSame(index, DocumentWordIndex.getConnectedIndex(document, wordPattern));
+			assertEquals(Arrays.asList("foo", "fooBar"), index.getWords("foo"));
+			assertTrue(index.hasCompletions("foo"));
+			assertFalse(index.hasCompletions("fooBar"));
+
+			document.replace(document.getLineOffset(1), 3, "fooBaz foo");
+			assertEquals(Arrays.asList("foo", "fooBar", "fooBaz"), index.getWords("foo"));
+			assertEquals(2, index.getFrequency("foo"));
+			assertEquals(0, index.getFrequency("bar"));
+
+			document.replace(0, 4, "");
+			assertEquals(1, index.getFrequency("foo"));
+			assertEquals(1, index.getFrequency("fooBar"));
+
+			document.set("bar baz");
+			assertEquals(Arrays.asList(), index.getWords("foo"));
+			assertEquals(Arrays.asList("bar", "baz"), index.getWords("ba"));
+		} finally {
+			index.disconnect();
+		}
+		assertNull(DocumentWordIndex.getConnectedIndex(document, wordPattern));
+	}
+
+	/*
+	 * The connected word index skips documents without completions, with the same results
+	 */
+	@Test
+	public void testCompletionsWithWordIndex() throws Exception {
+		ReadCountingDocument document= new ReadCountingDocument("bar baz\nfoo");
+		List<String> expectedFoo= fEngine.getCompletionsForward(document, "foo", 0, false);
+		List<String> expectedBa= fEngine.getCompletionsForward(document, "ba", 0, false);
+		assertEquals(Arrays.asList("r", "z"), expectedBa);
+		assertTrue(document.fReads > 0);
+
+		DocumentWordIndex index= HippieCompletionEngine.connectWordIndex(document);
+		try {
+			assertEquals(expectedBa, fEngine.getCompletionsForward(document, "ba", 0, false));
+
+			// the document is not scanned for a prefix without completions
+			document.fReads= 0;
+			assertEquals(expectedFoo, fEngine.getCompletionsForward(document, "foo", 0, false));
+			assertEquals(Arrays.asList(), fEngine.getCompletionsBackwards(document, "foo", document.getLength()));
+			assertEquals(0, document.fReads);
+
+			document.replace(document.getLength(), 0, " fooBar");
+			assertEquals(Arrays.asList("Bar"), fEngine.getCompletionsForward(document, "foo", 0, false));
+			assertEquals(Arrays.asList("Bar"), fEngine.getCompletionsBackwards(document, "foo", document.getLength()));
+		} finally {
+			index.disconnect();
+		}
+	}
+
+	/*
+	 * The completions of other documents are served from their connected word index
+	 */
+	@Test
+	public void testOtherDocumentCompletionsFromWordIndex() throws Exception {
+		IDocument openDocument= new Document("ba");
+		ReadCountingDocument otherDocument= new ReadCountingDocument("bat bar\nfoo bar bad");
+		List<IDocument> otherDocuments= Arrays.asList(otherDocument);
+		assertEquals(Arrays.asList("t", "r", "r", "d", ""),
+				toList(fEngine.getMultipleDocumentsIterator(openDocument, otherDocuments, "ba", 2)));
+
+		DocumentWordIndex index= HippieCompletionEngine.connectWordIndex(otherDocument);
+		try {
+			assertEquals(Arrays.asList("d", "r", "t", ""),
+					toList(fEngine.getMultipleDocumentsIterator(openDocument, otherDocuments, "ba", 2)));
+
+			// once indexed, the other document is not scanned anymore
+			otherDocument.fReads= 0;
+			assertEquals(Arrays.asList("d", "r", "t", ""),
+					toList(fEngine.getMultipleDocumentsIterator(openDocument, otherDocuments, "ba", 2)));
+			assertEquals(Arrays.asList("o", ""),
+					toList(fEngine.getMultipleDocumentsIterator(openDocument, otherDocuments, "fo", 2)));
+			assertEquals(0, otherDocument.fReads);
+
+			otherDocument.replace(0, 0, "base ");
+			assertEquals(Arrays.asList("d", "r", "se", "t", ""),
+					toList(fEngine.getMultipleDocumentsIterator(openDocument, otherDocuments, "ba", 2)));
+		} finally {
+			index.disconnect();
+		}
+	}
+
+	private static List<String> toList(Iterator<String> iterator) {
+		List<String> list= new ArrayList<>();
+		iterator.forEachRemaining(list::add);
+		return list;
+	}
+
+	/**
+	 * A document counting the reads of its content.
+	 */
+	private static final class ReadCountingDocument extends Document {
+
+		int fReads;
+
+		ReadCountingDocument(String content) {
+			super(content);
+		}
+
+		@Override
+		public char getChar(int pos) throws BadLocationException {
+			fReads++;
+			return super.getChar(pos);
+		}
+
+		@Override
+		public String get(int pos, int length) throws BadLocationException {
+			fReads++;
+			return super.get(pos, length);
+		}
+
+		@Override
+		public String get() {
+			fReads++;
+			return super.get();
+		}
+	}
+
 	private List<String> createSuggestions(String prefix, IDocument doc) {
 		return createSuggestions(prefix, Arrays.asList(new IDocument[]{doc}));
 	}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jface.text.Document;
+
+import org.eclipse.compare.rangedifferencer.AbstractRangeDifferenceFactory;
+import org.eclipse.compare.rangedifferencer.RangeDifference;
+import org.eclipse.compare.rangedifferencer.RangeDifferencer;
+
+import org.eclipse.ui.internal.texteditor.quickdiff.PatienceLineDiffer;
+import org.eclipse.ui.internal.texteditor.quickdiff.QuickDiffRangeDifference;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DJBHashFunction;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocEquivalenceComparator;
+import org.eclipse.ui.internal.texteditor.quickdiff.compare.equivalence.DocumentEquivalenceClass;
+
+/**
+ * Tests that the {@link PatienceLineDiffer} finds the same differences as the
+ * {@link RangeDifferencer} comparing the whole documents.
+ */
+public class PatienceLineDifferTest {
+
+	private static final AbstractRangeDifferenceFactory FACTORY= new AbstractRangeDifferenceFactory() {
+		@Override
+		protected RangeDifference createRangeDifference() {
+			return new QuickDiffRangeDifference();
+		}
+	};
+
+	@Test
+	public void testCommonPrefixAndSuffix() {
+		List<String> left= lines("line", 0, 30);
+		List<String> right= new ArrayList<>(left.subList(0, 10));
+		right.add("changed");
+		right.addAll(left.subList(20, 30));
+
+		assertSameDifferences(left, right);
+	}
+
+	@Test
+	public void testAnchors() {
+		List<String> left= lines("line", 0, 40);
+		List<String> right= new ArrayList<>(left);
+		right.set(39, "last");
+		right.remove(25);
+		right.add(20, "inserted");
+		right.set(10, "changed");
+		right.set(0, "first");
+
+		assertSameDifferences(left, right);
+	}
+
+	@Test
+	public void testMovedLines() {
+		List<String> left= lines("line", 0, 40);
+		List<String> right= new ArrayList<>(left);
+		right.add(30, right.remove(5));
+		right.add(2, right.remove(35));
+
+		assertSameDifferences(left, right);
+	}
+
+	@Test
+	public void testNoAnchors() {
+		// "b" occurs once on the left but twice on the right, the other lines do not occur on both sides
+		List<String> left= new ArrayList<>();
+		left.add("x");
+		left.add("b");
+		left.addAll(repeat("a", 16));
+		left.add("y");
+		List<String> right= new ArrayList<>();
+		right.add("z");
+		right.add("b");
+		right.addAll(repeat("a", 14));
+		right.add("b");
+		right.add("w");
+
+		assertSameDifferences(left, right);
+	}
+
+	@Test
+	public void testEmptyDocument() {
+		assertSameDifferences(List.of(), List.of());
+		assertSameDifferences(List.of(), lines("line", 0, 20));
+		assertSameDifferences(lines("line", 0, 20), List.of());
+	}
+
+	@Test
+	public void testIdenticalDocuments() {
+		assertSameDifferences(lines("line", 0, 20), lines("line", 0, 20));
+	}
+
+	@Test
+	public void testCancellation() {
+		List<String> left= lines("line", 0, 40);
+		List<String> right= lines("line", 1, 41);
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		monitor.setCanceled(true);
+
+		assertThrows(OperationCanceledException.class, () -> PatienceLineDiffer.findRanges(FACTORY, monitor, equivalenceClass(left), equivalenceClass(right)));
+	}
+
+	private static void assertSameDifferences(List<String> left, List<String> right) {
+		DocumentEquivalenceClass leftEquivalent= equivalenceClass(left);
+		DocumentEquivalenceClass rightEquivalent= equivalenceClass(right);
+		RangeDifference[] expected= RangeDifferencer.findRanges(FACTORY, null, new DocEquivalenceComparator(leftEquivalent, null), new DocEquivalenceComparator(rightEquivalent, null));
+		List<QuickDiffRangeDifference> actual= PatienceLineDiffer.findRanges(FACTORY, null, leftEquivalent, rightEquivalent);
+
+		assertEquals(toString(List.of(expected)), toString(actual));
+	}
+
+	private static String toString(List<? extends RangeDifference> differences) {
+		StringBuilder builder= new StringBuilder();
+		for (RangeDifference difference : differences) {
+			builder.append(difference.kind() == RangeDifference.NOCHANGE ? "unchanged" : "changed");
+			builder.append(" left ").append(difference.leftStart()).append('+').append(difference.leftLength());
+			builder.append(" right ").append(difference.rightStart()).append('+').append(difference.rightLength());
+			builder.append('\n');
+		}
+		return builder.toString();
+	}
+
+	private static DocumentEquivalenceClass equivalenceClass(List<String> lines) {
+		return new DocumentEquivalenceClass(new Document(String.join("\n", lines)), new DJBHashFunction());
+	}
+
+	private static List<String> lines(String prefix, int from, int to) {
+		List<String> lines= new ArrayList<>();
+		for (int i= from; i < to; i++)
+			lines.add(prefix + i);
+		return lines;
+	}
+
+	private static List<String> repeat(String line, int count) {
+		List<String> lines= new ArrayList<>();
+		for (int i= 0; i < count; i++)
+			lines.add(line);
+		return lines;
+	}
+}